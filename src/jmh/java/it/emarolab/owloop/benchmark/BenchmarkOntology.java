@@ -0,0 +1,68 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.syntheticOntology.SyntheticOntologyGenerator;
+
+/**
+ * It generates the ontologies used by the benchmarks, through the {@link SyntheticOntologyGenerator},
+ * and loads them in an {@link OWLReferences}.
+ * <br>
+ * By default, the ontology has {@link #CLASSES} sub classes of {@code Entity}, and the individuals {@code Individual-i}.
+ * Each individual belongs to one class, and it has one object and one data property assertion.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.BenchmarkOntology <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class BenchmarkOntology {
+
+    public static final String IRI_PATH = SyntheticOntologyGenerator.IRI_PATH;
+    public static final int CLASSES = 10;
+    public static final long SEED = 2019;
+
+    /**
+     * @param i the index of an individual.
+     * @return the name of the individual with the given index.
+     */
+    public static String individualName(int i){
+        return SyntheticOntologyGenerator.individualName( i);
+    }
+
+    /**
+     * @param individuals the number of individuals in the ontology.
+     * @return the generator of the default benchmark ontology, which can be further parametrised.
+     */
+    public static SyntheticOntologyGenerator generator(int individuals){
+        SyntheticOntologyGenerator generator = new SyntheticOntologyGenerator( SEED);
+        generator.setClasses( CLASSES);
+        generator.setIndividuals( individuals);
+        return generator;
+    }
+
+    /**
+     * Generates the default ontology in a temporary file, loads it and synchronises its reasoner.
+     * @param individuals the number of individuals in the ontology.
+     * @return the loaded ontology.
+     * @throws Exception if the ontology cannot be created.
+     */
+    public static OWLReferences load(int individuals) throws Exception {
+        return load( generator( individuals));
+    }
+
+    /**
+     * Generates an ontology in a temporary file, loads it and synchronises its reasoner.
+     * @param generator the parameters of the ontology to generate.
+     * @return the loaded ontology.
+     * @throws Exception if the ontology cannot be created.
+     */
+    public static OWLReferences load(SyntheticOntologyGenerator generator) throws Exception {
+        Axiom.Descriptor.OntologyReference.activateAMORlogging( false);
+        return generator.load( "benchmark-" + generator.getIndividuals() + "-" + System.nanoTime());
+    }
+}
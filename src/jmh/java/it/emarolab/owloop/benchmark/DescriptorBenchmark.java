@@ -0,0 +1,92 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * It measures the main synchronisation paths of the descriptors on an ontology with {@code individuals} individuals
+ * (see {@link BenchmarkOntology}), i.e.:
+ * <ul>
+ * <li>{@link FullIndividualDesc#readAxioms()} of an individual (a different one at each invocation),</li>
+ * <li>{@link FullIndividualDesc#writeAxioms()} of an individual whose type is alternatively added and removed,</li>
+ * <li>{@link FullClassDesc#readAxioms()} of a class, which has {@code individuals / 10} instances,</li>
+ * <li>{@link FullIndividualDesc#writeAxiomsReasonReadAxioms()} of an individual whose type is alternatively added and removed.</li>
+ * </ul>
+ * Run it with: {@code gradle jmh -PjmhInclude=DescriptorBenchmark}, and select the sizes with, for instance,
+ * {@code gradle jmh -PjmhArgs="DescriptorBenchmark -p individuals=100,1000"}.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.DescriptorBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MICROSECONDS)
+@Warmup( iterations = 3, time = 1)
+@Measurement( iterations = 5, time = 1)
+@Fork( 1)
+public class DescriptorBenchmark {
+
+    private static final int DESCRIPTORS = 100; // the number of individual descriptors used in rotation
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int individuals;
+
+    private OWLReferences ontology;
+    private FullIndividualDesc[] descriptors;
+    private FullIndividualDesc written;
+    private FullClassDesc classDescriptor;
+    private int next = 0;
+    private boolean toAdd = true;
+
+    @Setup( Level.Trial)
+    public void setUp() throws Exception {
+        ontology = BenchmarkOntology.load( individuals);
+        descriptors = new FullIndividualDesc[ Math.min( DESCRIPTORS, individuals)];
+        for ( int i = 0; i < descriptors.length; i++)
+            descriptors[ i] = new FullIndividualDesc( BenchmarkOntology.individualName( i * ( individuals / descriptors.length)), ontology);
+        written = new FullIndividualDesc( BenchmarkOntology.individualName( 0), ontology);
+        written.readAxioms();
+        classDescriptor = new FullClassDesc( "Class-0", ontology);
+    }
+
+    // alternatively adds and removes a type to the written individual
+    private void changeWritten(){
+        if ( toAdd)
+            written.addTypeIndividual( "Entity-Written");
+        else written.removeTypeIndividual( "Entity-Written");
+        toAdd = ! toAdd;
+    }
+
+    @Benchmark
+    public Object individualReadAxioms(){
+        next = ( next + 1) % descriptors.length;
+        return descriptors[ next].readAxioms();
+    }
+
+    @Benchmark
+    public Object individualWriteAxioms(){
+        changeWritten();
+        return written.writeAxioms();
+    }
+
+    @Benchmark
+    public Object classReadAxioms(){
+        return classDescriptor.readAxioms();
+    }
+
+    @Benchmark
+    public Object individualWriteAxiomsReasonReadAxioms(){
+        changeWritten();
+        return written.writeAxiomsReasonReadAxioms();
+    }
+}
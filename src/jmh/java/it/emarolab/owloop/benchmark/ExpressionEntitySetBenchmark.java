@@ -0,0 +1,65 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinks;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * It measures {@link DescriptorEntitySet.ExpressionEntitySetBase#add(it.emarolab.owloop.core.Axiom.ExpressionEntity)}
+ * while filling an {@link ObjectLinkSet} with {@code links} object properties,
+ * each of which is added twice in order to also merge its values.
+ * Run it with: {@code gradle jmh -PjmhInclude=ExpressionEntitySetBenchmark}.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.ExpressionEntitySetBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MICROSECONDS)
+@Warmup( iterations = 3, time = 1)
+@Measurement( iterations = 5, time = 1)
+@Fork( 1)
+public class ExpressionEntitySetBenchmark {
+
+    private static final String IRI_PATH = "http://www.emarolab.it/owloop/benchmark#";
+
+    @Param({"10", "100", "1000", "10000"})
+    public int links;
+
+    private ObjectLinks[] first, second;
+
+    @Setup
+    public void setUp(){
+        OWLDataFactory factory = OWLManager.getOWLDataFactory();
+        first = new ObjectLinks[ links];
+        second = new ObjectLinks[ links];
+        for ( int i = 0; i < links; i++){
+            first[ i] = new ObjectLinks( factory.getOWLObjectProperty( IRI.create( IRI_PATH + "property" + i)));
+            first[ i].getValues().add( factory.getOWLNamedIndividual( IRI.create( IRI_PATH + "individual" + i)));
+            second[ i] = new ObjectLinks( factory.getOWLObjectProperty( IRI.create( IRI_PATH + "property" + i)));
+            second[ i].getValues().add( factory.getOWLNamedIndividual( IRI.create( IRI_PATH + "individual" + ( i + 1))));
+        }
+    }
+
+    @Benchmark
+    public Object add(){
+        ObjectLinkSet set = new ObjectLinkSet();
+        for ( ObjectLinks l : first)
+            set.add( new ObjectLinks( l.getExpression(), l.getValues()));
+        for ( ObjectLinks l : second) // merges the values
+            set.add( new ObjectLinks( l.getExpression(), l.getValues()));
+        return set;
+    }
+}
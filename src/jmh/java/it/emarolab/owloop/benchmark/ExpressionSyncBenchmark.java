@@ -0,0 +1,84 @@
+package it.emarolab.owloop.benchmark;
+
+import it.emarolab.owloop.core.NestedLoopExpressionSync;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinks;
+import org.openjdk.jmh.annotations.*;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * It compares the expression-indexed synchronisation of {@link it.emarolab.owloop.core.Axiom.ExpressionEntitySet}
+ * against the previous nested-loop implementation (i.e., {@link NestedLoopExpressionSync}),
+ * for {@link ObjectLinkSet}s with an increasing number of links.
+ * <br>
+ * The internal and the queried sets share three quarters of their object properties,
+ * and each shared property has one value that differs.
+ * Run it with: {@code gradle jmh -PjmhInclude=ExpressionSyncBenchmark}.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.benchmark.ExpressionSyncBenchmark <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+@State( Scope.Benchmark)
+@BenchmarkMode( Mode.AverageTime)
+@OutputTimeUnit( TimeUnit.MICROSECONDS)
+@Warmup( iterations = 3, time = 1)
+@Measurement( iterations = 5, time = 1)
+@Fork( 1)
+public class ExpressionSyncBenchmark {
+
+    private static final String IRI_PATH = "http://www.emarolab.it/owloop/benchmark#";
+    private static final int VALUES = 3;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int links;
+
+    private ObjectLinkSet internal, queried;
+
+    @Setup
+    public void setUp(){
+        OWLDataFactory factory = OWLManager.getOWLDataFactory();
+        internal = new ObjectLinkSet( links);
+        queried = new ObjectLinkSet( links);
+        int shift = links / 4;
+        for ( int i = 0; i < links; i++){
+            ObjectLinks internalLinks = new ObjectLinks( factory.getOWLObjectProperty( IRI.create( IRI_PATH + "property" + i)));
+            ObjectLinks queriedLinks = new ObjectLinks( factory.getOWLObjectProperty( IRI.create( IRI_PATH + "property" + ( i + shift))));
+            for ( int j = 0; j < VALUES; j++) {
+                internalLinks.getValues().add( factory.getOWLNamedIndividual( IRI.create( IRI_PATH + "individual" + j)));
+                queriedLinks.getValues().add( factory.getOWLNamedIndividual( IRI.create( IRI_PATH + "individual" + ( j + 1))));
+            }
+            internal.add( internalLinks);
+            queried.add( queriedLinks);
+        }
+    }
+
+    @Benchmark
+    public Object indexedWrite(){
+        return internal.synchroniseTo( queried);
+    }
+
+    @Benchmark
+    public Object indexedRead(){
+        return internal.synchroniseFrom( queried);
+    }
+
+    @Benchmark
+    public Object nestedLoopWrite(){
+        return new NestedLoopExpressionSync<>( internal, queried);
+    }
+
+    @Benchmark
+    public Object nestedLoopRead(){
+        return new NestedLoopExpressionSync<>( queried, internal);
+    }
+}
@@ -3,6 +3,7 @@ package it.emarolab.owloop.core;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This interface is a part of the core of OWLOOP architecture.
@@ -91,6 +92,37 @@ public interface Axiom {
          */
         void setSingleton(boolean singleton);
 
+        /**
+         * Describes whether this EntitySet has been changed after its last synchronisation with the OWL
+         * representation (i.e., {@link #synchroniseFrom(EntitySet)} or {@link #synchroniseTo(EntitySet)}).
+         * If not, {@link Descriptor#writeAxioms()} can skip querying the OWL representation, since there is nothing to write.
+         * By default, this EntitySet is always considered as modified.
+         * @return (false) if this EntitySet is equal to the OWL representation of its last synchronisation, (true) otherwise.
+         */
+        default boolean isModified(){
+            return true;
+        }
+
+        /**
+         * Remembers the version of the OWL representation at which this EntitySet has been read.
+         * By default, it does nothing.
+         * @param version the version of the OWL representation before reading it, negative if not known.
+         */
+        default void setReadVersion(long version){
+        }
+
+        /**
+         * Describes whether this EntitySet has been read at the given version of the OWL representation,
+         * and it has not been modified afterwards. If yes, {@link Descriptor#readAxioms()} can skip querying
+         * the OWL representation, since it would not change this EntitySet.
+         * By default, this EntitySet is always considered as not read.
+         * @param version the current version of the OWL representation.
+         * @return (true) if reading this EntitySet again would not change it, (false) otherwise.
+         */
+        default boolean isReadAt(long version){
+            return false;
+        }
+
         /**
          * This method is used during {@link Descriptor#writeAxioms()} and finds
          * the differences between the actual state of EntitySet and the one
@@ -104,7 +136,11 @@ public interface Axiom {
          */
         default SynchronisationIntent<Y> synchroniseTo(EntitySet<Y> queried){
             // synchronise to ontology (write)
-            return new SynchronisationIntent<>( this, queried);
+            Metrics metrics = Metrics.get();
+            long start = metrics.start();
+            SynchronisationIntent<Y> intent = new SynchronisationIntent<>( this, queried);
+            metrics.stop( Metrics.Phase.DIFF, getClass(), start);
+            return intent;
         }
         /**
          * This method is used during {@link Descriptor#readAxioms()} and finds
@@ -119,7 +155,11 @@ public interface Axiom {
          */
         default SynchronisationIntent<Y> synchroniseFrom(EntitySet<Y> queried){
             // synchronise from ontology (read)
-            return new SynchronisationIntent<>( queried, this);
+            Metrics metrics = Metrics.get();
+            long start = metrics.start();
+            SynchronisationIntent<Y> intent = new SynchronisationIntent<>( queried, this);
+            metrics.stop( Metrics.Phase.DIFF, getClass(), start);
+            return intent;
         }
 
         /**
@@ -337,13 +377,21 @@ public interface Axiom {
         @Override // see documentation in the super method
         default SynchronisationIntent<F> synchroniseFrom(EntitySet<F> queried) {
             // synchronise from ontology (read)
-            return new SynchroniseContainedIntent<F,Y>().expressionAxiomsSync( queried, this); // reading
+            Metrics metrics = Metrics.get();
+            long start = metrics.start();
+            SynchronisationIntent<F> intent = new SynchroniseContainedIntent<F,Y>().expressionAxiomsSync( queried, this); // reading
+            metrics.stop( Metrics.Phase.DIFF, getClass(), start);
+            return intent;
         }
 
         @Override // see documentation in the super method
         default SynchronisationIntent<F> synchroniseTo(EntitySet<F> queried) {
             // synchronise to ontology (write)
-            return new SynchroniseContainedIntent<F,Y>().expressionAxiomsSync( this, queried); // writing
+            Metrics metrics = Metrics.get();
+            long start = metrics.start();
+            SynchronisationIntent<F> intent = new SynchroniseContainedIntent<F,Y>().expressionAxiomsSync( this, queried); // writing
+            metrics.stop( Metrics.Phase.DIFF, getClass(), start);
+            return intent;
         }
 
 
@@ -378,42 +426,42 @@ public interface Axiom {
                     return sync;
                 }
 
-                for (F b1 : a1) {
-                    boolean found = false;
-                    for (F b2 : a2) {
-                        // you may want to add here something to sync all object/data properties (now it sync only the value of the property described in the internal state of a description )
-                        if (b1.getExpression().equals(b2.getExpression())) {
-                            // sync common values between a1 and a2
-                            sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), b2.getValues()), b1);
-                            found = true;
-                            break;
-                        }
-                        if ( checkSingletton( a2, b2))
-                            break;
-                    }
+                // index both sets by expression (keeping the first element found, as a linear search would),
+                // so that each element is matched in constant time instead of scanning the other set.
+                Map<Object,F> indexed1 = indexByExpression( a1, false);
+                Map<Object,F> indexed2 = indexByExpression( a2, true); // only the first element of a singleton is matched
 
-                    // add in case of writing (remove in case of reading) where a1 contains elements not in a2
-                    if ( ! found)
+                for (F b1 : a1) {
+                    // you may want to add here something to sync all object/data properties (now it sync only the value of the property described in the internal state of a description )
+                    F b2 = indexed2.get( b1.getExpression());
+                    if ( b2 != null)
+                        // sync common values between a1 and a2
+                        sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), b2.getValues()), b1);
+                    else // add in case of writing (remove in case of reading) where a1 contains elements not in a2
                         sync.addSynchronised(new SynchronisationIntent<>(b1.getValues(), null), b1);
                     if ( checkSingletton( a1, b1))
                         break;
                 }
 
                 for (F b2 : a2) {
-                    boolean found = false;
-                    for (F b1 : a1) {
-                        if (b1.getExpression().equals(b2.getExpression())) {
-                            found = true;
-                            break;
-                        }
-                    }
                     // add in case of reading (remove in case of writing) where a2 contains element not in a1
-                    if ( !found)
+                    if ( ! indexed1.containsKey( b2.getExpression()))
                         sync.addSynchronised(new SynchronisationIntent<>(null, b2.getValues()), b2);
                 }
                 return sync;
             }
 
+            // maps each expression of the set to the first element that has it.
+            private Map<Object,F> indexByExpression( EntitySet<F> a, boolean considerSingleton){
+                Map<Object,F> index = new HashMap<>( Math.max( 16, (int) (a.size() / .75f) + 1));
+                for (F b : a) {
+                    index.putIfAbsent( b.getExpression(), b);
+                    if ( considerSingleton && checkSingletton( a, b))
+                        break;
+                }
+                return index;
+            }
+
 
             private boolean checkSingletton( EntitySet<F> a, F b){
                 if (a.isSingleton()) {
@@ -569,6 +617,33 @@ public interface Axiom {
          */
         default List< MappingIntent> writeAxiomsReasonReadAxioms(){return writeAxiomsReasonReadAxioms(true);}
 
+        /**
+         * It performs {@link #readAxioms()} asynchronously through the {@link OntologyExecutor},
+         * which serialises all the operations on the same ontology.
+         * @return a future completed with the changes made in the {@link EntitySet} during the reading.
+         */
+        default CompletableFuture<List<MappingIntent>> readAxiomsAsync(){
+            return OntologyExecutor.submit( getOntologyReference(), this::readAxioms);
+        }
+
+        /**
+         * It performs {@link #writeAxioms()} asynchronously through the {@link OntologyExecutor},
+         * which serialises all the operations on the same ontology.
+         * @return a future completed with the changes made in the OWL ontology during the writing.
+         */
+        default CompletableFuture<List<MappingIntent>> writeAxiomsAsync(){
+            return OntologyExecutor.submit( getOntologyReference(), this::writeAxioms);
+        }
+
+        /**
+         * It performs {@link #writeAxiomsReasonReadAxioms()} asynchronously through the {@link OntologyExecutor},
+         * which serialises all the operations on the same ontology.
+         * @return a future completed with the changes made by the {@link #writeAxioms()} and {@link #readAxioms()} operations.
+         */
+        default CompletableFuture<List<MappingIntent>> writeAxiomsReasonReadAxiomsAsync(){
+            return OntologyExecutor.submit( getOntologyReference(), this::writeAxiomsReasonReadAxioms);
+        }
+
         /**
          * It instantiates a lists of {@link MappingIntent} with the
          * parameters as {@link MappingIntent#getOntologyChanges()}.
@@ -611,6 +686,30 @@ public interface Axiom {
             return intents;
         }
 
+        /**
+         * It behaves like {@link #getChangingIntent(EntitySet.SynchronisationIntent, Object)}, and it also
+         * records in {@link Metrics#get()} the time spent to apply the changes in the ontology
+         * (as {@link Metrics.Phase#APPLY}) and their number (as {@link Metrics.Counter#ONTOLOGY_CHANGES}).
+         *
+         * @param sync the results of a call to {@link EntitySet#synchroniseTo(EntitySet)}.
+         * @param changes the ontology changes made during writing.
+         * @param kind the kind of expression that has been written.
+         * @param start the value of {@link Metrics#start()} before applying the changes.
+         *
+         * @param <C> The `Class` representing the changes
+         *
+         * @return the changes based on the input parameters.
+         */
+        default <C> List<MappingIntent> getChangingIntent(EntitySet.SynchronisationIntent sync, C changes, Object kind, long start){ // write
+            Metrics metrics = Metrics.get();
+            if ( metrics.isEnabled()) {
+                metrics.stop( Metrics.Phase.APPLY, kind, start);
+                if ( changes instanceof Collection)
+                    metrics.count( Metrics.Counter.ONTOLOGY_CHANGES, kind, ((Collection<?>) changes).size());
+            }
+            return getChangingIntent( sync, changes);
+        }
+
         /**
          * This method calls: {@link it.emarolab.amor.owlDebugger.Logger#setPrintOnConsole(Boolean)}
          * with a given flag parameter.
@@ -620,6 +719,36 @@ public interface Axiom {
             it.emarolab.amor.owlDebugger.Logger.setPrintOnConsole( booleanFlag);
         }
 
+        /**
+         * The depth for the {@code buildXxxLazily()} methods that does not bound the number of lazily built levels.
+         */
+        int UNBOUNDED_DEPTH = -1;
+
+        /**
+         * Returns the number of levels that can be lazily built starting from {@code this} descriptor
+         * through the {@code buildXxxLazily()} methods.
+         * @return {@link #UNBOUNDED_DEPTH}, unless {@code this} is a {@link LazyDescriptor} built with a bounded depth.
+         */
+        default int getLazyDepth(){
+            return UNBOUNDED_DEPTH;
+        }
+
+        /**
+         * It is used by the {@code buildXxxLazily()} methods to initialise a newly built descriptor.
+         * If it is a {@link LazyDescriptor}, its reading is postponed through {@link LazyDescriptor#readAxiomsLazily(int)}
+         * with a depth decreased by one, otherwise its axioms are read immediately.
+         * @param built the new descriptor.
+         * @param depth the number of levels that can be lazily built from the descriptor that is building {@code built}.
+         * @param <D> the type of the built descriptor.
+         * @return the given {@code built} descriptor.
+         */
+        static <D extends Descriptor<?,?>> D buildLazily(D built, int depth){
+            if ( built instanceof LazyDescriptor)
+                ((LazyDescriptor<?,?>) built).readAxiomsLazily( depth < 0 ? depth : depth - 1);
+            else built.readAxioms();
+            return built;
+        }
+
         /**
          * To hide a commonly used aMOR class behind OWLOOP API.
          * It provides methods that allow to instantiate an ontology-reference object.
@@ -641,6 +770,43 @@ public interface Axiom {
         }
     }
 
+    /**
+     * The interface of a {@link Descriptor} that can postpone its {@link #readAxioms()}.
+     * <p>
+     *     A lazy descriptor is grounded as soon as it is created (e.g., by the {@code buildXxxLazily()} methods),
+     *     but it reads its axioms only the first time that its state is accessed. For this purpose,
+     *     all the methods that give access to the {@link EntitySet}s of the descriptor
+     *     (e.g., {@code getSubClasses()}) should call {@link #readPostponedAxioms()} before returning.
+     *     <br>
+     *     In this way, the traversal of a graph of descriptors (e.g., a taxonomy of classes) costs
+     *     only for the descriptors that are actually visited. The number of levels that can be lazily
+     *     built is bounded by {@link #getLazyDepth()}.
+     * </p>
+     *
+     * @param <O> the ontology in which the axioms will be applied.
+     * @param <J> the {@link Ground} for this descriptor.
+     */
+    interface LazyDescriptor<O,J>
+            extends Descriptor<O,J> {
+
+        /**
+         * Postpones the {@link #readAxioms()} until the state of {@code this} descriptor is accessed.
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor,
+         *              or {@link #UNBOUNDED_DEPTH}.
+         */
+        void readAxiomsLazily(int depth);
+
+        /**
+         * @return {@code true} if the axioms have not been read yet after {@link #readAxiomsLazily(int)}.
+         */
+        boolean isReadingPostponed();
+
+        /**
+         * It calls {@link #readAxioms()} if it has been postponed, and it does nothing otherwise.
+         */
+        void readPostponedAxioms();
+    }
+
     /**
      * The class to track synchronisation changes.
      * <p>
@@ -79,6 +79,31 @@ public interface Class<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildEquivalentClasses()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildEquivalentClassesLazily(int)}.
+         */
+        default Set<D> buildEquivalentClassesLazily(){
+            return buildEquivalentClassesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildEquivalentClasses()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildEquivalentClassesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getEquivalentClasses())
+                out.add( Descriptor.buildLazily( getEquivalentClassDescriptor( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildEquivalentClasses()} and
          * its purpose is to instantiate a new {@link Class} to represent
@@ -185,6 +210,31 @@ public interface Class<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildDisjointClasses()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildDisjointClassesLazily(int)}.
+         */
+        default Set<D> buildDisjointClassesLazily(){
+            return buildDisjointClassesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildDisjointClasses()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildDisjointClassesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getDisjointClasses())
+                out.add( Descriptor.buildLazily( getDisjointClassDescriptor( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildDisjointClasses()} and
          * its purpose is to instantiate a new {@link Class} to represent
@@ -290,6 +340,31 @@ public interface Class<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildSubClasses()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildSubClassesLazily(int)}.
+         */
+        default Set<D> buildSubClassesLazily(){
+            return buildSubClassesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildSubClasses()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildSubClassesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getSubClasses())
+                out.add( Descriptor.buildLazily( getSubClassDescriptor( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildSubClasses()} and
          * its purpose is to instantiate a new {@link Class} to represent
@@ -395,6 +470,31 @@ public interface Class<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildSuperClasses()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildSuperClassesLazily(int)}.
+         */
+        default Set<D> buildSuperClassesLazily(){
+            return buildSuperClassesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildSuperClasses()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildSuperClassesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getSuperClasses())
+                out.add( Descriptor.buildLazily( getSuperClassDescriptor( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildSuperClasses()} and
          * its purpose is to instantiate a new {@link Class} to represent
@@ -501,6 +601,31 @@ public interface Class<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildIndividuals()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildIndividualsLazily(int)}.
+         */
+        default Set<D> buildIndividualsLazily(){
+            return buildIndividualsLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildIndividuals()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildIndividualsLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( Y cl : getIndividuals())
+                out.add( Descriptor.buildLazily( getIndividualDescriptor( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildIndividuals()} and
          * its purpose is to instantiate a new {@link Individual} to represent
@@ -17,6 +17,7 @@ import java.util.Set;
  * <li><b>{@link Super}</b>:        this expression describes that a DataProperty is super-sumes another DataProperty.</li>
  * <li><b>{@link Domain}</b>:       this expression describes the domain restrictions of a DataProperty.</li>
  * <li><b>{@link Range}</b>:        this expression describes the range restrictions of a DataProperty.</li>
+ * <li><b>{@link Characteristic}</b>: this expression describes the characteristics of a DataProperty (e.g., functional).</li>
  * </ul>
  *
  * <p>
@@ -89,6 +90,31 @@ public interface DataProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildEquivalentDataProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildEquivalentDataPropertiesLazily(int)}.
+         */
+        default Set<D> buildEquivalentDataPropertiesLazily(){
+            return buildEquivalentDataPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildEquivalentDataProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildEquivalentDataPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getEquivalentDataProperties())
+                out.add( Descriptor.buildLazily( getNewEquivalentDataProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildEquivalentDataProperties()} and
          * its purpose is to instantiate a new {@link DataProperty} to represent
@@ -187,6 +213,31 @@ public interface DataProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildDisjointDataProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildDisjointDataPropertiesLazily(int)}.
+         */
+        default Set<D> buildDisjointDataPropertiesLazily(){
+            return buildDisjointDataPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildDisjointDataProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildDisjointDataPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getDisjointDataProperties())
+                out.add( Descriptor.buildLazily( getNewDisjointDataProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildDisjointDataProperties()} and
          * its purpose is to instantiate a new {@link DataProperty} to represent
@@ -292,6 +343,31 @@ public interface DataProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildSubDataProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildSubDataPropertiesLazily(int)}.
+         */
+        default Set<D> buildSubDataPropertiesLazily(){
+            return buildSubDataPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildSubDataProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildSubDataPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getSubDataProperties())
+                out.add( Descriptor.buildLazily( getNewSubDataProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildSubDataProperties()} and
          * its purpose is to instantiate a new {@link DataProperty} to represent
@@ -395,6 +471,31 @@ public interface DataProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildSuperDataProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildSuperDataPropertiesLazily(int)}.
+         */
+        default Set<D> buildSuperDataPropertiesLazily(){
+            return buildSuperDataPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildSuperDataProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildSuperDataPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getSuperDataProperties())
+                out.add( Descriptor.buildLazily( getNewSuperDataProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildSuperDataProperties()} and
          * its purpose is to instantiate a new {@link DataProperty} to represent
@@ -638,4 +739,82 @@ public interface DataProperty<O,J>
             }
         }
     }
+
+    /**
+     * Implementation of this interface enables a {@link DataProperty} to have the {@link Characteristic} expression.<p>
+     *
+     * This descriptor synchronises the characteristics of the grounded data property
+     * (i.e., functional) as a set, which is written with the other expressions through {@link #writeAxioms()}.
+     * Therefore, the characteristic setters (e.g., {@link #setFunctional()}) only change {@link #getCharacteristics()}.
+     *
+     * @param <O> the type of ontology in which the axioms for properties will be applied.
+     * @param <J> the type of the described property.
+     * @param <Y> the type of characteristic for the {@link EntitySet} managed by this {@link Descriptor}.
+     */
+    interface Characteristic<O,J,Y>
+            extends DataProperty<O,J>{
+
+        @Override // see documentation on Axiom.descriptor.readExpressionAxioms
+        default List<MappingIntent> readAxioms(){
+            try {
+                EntitySet.SynchronisationIntent<Y> from = synchroniseCharacteristicsFromExpressionAxioms();
+                if( from != null) {
+                    getCharacteristics().addAll(from.getToAdd());
+                    getCharacteristics().removeAll(from.getToRemove());
+                }
+                return getIntent(from);
+            } catch (Exception e){
+                e.printStackTrace();
+                return getIntent( null);
+            }
+        }
+
+        /**
+         * Returns the {@link EntitySet} that describes all the characteristics of
+         * the described property; from a no OOP point of view.
+         * @return the characteristics of {@code this} grounded data property.
+         */
+        EntitySet<Y> getCharacteristics();
+
+        /**
+         * Queries to the OWL representation for the characteristics of {@code this} data property.
+         * @return a new {@link EntitySet} contained the characteristics of {@link #getInstance()},
+         * into the OWL structure.
+         */
+        EntitySet<Y> queryCharacteristics();
+
+        /**
+         * It calls {@link EntitySet#synchroniseTo(EntitySet)} with {@link #queryCharacteristics()}
+         * as input parameter. This computes the changes to be performed in the OWL representation
+         * for synchronise it with respect to {@link #getCharacteristics()}. This should
+         * be done by {@link #writeAxioms()}.
+         * @return the changes to be done to synchronise {@code this} structure with
+         * the characteristics of {@link #getInstance()}; to the OWL representation.
+         */
+        default EntitySet.SynchronisationIntent<Y> synchroniseCharacteristicsToExpressionAxioms(){
+            try {
+                return getCharacteristics().synchroniseTo( queryCharacteristics());
+            } catch ( Exception e){
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        /**
+         * It calls {@link ExpressionEntitySet#synchroniseFrom(EntitySet)} with {@link #queryCharacteristics()}
+         * as input parameter. This computes the changes to be performed into the {@link #getCharacteristics()}
+         * in order to synchronise it with respect to an OWL representation. This is
+         * be done by {@link #readAxioms()}.
+         * @return the changes to be done to synchronise the characteristics of {@link #getInstance()};
+         * from an OWL representation to {@code this} {@link Descriptor}.
+         */
+        default EntitySet.SynchronisationIntent<Y> synchroniseCharacteristicsFromExpressionAxioms(){
+            try{
+                return getCharacteristics().synchroniseFrom( queryCharacteristics());
+            } catch ( Exception e){
+                e.printStackTrace();
+                return null;
+            }
+        }
+    }
 }
@@ -80,6 +80,31 @@ public interface Individual<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildTypes()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildTypesLazily(int)}.
+         */
+        default Set<D> buildTypesLazily(){
+            return buildTypesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildTypes()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildTypesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( Y cl : getTypes())
+                out.add( Descriptor.buildLazily( getNewType( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildTypes()} and
          * its purpose is to instantiate a new {@link Class} to represent
@@ -185,6 +210,31 @@ public interface Individual<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildDisjointIndividuals()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildDisjointIndividualsLazily(int)}.
+         */
+        default Set<D> buildDisjointIndividualsLazily(){
+            return buildDisjointIndividualsLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildDisjointIndividuals()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildDisjointIndividualsLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getDisjointIndividuals())
+                out.add( Descriptor.buildLazily( getNewDisjointIndividual( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildDisjointIndividuals()} and
          * its purpose is to instantiate a new {@link Individual} to represent
@@ -288,6 +338,31 @@ public interface Individual<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildEquivalentIndividuals()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildEquivalentIndividualsLazily(int)}.
+         */
+        default Set<D> buildEquivalentIndividualsLazily(){
+            return buildEquivalentIndividualsLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildEquivalentIndividuals()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildEquivalentIndividualsLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getEquivalentIndividuals())
+                out.add( Descriptor.buildLazily( getNewEquivalentIndividual( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildEquivalentIndividuals()} and
          * its purpose is to instantiate a new {@link Individual} to represent
@@ -404,6 +479,31 @@ public interface Individual<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildDataProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildDataPropertiesLazily(int)}.
+         */
+        default Set<D> buildDataPropertiesLazily(){
+            return buildDataPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildDataProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildDataPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( Y cl : getDataProperties())
+                out.add( Descriptor.buildLazily( getNewDataProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildDataProperties()} and
          * its purpose is to instantiate a new {@link DataProperty} to represent
@@ -520,6 +620,31 @@ public interface Individual<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildObjectProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildObjectPropertiesLazily(int)}.
+         */
+        default Set<D> buildObjectPropertiesLazily(){
+            return buildObjectPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildObjectProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildObjectPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( Y cl : getObjectProperties())
+                out.add( Descriptor.buildLazily( getNewObjectProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildObjectProperties()} and
          * its purpose is to instantiate a new {@link ObjectProperty} to represent
@@ -0,0 +1,158 @@
+package it.emarolab.owloop.core;
+
+/**
+ * This interface is a part of the core of OWLOOP architecture.
+ * It is the service provider interface used to instrument the operations of the {@link Axiom.Descriptor}s.
+ * <p>
+ *     The {@link Axiom.Descriptor}s and their expressions call the {@link Metrics} given by {@link #get()}
+ *     in order to record the nanoseconds spent in each {@link Phase} (e.g., querying, diffing, applying changes
+ *     and reasoning), and to count some events (see {@link Counter}). Each record is associated to a {@code kind},
+ *     which can be the kind of expression (e.g., a query kind for Type, ObjectLink, Sub, EquivalentRestriction, etc.),
+ *     the class of the descriptor or of the {@link Axiom.EntitySet}, or {@code null} if not specific.
+ *     <br>
+ *     By default, {@link #NO_OP} is used, which does not even read the clock.
+ *     Another implementation can be given with {@link #set(Metrics)}, and it should be thread safe.
+ * </p>
+ * The operations should be instrumented as:
+ * <pre>
+ * {@code
+ *     Metrics metrics = Metrics.get();
+ *     long start = metrics.start();
+ *     // ... the operation to measure
+ *     metrics.stop( Metrics.Phase.QUERY, kind, start);
+ * }
+ * </pre>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.core.Metrics <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public interface Metrics {
+
+    /**
+     * The phases of the descriptors operations that are timed.
+     */
+    enum Phase {
+        /** The reading of an expression during {@link Axiom.Descriptor#readAxioms()} (i.e., its queries and diff). */
+        READ,
+        /** The writing of an expression during {@link Axiom.Descriptor#writeAxioms()} (i.e., its diff and changes). */
+        WRITE,
+        /** A single query to the ontology (and to its reasoner) for reading an expression. */
+        QUERY,
+        /** The computation of the differences between the state of an {@link Axiom.EntitySet} and the queried one. */
+        DIFF,
+        /** The application of the changes to the ontology for writing an expression. */
+        APPLY,
+        /** A synchronisation of the reasoner. */
+        REASON
+    }
+
+    /**
+     * The events of the descriptors operations that are counted.
+     */
+    enum Counter {
+        /** The queries that have been actually performed on the ontology (i.e., not taken from a cache). */
+        REASONER_QUERIES,
+        /** The {@code OWLOntologyChange}s made while writing. */
+        ONTOLOGY_CHANGES,
+        /** The synchronisations of the reasoner. */
+        REASONER_SYNCHRONISATIONS
+    }
+
+    /**
+     * The implementation that does not record anything, which is used by default.
+     */
+    Metrics NO_OP = new Metrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+        @Override
+        public long start() {
+            return 0;
+        }
+        @Override
+        public void stop(Phase phase, Object kind, long start) {
+        }
+        @Override
+        public void record(Phase phase, Object kind, long nanos) {
+        }
+        @Override
+        public void count(Counter counter, Object kind, long events) {
+        }
+        @Override
+        public String toString() {
+            return "Metrics.NO_OP";
+        }
+    };
+
+    /**
+     * @return the metrics used by all the descriptors.
+     */
+    static Metrics get(){
+        return Global.metrics;
+    }
+
+    /**
+     * Sets the metrics used by all the descriptors.
+     * @param metrics the new metrics, {@code null} to use {@link #NO_OP}.
+     */
+    static void set(Metrics metrics){
+        Global.metrics = metrics != null ? metrics : NO_OP;
+    }
+
+    /**
+     * @return {@code true} if this implementation records something.
+     */
+    default boolean isEnabled(){
+        return true;
+    }
+
+    /**
+     * @return the starting time of an operation, to be given to {@link #stop(Phase, Object, long)}.
+     */
+    default long start(){
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed from the starting of an operation.
+     * @param phase the phase of the operation.
+     * @param kind the kind of the operation, it can be {@code null}.
+     * @param start the value returned by {@link #start()} before the operation.
+     */
+    default void stop(Phase phase, Object kind, long start){
+        record( phase, kind, System.nanoTime() - start);
+    }
+
+    /**
+     * Records the duration of an operation.
+     * @param phase the phase of the operation.
+     * @param kind the kind of the operation, it can be {@code null}.
+     * @param nanos the duration of the operation in nanoseconds.
+     */
+    void record(Phase phase, Object kind, long nanos);
+
+    /**
+     * Counts some events.
+     * @param counter the type of events.
+     * @param kind the kind of the operation generating the events, it can be {@code null}.
+     * @param events the number of events to count.
+     */
+    void count(Counter counter, Object kind, long events);
+
+    /**
+     * The holder of the metrics given by {@link Metrics#get()}.
+     */
+    final class Global {
+        private static volatile Metrics metrics = NO_OP;
+
+        private Global() {
+        }
+    }
+}
@@ -17,6 +17,7 @@ import java.util.Set;
  * <li><b>{@link Super}</b>:        this expression describes that an ObjectProperty super-sumes another ObjectProperty.</li>
  * <li><b>{@link Domain}</b>:       this expression describes the domain restrictions of an ObjectProperty.</li>
  * <li><b>{@link Range}</b>:        this expression describes the range restrictions of an ObjectProperty.</li>
+ * <li><b>{@link Characteristic}</b>: this expression describes the characteristics of an ObjectProperty (e.g., functional).</li>
  * <li><b>{@link Inverse}</b>:      this expression describes that an ObjectProperty has another inverse ObjectProperty.</li>
  * </ul>
  *
@@ -144,6 +145,31 @@ public interface ObjectProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildInverseObjectProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildInverseObjectPropertiesLazily(int)}.
+         */
+        default Set<D> buildInverseObjectPropertiesLazily(){
+            return buildInverseObjectPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildInverseObjectProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildInverseObjectPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getInverseObjectProperties())
+                out.add( Descriptor.buildLazily( getNewInverseObjectProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildInverseObjectProperties()} and
          * its purpose is to instantiate a new {@link ObjectProperty} to represent
@@ -249,6 +275,31 @@ public interface ObjectProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildDisjointObjectProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildDisjointObjectPropertiesLazily(int)}.
+         */
+        default Set<D> buildDisjointObjectPropertiesLazily(){
+            return buildDisjointObjectPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildDisjointObjectProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildDisjointObjectPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getDisjointObjectProperties())
+                out.add( Descriptor.buildLazily( getNewDisjointObjectProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildDisjointObjectProperties()} and
          * its purpose is to instantiate a new {@link ObjectProperty} to represent
@@ -354,6 +405,31 @@ public interface ObjectProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildEquivalentObjectProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildEquivalentObjectPropertiesLazily(int)}.
+         */
+        default Set<D> buildEquivalentObjectPropertiesLazily(){
+            return buildEquivalentObjectPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildEquivalentObjectProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildEquivalentObjectPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getEquivalentObjectProperties())
+                out.add( Descriptor.buildLazily( getNewEquivalentObjectProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildEquivalentObjectProperties()} and
          * its purpose is to instantiate a new {@link ObjectProperty} to represent
@@ -459,6 +535,31 @@ public interface ObjectProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildSubObjectProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildSubObjectPropertiesLazily(int)}.
+         */
+        default Set<D> buildSubObjectPropertiesLazily(){
+            return buildSubObjectPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildSubObjectProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildSubObjectPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getSubObjectProperties())
+                out.add( Descriptor.buildLazily( getNewSubObjectProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildSubObjectProperties()} and
          * its purpose is to instantiate a new {@link ObjectProperty} to represent
@@ -564,6 +665,31 @@ public interface ObjectProperty<O,J>
             return out;
         }
 
+        /**
+         * It is the lazy version of {@link #buildSuperObjectProperties()}, bounded by the {@link #getLazyDepth()} of {@code this} descriptor.
+         * @return the lazily built descriptors, see {@link #buildSuperObjectPropertiesLazily(int)}.
+         */
+        default Set<D> buildSuperObjectPropertiesLazily(){
+            return buildSuperObjectPropertiesLazily( getLazyDepth());
+        }
+
+        /**
+         * It is the lazy version of {@link #buildSuperObjectProperties()}.
+         * The returned descriptors are grounded, but they read their axioms only when their
+         * state is accessed for the first time (see {@link LazyDescriptor}).
+         * @param depth the number of levels that can be lazily built starting from {@code this} descriptor
+         *              (i.e., {@code 1} to not build further from the returned descriptors), or {@link #UNBOUNDED_DEPTH}.
+         * @return the lazily built descriptors, or an empty set if {@code depth} is {@code 0}.
+         */
+        default Set<D> buildSuperObjectPropertiesLazily(int depth){
+            Set<D> out = new HashSet<>();
+            if ( depth == 0)
+                return out;
+            for( J cl : getSuperObjectProperties())
+                out.add( Descriptor.buildLazily( getNewSuperObjectProperty( cl, getOntologyReference()), depth));
+            return out;
+        }
+
         /**
          * This method is called by {@link #buildSuperObjectProperties()} and
          * its purpose is to instantiate a new {@link ObjectProperty} to represent
@@ -805,4 +931,82 @@ public interface ObjectProperty<O,J>
             }
         }
     }
+
+    /**
+     * Implementation of this interface enables an {@link ObjectProperty} to have the {@link Characteristic} expression.<p>
+     *
+     * This descriptor synchronises the characteristics of the grounded object property
+     * (e.g., functional, transitive, symmetric or reflexive) as a set, which is written with the other expressions through {@link #writeAxioms()}.
+     * Therefore, the characteristic setters (e.g., {@link #setFunctional()}) only change {@link #getCharacteristics()}.
+     *
+     * @param <O> the type of ontology in which the axioms for properties will be applied.
+     * @param <J> the type of the described property.
+     * @param <Y> the type of characteristic for the {@link EntitySet} managed by this {@link Descriptor}.
+     */
+    interface Characteristic<O,J,Y>
+            extends ObjectProperty<O,J>{
+
+        @Override // see documentation on Axiom.descriptor.readExpressionAxioms
+        default List<MappingIntent> readAxioms(){
+            try {
+                EntitySet.SynchronisationIntent<Y> from = synchroniseCharacteristicsFromExpressionAxioms();
+                if( from != null) {
+                    getCharacteristics().addAll(from.getToAdd());
+                    getCharacteristics().removeAll(from.getToRemove());
+                }
+                return getIntent(from);
+            } catch (Exception e){
+                e.printStackTrace();
+                return getIntent( null);
+            }
+        }
+
+        /**
+         * Returns the {@link EntitySet} that describes all the characteristics of
+         * the described property; from a no OOP point of view.
+         * @return the characteristics of {@code this} grounded object property.
+         */
+        EntitySet<Y> getCharacteristics();
+
+        /**
+         * Queries to the OWL representation for the characteristics of {@code this} object property.
+         * @return a new {@link EntitySet} contained the characteristics of {@link #getInstance()},
+         * into the OWL structure.
+         */
+        EntitySet<Y> queryCharacteristics();
+
+        /**
+         * It calls {@link EntitySet#synchroniseTo(EntitySet)} with {@link #queryCharacteristics()}
+         * as input parameter. This computes the changes to be performed in the OWL representation
+         * for synchronise it with respect to {@link #getCharacteristics()}. This should
+         * be done by {@link #writeAxioms()}.
+         * @return the changes to be done to synchronise {@code this} structure with
+         * the characteristics of {@link #getInstance()}; to the OWL representation.
+         */
+        default EntitySet.SynchronisationIntent<Y> synchroniseCharacteristicsToExpressionAxioms(){
+            try {
+                return getCharacteristics().synchroniseTo( queryCharacteristics());
+            } catch ( Exception e){
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        /**
+         * It calls {@link ExpressionEntitySet#synchroniseFrom(EntitySet)} with {@link #queryCharacteristics()}
+         * as input parameter. This computes the changes to be performed into the {@link #getCharacteristics()}
+         * in order to synchronise it with respect to an OWL representation. This is
+         * be done by {@link #readAxioms()}.
+         * @return the changes to be done to synchronise the characteristics of {@link #getInstance()};
+         * from an OWL representation to {@code this} {@link Descriptor}.
+         */
+        default EntitySet.SynchronisationIntent<Y> synchroniseCharacteristicsFromExpressionAxioms(){
+            try{
+                return getCharacteristics().synchroniseFrom( queryCharacteristics());
+            } catch ( Exception e){
+                e.printStackTrace();
+                return null;
+            }
+        }
+    }
 }
@@ -0,0 +1,162 @@
+package it.emarolab.owloop.core;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * This class is a part of the core of OWLOOP architecture.
+ * It runs the asynchronous operations of the {@link Axiom.Descriptor}s (e.g., {@link Axiom.Descriptor#readAxiomsAsync()}).
+ * <p>
+ *     The operations are performed on the {@link Executor} given by {@link #getExecutor()}, which can be configured
+ *     with {@link #setExecutor(Executor)}. By default, a new virtual thread is used for each operation if the JVM
+ *     supports them, otherwise a pool of daemon threads is used.
+ *     <br>
+ *     The operations on the same ontology are serialised: they are performed one at a time, in the order in which
+ *     they have been submitted, and while holding the lock of the ontology (see {@link #getLock(Object)}).
+ *     Therefore, they are also serialised with respect to the other operations that lock the ontology
+ *     (e.g., the writing of a batch of descriptors). The operations on different ontologies are performed concurrently.
+ * </p>
+ * The lock of an aMOR ontology is the lock that aMOR acquires, before any other, for each query, change and
+ * reasoner synchronisation. Using another lock (e.g., the monitor of the ontology, which aMOR acquires afterwards)
+ * would deadlock with the threads that call aMOR directly.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.core.OntologyExecutor <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public final class OntologyExecutor {
+
+    private static final Map<Object, CompletableFuture<?>> TAILS = new HashMap<>(); // ontology -> its last operation
+    private static final Map<Object, ReentrantLock> LOCKS = new WeakHashMap<>();
+    private static volatile Executor executor;
+
+    private OntologyExecutor() {
+    }
+
+    /**
+     * @return the executor on which the asynchronous operations are performed.
+     */
+    public static Executor getExecutor() {
+        Executor e = executor;
+        if ( e == null) {
+            synchronized ( TAILS) {
+                if ( executor == null)
+                    executor = newDefaultExecutor();
+                e = executor;
+            }
+        }
+        return e;
+    }
+
+    /**
+     * @param executor the executor on which the asynchronous operations will be performed,
+     *                 or {@code null} to use the default one.
+     */
+    public static void setExecutor(Executor executor) {
+        OntologyExecutor.executor = executor;
+    }
+
+    /**
+     * Performs an operation on an ontology asynchronously. It starts after all the operations previously
+     * submitted for the same ontology are completed (also exceptionally), and it holds the lock of the ontology.
+     * @param ontology the ontology on which the operation is performed.
+     * @param operation the operation to perform.
+     * @param <T> the type of the result of the operation.
+     * @return a future completed with the result of the operation, or exceptionally if it failed.
+     */
+    public static <T> CompletableFuture<T> submit(Object ontology, Supplier<T> operation){
+        Executor e = getExecutor();
+        CompletableFuture<T> next;
+        synchronized ( TAILS) {
+            CompletableFuture<?> tail = TAILS.get( ontology);
+            if ( tail == null)
+                next = CompletableFuture.supplyAsync( () -> locked( ontology, operation), e);
+            else next = tail.handle( (r, x) -> null)
+                    .thenApplyAsync( v -> locked( ontology, operation), e);
+            TAILS.put( ontology, next);
+        }
+        // forgets the ontology when it has no more operations to perform
+        next.whenComplete( (r, x) -> {
+            synchronized ( TAILS) {
+                TAILS.remove( ontology, next);
+            }
+        });
+        return next;
+    }
+
+    private static <T> T locked(Object ontology, Supplier<T> operation){
+        ReentrantLock lock = getLock( ontology);
+        lock.lock();
+        try {
+            return operation.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the lock that serialises the operations on an ontology. For an aMOR ontology, it is the lock
+     * that aMOR uses to serialise its queries, changes and reasoner synchronisations; otherwise it is a new
+     * lock associated to the given ontology.
+     * @param ontology an ontology.
+     * @return the lock of the given ontology.
+     */
+    public static ReentrantLock getLock(Object ontology){
+        synchronized ( LOCKS) {
+            ReentrantLock lock = LOCKS.get( ontology);
+            if ( lock == null) {
+                lock = amorLock( ontology);
+                if ( lock == null)
+                    lock = new ReentrantLock();
+                LOCKS.put( ontology, lock);
+            }
+            return lock;
+        }
+    }
+
+    // aMOR does not expose its reasoner mutex, which it acquires before any other lock, it is read from its field.
+    private static ReentrantLock amorLock(Object ontology){
+        for ( java.lang.Class<?> c = ontology.getClass(); c != null; c = c.getSuperclass()) {
+            try {
+                Field mutex = c.getDeclaredField( "mutexReasoner");
+                mutex.setAccessible( true);
+                Object lock = mutex.get( ontology);
+                return lock instanceof ReentrantLock ? (ReentrantLock) lock : null;
+            } catch ( NoSuchFieldException e) {
+                // look in the super class
+            } catch ( Exception e) {
+                e.printStackTrace();
+                return null;
+            }
+        }
+        return null;
+    }
+
+    // a virtual thread per task if available (Java 21+), a pool of daemon threads otherwise
+    private static Executor newDefaultExecutor(){
+        try {
+            Method factory = Executors.class.getMethod( "newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke( null);
+        } catch ( Exception e) {
+            return Executors.newCachedThreadPool( r -> {
+                Thread t = new Thread( r, "owloop-async");
+                t.setDaemon( true);
+                return t;
+            });
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import it.emarolab.owloop.core.Axiom;
+
+import java.util.Collection;
+
+/**
+ * An extension of {@link DescriptorEntitySet.EntitySetBase} for {@link Characteristics.Type}.
+ * <p>
+ *     It represent the {@link Axiom.EntitySet} which contains the characteristics of an OWL-Property
+ *     (e.g., functional or transitive).
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Characteristics <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class Characteristics
+        extends DescriptorEntitySet.EntitySetBase<Characteristics.Type>
+        implements Axiom.EntitySet<Characteristics.Type> {
+
+    /**
+     * The characteristics of an OWL-Property. Only {@link #FUNCTIONAL} applies to data properties.
+     */
+    public enum Type {
+        /** A property with at most one value for each subject. */
+        FUNCTIONAL,
+        /** An object property with at most one subject for each value. */
+        INVERSE_FUNCTIONAL,
+        /** A transitive object property. */
+        TRANSITIVE,
+        /** A symmetric object property. */
+        SYMMETRIC,
+        /** An asymmetric object property. */
+        ASYMMETRIC,
+        /** A reflexive object property. */
+        REFLEXIVE,
+        /** An irreflexive object property. */
+        IRREFLEXIVE
+    }
+
+    public Characteristics() {
+    }
+    public Characteristics(Collection<? extends Type> c) {
+        super(c);
+    }
+    public Characteristics(int initialCapacity, float loadFactor) {
+        super(initialCapacity, loadFactor);
+    }
+    public Characteristics(int initialCapacity) {
+        super(initialCapacity);
+    }
+}
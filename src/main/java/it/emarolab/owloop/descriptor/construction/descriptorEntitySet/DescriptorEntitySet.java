@@ -6,9 +6,7 @@ import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.owloop.core.*;
 import org.semanticweb.owlapi.model.*;
 
-import java.util.Collection;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 
 /**
  * This interface contains classes that can be used to instantiate EntitySets containing
@@ -41,6 +39,12 @@ public interface DescriptorEntitySet extends Axiom {
      * <p>
      *      This class implements common features for managing an {@link HashSet} and a {@code singleton} value
      *      for {@link EntitySet}.
+     *      It also tracks the modifications of the set, in order to implement {@link #isModified()}:
+     *      at each synchronisation it remembers the content of the OWL representation, and a version of
+     *      this set that is increased at each change. If the version has not changed, or if the set is equal
+     *      to the remembered content, then it has not been modified.
+     *      Furthermore, it remembers the version of the ontology at which it has been read
+     *      (see {@link #isReadAt(long)}).
      * </p>
      *
      * @param <T> the type of the axiom to collect.
@@ -54,6 +58,12 @@ public interface DescriptorEntitySet extends Axiom {
          */
         protected boolean singleton = false;
 
+        // they are not initialised here since the HashSet(Collection) constructor calls add(..) before the initialisers
+        private long version; // increased at each change
+        private Object synchronised; // the OWL representation at the last synchronisation, null if not known
+        private long synchronisedVersion; // the version at which this set was known to be equal to synchronised
+        private long readVersion = -1; // the version of the ontology at the last reading, negative if not known
+
         /**
          * Instantiate this {@link EntitySet} as an empty {@link HashSet}.
          * It is not set to be a {@code singleton}.
@@ -97,6 +107,191 @@ public interface DescriptorEntitySet extends Axiom {
             this.singleton = singleton;
         }
 
+        /**
+         * It should be called every time the content of this set changes.
+         */
+        protected void changed(){
+            version++;
+        }
+
+        /**
+         * @return a version of this set that is increased at each change.
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public boolean isModified() {
+            if ( synchronised == null)
+                return true;
+            if ( version == synchronisedVersion)
+                return false;
+            if ( ! isSynchronisedWith( synchronised))
+                return true;
+            synchronisedVersion = version; // equal, no need to compare again until the next change
+            return false;
+        }
+
+        /**
+         * Forgets the last synchronisation, so that this set is considered as modified until the next one.
+         * It can be used to force the next {@link Axiom.Descriptor#writeAxioms()} to query the OWL representation
+         * (e.g., if it has been changed by other descriptors).
+         */
+        public void resetSynchronisation(){
+            synchronised = null;
+            readVersion = -1;
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public void setReadVersion(long ontologyVersion){
+            readVersion = ontologyVersion;
+        }
+
+        /**
+         * @return the version of the ontology at which this set has been read, negative if not known.
+         */
+        public long getReadVersion() {
+            return readVersion;
+        }
+
+        @Override // see Axiom.EntitySet for documentation
+        public boolean isReadAt(long ontologyVersion){
+            return ontologyVersion >= 0 && readVersion == ontologyVersion && ! isModified();
+        }
+
+        /**
+         * Remembers the content of the OWL representation after a synchronisation.
+         * @param owl the content of the OWL representation.
+         */
+        protected void setSynchronised(Collection<? extends T> owl){
+            synchronised = snapshot( owl);
+            // after reading, this set still has to be changed for being equal to owl
+            synchronisedVersion = owl == this ? version : version - 1;
+        }
+
+        /**
+         * @return the content of the OWL representation remembered at the last synchronisation,
+         * as given by {@link #snapshot(Collection)}, or {@code null} if it is not known.
+         */
+        protected Object getSynchronised(){
+            return synchronised;
+        }
+
+        /**
+         * @param owl the content of the OWL representation after a synchronisation.
+         * @return the content to remember. It is a copy if the given set is {@code this}, since the
+         * other sets are the result of a query and they are not changed afterwards.
+         */
+        protected Object snapshot(Collection<? extends T> owl){
+            return owl == this ? new HashSet<>( this) : owl;
+        }
+
+        /**
+         * @param owl the value returned by {@link #snapshot(Collection)}.
+         * @return {@code true} if this set is equal to the given one.
+         */
+        protected boolean isSynchronisedWith(Object owl){
+            return owl.equals( this);
+        }
+
+        /**
+         * Returns the changes to be done to this set for being equal to the OWL representation, and remembers it.
+         * @param queried the OWL representation, it should not be changed afterwards.
+         * @return the changes to apply to this set.
+         */
+        @Override
+        public SynchronisationIntent<T> synchroniseFrom(EntitySet<T> queried) {
+            SynchronisationIntent<T> intent = EntitySet.super.synchroniseFrom( queried);
+            setSynchronised( queried);
+            return intent;
+        }
+
+        /**
+         * Returns the changes to be done to the OWL representation for being equal to this set, and remembers this set.
+         * @param queried the OWL representation.
+         * @return the changes to apply to the OWL representation.
+         */
+        @Override
+        public SynchronisationIntent<T> synchroniseTo(EntitySet<T> queried) {
+            SynchronisationIntent<T> intent = EntitySet.super.synchroniseTo( queried);
+            setSynchronised( this);
+            return intent;
+        }
+
+        @Override
+        public boolean add(T t) {
+            if ( ! super.add( t))
+                return false;
+            changed();
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if ( ! super.remove( o))
+                return false;
+            changed();
+            return true;
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> c) {
+            if ( ! super.removeAll( c))
+                return false;
+            changed();
+            return true;
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> c) {
+            if ( ! super.retainAll( c))
+                return false;
+            changed();
+            return true;
+        }
+
+        @Override
+        public boolean removeIf(java.util.function.Predicate<? super T> filter) {
+            if ( ! super.removeIf( filter))
+                return false;
+            changed();
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            super.clear();
+            changed();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return tracked( super.iterator());
+        }
+
+        /**
+         * @param iterator an iterator over the content of this set.
+         * @return the given iterator, which calls {@link #changed()} when an element is removed.
+         */
+        protected Iterator<T> tracked(Iterator<T> iterator){
+            return new Iterator<T>() {
+                @Override
+                public boolean hasNext() {
+                    return iterator.hasNext();
+                }
+                @Override
+                public T next() {
+                    return iterator.next();
+                }
+                @Override
+                public void remove() {
+                    iterator.remove();
+                    changed();
+                }
+            };
+        }
+
 
         @Override
         public String toString() {
@@ -162,24 +357,33 @@ public interface DescriptorEntitySet extends Axiom {
      *     In particular, it define the method of adding and removing set of
      *     data or object properties values with the same expression. Also,
      *     it enables obtaining the actual value of a property.
-     *     Constructors and {@link HashSet} management are based
-     *     on {@link EntitySetBase}.
+     *     Constructors are based on {@link EntitySetBase} but, since each expression
+     *     can appear only once in this set, the elements are stored in a {@link LinkedHashMap}
+     *     indexed by {@link ExpressionEntity#getExpression()} (i.e., the inherited {@link HashSet} is not used).
+     *     Therefore, looking for a property, merging values on {@link #add(ExpressionEntity)}
+     *     and {@link #remove(Object)} take constant time, and the elements are iterated in insertion order.
+     *     Note that the expression of an element should not be changed while it is in this set.
      * </p>
      */
     abstract class ExpressionEntitySetBase<X extends ExpressionEntity<S,A>,S extends OWLProperty,A>
             extends EntitySetBase<X>
             implements ExpressionEntitySet<X,A> {
 
+        // the actual content of this set: expression -> entity
+        private LinkedHashMap<S,X> links;
+
         public ExpressionEntitySetBase() {
+            links = new LinkedHashMap<>();
         }
         public ExpressionEntitySetBase(Collection<? extends X> c) {
-            super(c);
+            links = new LinkedHashMap<>( Math.max( (int) ( c.size() / .75f) + 1, 16));
+            addAll( c);
         }
         public ExpressionEntitySetBase(int initialCapacity, float loadFactor) {
-            super(initialCapacity, loadFactor);
+            links = new LinkedHashMap<>( initialCapacity, loadFactor);
         }
         public ExpressionEntitySetBase(int initialCapacity) {
-            super(initialCapacity);
+            links = new LinkedHashMap<>( initialCapacity);
         }
 
         /**
@@ -190,13 +394,22 @@ public interface DescriptorEntitySet extends Axiom {
          * An {@code empty} {@link HashSet} if the values is not available.
          */
         public EntitySet<A> getLinks(S semantic){
-            for ( X s : this){
-                if ( semantic.equals( s.getExpression()))
-                    return s.getValues();
-            }
+            X s = links.get( semantic);
+            if ( s != null)
+                return s.getValues();
             return new EntitySetBase<>();
         }
 
+        /**
+         * Searches for the {@link ExpressionEntity} with the given property.
+         * @param semantic the property to look for.
+         * @return the element of this set describing the given property,
+         * or {@code null} if it is not available.
+         */
+        public X getExpressionEntity(S semantic){
+            return links.get( semantic);
+        }
+
         /**
          * Searches in the {@link ExpressionEntity} for the given property and
          * returns one of its values. It should be used with a {@link EntitySet#isSingleton()}
@@ -206,13 +419,12 @@ public interface DescriptorEntitySet extends Axiom {
          * An {@code null} if the values is not available.
          */
         public A getLink(S semantic){
-            for ( X s : this){
-                if ( semantic.equals( s.getExpression())) {
-                    if ( ! s.getValues().isSingleton() & s.getValues().size() > 1)
-                        System.out.println( " !![WARNING] Uncertainty in the element that is returned, if there is more than 1 element in the EntitySet: " + s);
-                    for (A l : s.getValues())
-                        return l;
-                }
+            X s = links.get( semantic);
+            if ( s != null) {
+                if ( ! s.getValues().isSingleton() & s.getValues().size() > 1)
+                    System.out.println( " !![WARNING] Uncertainty in the element that is returned, if there is more than 1 element in the EntitySet: " + s);
+                for (A l : s.getValues())
+                    return l;
             }
             return null;
         }
@@ -233,15 +445,16 @@ public interface DescriptorEntitySet extends Axiom {
          */
         @Override
         public boolean add(X dataSemantic) {
-            for ( X d : this)//.set)
-                if( d.getExpression().equals( dataSemantic.getExpression())){
-                    if ( dataSemantic.getValues().isSingleton())
-                        d.getValues().clear();
-                    d.getValues().setSingleton( dataSemantic.getValues().isSingleton());
-                    return d.getValues().addAll( dataSemantic.getValues());
-                }
-
-            return super.add( dataSemantic);
+            X d = links.get( dataSemantic.getExpression());
+            if ( d != null){
+                if ( dataSemantic.getValues().isSingleton())
+                    d.getValues().clear();
+                d.getValues().setSingleton( dataSemantic.getValues().isSingleton());
+                return d.getValues().addAll( dataSemantic.getValues());
+            }
+            links.put( dataSemantic.getExpression(), dataSemantic);
+            changed();
+            return true;
         }
 
         /**
@@ -255,19 +468,122 @@ public interface DescriptorEntitySet extends Axiom {
          */
         @Override
         public boolean remove(Object o) {
-            for (X d : this){//.set) {
-                if (d.equals(o))
-                    return super.remove(d);
-                if (d.getExpression().equals(o))
-                    return super.remove(d);
-                if( o instanceof  ObjectLinks) {
-                    ObjectLinks objLink = (ObjectLinks) o;
-                    if (d.getExpression().equals( objLink.getExpression())) {
-                        return d.getValues().removeAll( objLink.getValues());
-                    }
+            if ( o instanceof ExpressionEntity) {
+                Object expression = ((ExpressionEntity<?, ?>) o).getExpression();
+                X d = links.get( expression);
+                if ( d == null)
+                    return false;
+                if ( d.equals( o)) {
+                    links.remove( expression);
+                    changed();
+                    return true;
                 }
+                if ( o instanceof ObjectLinks)
+                    return d.getValues().removeAll( ((ObjectLinks) o).getValues());
+                return false;
             }
-            return false;
+            if ( links.remove( o) == null)
+                return false;
+            changed();
+            return true;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if ( ! ( o instanceof ExpressionEntity))
+                return false;
+            X d = links.get( ((ExpressionEntity<?, ?>) o).getExpression());
+            return d != null && d.equals( o);
+        }
+
+        @Override
+        public Iterator<X> iterator() {
+            return tracked( links.values().iterator());
+        }
+
+        @Override
+        public Spliterator<X> spliterator() {
+            return links.values().spliterator();
+        }
+
+        @Override
+        public Object[] toArray() {
+            return links.values().toArray();
+        }
+
+        @Override
+        public <T> T[] toArray(T[] a) {
+            return links.values().toArray( a);
+        }
+
+        @Override
+        public int size() {
+            return links.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return links.isEmpty();
+        }
+
+        @Override
+        public void clear() {
+            links.clear();
+            changed();
+        }
+
+        /**
+         * Since the values of the elements can be changed without calling {@link #changed()},
+         * the version of this set is not used, and it is always compared with the OWL representation.
+         * @return {@code false} if this set is equal to the OWL representation of its last synchronisation.
+         */
+        @Override
+        public boolean isModified() {
+            Object owl = getSynchronised();
+            return owl == null || ! isSynchronisedWith( owl);
+        }
+
+        @Override // it copies the values of all the elements, since they can be changed afterwards
+        protected Object snapshot(Collection<? extends X> owl) {
+            Map<S,Set<A>> out = new HashMap<>();
+            for ( X x : owl)
+                out.put( x.getExpression(), new HashSet<>( x.getValues()));
+            return out;
+        }
+
+        @Override
+        protected boolean isSynchronisedWith(Object owl) {
+            Map<?,?> values = (Map<?,?>) owl;
+            if ( values.size() != links.size())
+                return false;
+            for ( Map.Entry<S,X> e : links.entrySet()) {
+                Object v = values.get( e.getKey());
+                if ( v == null || ! v.equals( e.getValue().getValues()))
+                    return false;
+            }
+            return true;
+        }
+
+        @Override // see Axiom.ExpressionEntitySet for documentation
+        public SynchronisationIntent<X> synchroniseFrom(EntitySet<X> queried) {
+            SynchronisationIntent<X> intent = ExpressionEntitySet.super.synchroniseFrom( queried);
+            setSynchronised( queried);
+            return intent;
+        }
+
+        @Override // see Axiom.ExpressionEntitySet for documentation
+        public SynchronisationIntent<X> synchroniseTo(EntitySet<X> queried) {
+            SynchronisationIntent<X> intent = ExpressionEntitySet.super.synchroniseTo( queried);
+            setSynchronised( this);
+            return intent;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object clone() {
+            ExpressionEntitySetBase<X,S,A> copy = (ExpressionEntitySetBase<X,S,A>) super.clone();
+            copy.links = new LinkedHashMap<>( links);
+            return copy;
         }
 
         @Override
@@ -4,16 +4,21 @@ import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.Class;
+import it.emarolab.owloop.core.Metrics;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.*;
 
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * This interface extends all the interfaces in {@link Class}.
@@ -112,27 +117,44 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Individuals queryIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getIndividualB2Class(getInstance()));
+            Individuals set = new Individuals(DescriptorQuery.query( this, QueryKind.CLASS_INSTANCE, () -> getOntologyReference().getIndividualB2Class( getInstance())));
             set.setSingleton( getIndividuals().isSingleton());
             return set;
         }
 
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.CLASS_INSTANCE, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getIndividuals().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Class.Instance.super.readAxioms();
+                getIndividuals().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseIndividualsToExpressionAxioms();
-                if (to == null)
-                    return getIntent(null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLNamedIndividual a : to.getToAdd())
-                    changes.add(getOntologyReference().addIndividualB2Class(a, getInstance()));
-                for (OWLNamedIndividual b : to.getToRemove())
-                    changes.add(getOntologyReference().removeIndividualB2Class(b, getInstance()));
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            return DescriptorQuery.write( this, QueryKind.CLASS_INSTANCE, () -> {
+                try {
+                    if ( ! getIndividuals().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseIndividualsToExpressionAxioms();
+                    if (to == null)
+                        return getIntent(null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (OWLNamedIndividual a : to.getToAdd())
+                        changes.add(getOntologyReference().addIndividualB2Class(a, getInstance()));
+                    for (OWLNamedIndividual b : to.getToRemove())
+                        changes.add(getOntologyReference().removeIndividualB2Class(b, getInstance()));
+                    return getChangingIntent( to, changes, QueryKind.CLASS_INSTANCE, start);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 
@@ -203,7 +225,7 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes queryDisjointClasses(){
-            Classes set = new Classes(getOntologyReference().getDisjointClasses(getInstance()));
+            Classes set = new Classes(DescriptorQuery.query( this, QueryKind.CLASS_DISJOINT, () -> getOntologyReference().getDisjointClasses( getInstance())));
             set.remove( getInstance());
             set.remove( getOntologyReference().getOWLFactory().getOWLNothing());
             set.setSingleton( getDisjointClasses().isSingleton());
@@ -211,30 +233,53 @@ public interface ClassExpression
         }
 
         @Override // see super classes for documentation
-        default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseDisjointClassesToExpressionAxioms();
-                if ( to == null)
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.CLASS_DISJOINT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDisjointClasses().isReadAt( version)) // nothing changed since the last reading
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLClass a : to.getToAdd())
-                    if ( ! a.isOWLNothing()){
-                        Set<OWLClass> s = new HashSet<>();
-                        s.add( getInstance());
-                        s.add( a);
-                        changes.add( getOntologyReference().makeDisjointClasses( s));
+                List<MappingIntent> intents = Class.Disjoint.super.readAxioms();
+                getDisjointClasses().setReadVersion( version);
+                return intents;
+            });
+        }
+
+        @Override // see super classes for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.CLASS_DISJOINT, () -> {
+                try {
+                    if ( ! getDisjointClasses().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseDisjointClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    if ( OntologyMonitor.isBulkDisjointness( getOntologyReference())) // a single n-ary axiom for the whole group
+                        changes.addAll( DisjointGroups.write( getOntologyReference(), getInstance(), to,
+                                DisjointGroups.classGroups( getOntologyReference(), getInstance()),
+                                s -> getOntologyReference().getOWLFactory().getOWLDisjointClassesAxiom( s), DisjointGroups::classRemainder));
+                    else {
+                        for( OWLClass a : to.getToAdd())
+                            if ( ! a.isOWLNothing()){
+                                Set<OWLClass> s = new HashSet<>();
+                                s.add( getInstance());
+                                s.add( a);
+                                changes.add( getOntologyReference().makeDisjointClasses( s));
+                            }
+                        for( OWLClass r : to.getToRemove()){
+                            Set<OWLClass> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( r);
+                            changes.add( getOntologyReference().removeDisjointClasses( s));
+                        }
                     }
-                for( OWLClass r : to.getToRemove()){
-                    Set<OWLClass> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointClasses( s));
+                    return getChangingIntent( to, changes, QueryKind.CLASS_DISJOINT, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
                 }
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -296,7 +341,7 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes queryEquivalentClasses(){
-            Classes set = new Classes(getOntologyReference().getEquivalentClasses(getInstance()));
+            Classes set = new Classes(DescriptorQuery.query( this, QueryKind.CLASS_EQUIVALENT, () -> getOntologyReference().getEquivalentClasses( getInstance())));
             set.remove( getInstance());
             //set.remove( getOntology().getOWLFactory().getOWLNothing());
             set.setSingleton( getEquivalentClasses().isSingleton());
@@ -304,30 +349,47 @@ public interface ClassExpression
         }
 
         @Override // see super classes for documentation
-        default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseEquivalentClassesToExpressionAxioms();
-                if ( to == null)
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.CLASS_EQUIVALENT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getEquivalentClasses().isReadAt( version)) // nothing changed since the last reading
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLClass a : to.getToAdd())
-                    if ( ! a.isOWLNothing()){
+                List<MappingIntent> intents = Class.Equivalent.super.readAxioms();
+                getEquivalentClasses().setReadVersion( version);
+                return intents;
+            });
+        }
+
+        @Override // see super classes for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.CLASS_EQUIVALENT, () -> {
+                try {
+                    if ( ! getEquivalentClasses().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseEquivalentClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLClass a : to.getToAdd())
+                        if ( ! a.isOWLNothing()){
+                            Set<OWLClass> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( a);
+                            changes.add( getOntologyReference().makeEquivalentClasses( s));
+                        }
+                    for( OWLClass r : to.getToRemove()){
                         Set<OWLClass> s = new HashSet<>();
                         s.add( getInstance());
-                        s.add( a);
-                        changes.add( getOntologyReference().makeEquivalentClasses( s));
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentClasses( s));
                     }
-                for( OWLClass r : to.getToRemove()){
-                    Set<OWLClass> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentClasses( s));
+                    return getChangingIntent( to, changes, QueryKind.CLASS_EQUIVALENT, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
                 }
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -389,29 +451,46 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes querySubClasses(){
-            Classes set = new Classes(getOntologyReference().getSubClassOf(getInstance()));
+            Classes set = new Classes(DescriptorQuery.query( this, QueryKind.CLASS_SUB, () -> getOntologyReference().getSubClassOf( getInstance())));
             //set.remove( getOntology().getOWLFactory().getOWLNothing());
             set.setSingleton( getSubClasses().isSingleton());
             return set;
         }
 
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.CLASS_SUB, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getSubClasses().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Class.Sub.super.readAxioms();
+                getSubClasses().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSubClassesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.CLASS_SUB, () -> {
+                try {
+                    if ( ! getSubClasses().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSubClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (OWLClass a : to.getToAdd())
+                        if ( ! a.isOWLNothing())
+                            changes.add(getOntologyReference().addSubClassOf(getInstance(), a));
+                    for (OWLClass r : to.getToRemove())
+                        changes.add(getOntologyReference().removeSubClassOf(getInstance(), r));
+                    return getChangingIntent( to, changes, QueryKind.CLASS_SUB, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
-                    if ( ! a.isOWLNothing())
-                        changes.add(getOntologyReference().addSubClassOf(getInstance(), a));
-                for (OWLClass r : to.getToRemove())
-                    changes.add(getOntologyReference().removeSubClassOf(getInstance(), r));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -481,28 +560,45 @@ public interface ClassExpression
 
         @Override // see super classes for documentation
         default Classes querySuperClasses(){
-            Classes set = new Classes( getOntologyReference().getSuperClassOf(getInstance()));
+            Classes set = new Classes( DescriptorQuery.query( this, QueryKind.CLASS_SUPER, () -> getOntologyReference().getSuperClassOf( getInstance())));
             set.setSingleton( getSuperClasses().isSingleton());
             return set;
         }
 
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.CLASS_SUPER, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getSuperClasses().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Class.Super.super.readAxioms();
+                getSuperClasses().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSuperClassesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.CLASS_SUPER, () -> {
+                try {
+                    if ( ! getSuperClasses().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseSuperClassesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (OWLClass a : to.getToAdd())
+                        if( ! a.isOWLNothing())
+                            changes.add(getOntologyReference().addSubClassOf(a, getInstance()));
+                    for (OWLClass r : to.getToRemove())
+                        changes.add(getOntologyReference().removeSubClassOf(r, getInstance()));
+                    return getChangingIntent( to, changes, QueryKind.CLASS_SUPER, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
-                    if( ! a.isOWLNothing())
-                        changes.add(getOntologyReference().addSubClassOf(a, getInstance()));
-                for (OWLClass r : to.getToRemove())
-                    changes.add(getOntologyReference().removeSubClassOf(r, getInstance()));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -519,6 +615,8 @@ public interface ClassExpression
      *     and {@link org.semanticweb.owlapi.change.ConvertEquivalentClassesToSuperClasses}.
      *     It may affect {@link ClassExpression.Super} or {@link ClassExpression.Sub} descriptors.
      *     Call always this first!!
+     *     If incremental definitions are enabled (see {@link OntologyMonitor#enableIncrementalDefinitions(OWLReferences)}),
+     *     only the axiom that defines the class is replaced (see {@link #swapDefinition(EntitySet.SynchronisationIntent)}).
      *     <b>REMARK</b>: the actual implementation allow the definition of a signe restriction axiom.
      *     This can be the union of `class` expression, and `min`, `max`, `exactly`, `some`, `any`
      *     data or property restriction expression
@@ -1254,10 +1352,10 @@ public interface ClassExpression
 
         @Override // did not name it as getEquivalentRestrictions because this interface implements from a more generic interface Class.Restriction
         default Restrictions queryEquivalentRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getClassRestrictions( getInstance());
+            Set< Set<ApplyingRestriction>> restrictionsSet = DescriptorQuery.query( this, QueryKind.CLASS_EQUIVALENT_RESTRICTION, () -> getOntologyReference().getClassRestrictions( getInstance()));
             Set<ApplyingRestriction> restrictions = new HashSet<>();
             for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
+                restrictions = new HashSet<>( r); // the query result might be shared
                 break;
             }
             if ( restrictionsSet.size() > 1)
@@ -1276,34 +1374,103 @@ public interface ClassExpression
         }
 
         @Override // see super classes for documentation
-        default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseEquivalentRestrictionsToExpressionAxioms();
-                if ( to == null)
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.CLASS_EQUIVALENT_RESTRICTION, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getEquivalentRestrictions().isReadAt( version)) // nothing changed since the last reading
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
+                List<MappingIntent> intents = Class.Restriction.super.readAxioms();
+                getEquivalentRestrictions().setReadVersion( version);
+                return intents;
+            });
+        }
 
-                if ( to.getToAdd().size() > 0 | to.getToRemove().size() > 0){
-                    //noinspection unchecked
-                    changes.addAll( getOntologyReference().convertEquivalentClassesToSuperClasses( getInstance()));
-                    for (SemanticRestriction r : to.getToRemove()) {
-                        changes.add( getOntologyReference().removeRestriction(r));
-                        if( r instanceof ClassRestrictedOnClass)
-                            changes.add( getOntologyReference().removeSubClassOf( (OWLClass) r.getSubject(), (OWLClass) r.getValue()));
-                    }
+        @Override // see super classes for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.CLASS_EQUIVALENT_RESTRICTION, () -> {
+                try {
+                    if ( ! getEquivalentRestrictions().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseEquivalentRestrictionsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
 
-                    for (SemanticRestriction a : to.getToAdd())
-                        changes.add(getOntologyReference().addRestriction(a));
+                    if ( OntologyMonitor.isIncrementalDefinitions( getOntologyReference())) {
+                        if ( to.getToAdd().size() > 0 | to.getToRemove().size() > 0)
+                            changes.addAll( swapDefinition( to));
+                    } else if ( to.getToAdd().size() > 0 | to.getToRemove().size() > 0){
+                        //noinspection unchecked
+                        changes.addAll( getOntologyReference().convertEquivalentClassesToSuperClasses( getInstance()));
+                        for (SemanticRestriction r : to.getToRemove()) {
+                            changes.add( getOntologyReference().removeRestriction(r));
+                            if( r instanceof ClassRestrictedOnClass)
+                                changes.add( getOntologyReference().removeSubClassOf( (OWLClass) r.getSubject(), (OWLClass) r.getValue()));
+                        }
+
+                        for (SemanticRestriction a : to.getToAdd())
+                            changes.add(getOntologyReference().addRestriction(a));
+
+                        if ( ! getEquivalentRestrictions().isEmpty())
+                            changes.addAll(getOntologyReference().convertSuperClassesToEquivalentClass(getInstance()));//getEquivalentRestrictions()));
+                    }
 
-                    if ( ! getEquivalentRestrictions().isEmpty())
-                        changes.addAll(getOntologyReference().convertSuperClassesToEquivalentClass(getInstance()));//getEquivalentRestrictions()));
+                    return getChangingIntent( to, changes, QueryKind.CLASS_EQUIVALENT_RESTRICTION, start);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
                 }
+            });
+        }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
+        /**
+         * Replaces the axiom that defines the ground Class with a new one, computed from the
+         * {@link #getEquivalentRestrictions()} as their intersection. It is used by {@link #writeAxioms()} when
+         * the incremental definitions are enabled (see {@link OntologyMonitor#enableIncrementalDefinitions(OWLReferences)}),
+         * and it changes at most two axioms, while the other equivalent and super classes are not affected.
+         * The old definition is computed from the restrictions in the ontology; if it is not found, the equivalent
+         * classes axioms of the ground Class that contain an anonymous class expression are removed.
+         * @param to the synchronisation between the restrictions in the ontology and the ones of this descriptor.
+         * @return the changes that remove the old definition and add the new one (if there are restrictions).
+         * @throws Exception if the changes cannot be applied.
+         */
+        default List<OWLOntologyChange> swapDefinition(EntitySet.SynchronisationIntent<SemanticRestriction> to) throws Exception {
+            List<OWLOntologyChange> changes = new ArrayList<>();
+            Set<SemanticRestriction> inOntology = new HashSet<>( getEquivalentRestrictions());
+            inOntology.removeAll( to.getToAdd());
+            inOntology.addAll( to.getToRemove());
+            OWLEquivalentClassesAxiom old = getDefinition( inOntology);
+            if ( old != null && getOntologyReference().getOWLOntology().containsAxiom( old))
+                changes.add( OntologyMonitor.removeAxiom( getOntologyReference(), old));
+            else {
+                List<OWLEquivalentClassesAxiom> anonymous = getOntologyReference().getOWLOntology().equivalentClassesAxioms( getInstance())
+                        .filter( a -> a.classExpressions().anyMatch( OWLClassExpression::isAnonymous))
+                        .collect( Collectors.toList());
+                for ( OWLEquivalentClassesAxiom a : anonymous)
+                    changes.add( OntologyMonitor.removeAxiom( getOntologyReference(), a));
             }
+            OWLEquivalentClassesAxiom definition = getDefinition( getEquivalentRestrictions());
+            if ( definition != null)
+                changes.add( OntologyMonitor.addAxiom( getOntologyReference(), definition));
+            return changes;
+        }
+
+        /**
+         * @param restrictions the restrictions that define the ground Class.
+         * @return the axiom that defines the ground Class as the intersection of the given restrictions,
+         * or {@code null} if there are no restrictions.
+         */
+        default OWLEquivalentClassesAxiom getDefinition(Set<? extends SemanticRestriction> restrictions){
+            OWLDataFactory factory = getOntologyReference().getOWLFactory();
+            Set<OWLClassExpression> expressions = new HashSet<>();
+            for ( SemanticRestriction r : restrictions)
+                expressions.add( r.getRestriction( getOntologyReference()));
+            if ( expressions.isEmpty())
+                return null;
+            if ( expressions.size() == 1)
+                return factory.getOWLEquivalentClassesAxiom( getInstance(), expressions.iterator().next());
+            return factory.getOWLEquivalentClassesAxiom( getInstance(), factory.getOWLObjectIntersectionOf( expressions));
         }
     }
 }
@@ -4,9 +4,14 @@ import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.DataProperty;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Characteristics;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
@@ -57,6 +62,7 @@ public interface DataPropertyExpression
     }
 
 
+    // the characteristic is changed in the ontology right away, see DataPropertyExpression.Characteristic to synchronise it
     @Override // see super class for documentation
     default void setFunctional(){
         getOntologyReference().addFunctionalDataProperty( getInstance());
@@ -128,37 +134,60 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties queryDisjointDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getDisjointDataProperty(getInstance()));
+            DataProperties set = new DataProperties(DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_DISJOINT, () -> getOntologyReference().getDisjointDataProperty( getInstance())));
             set.remove( getInstance());
             set.remove( getOntologyReference().getOWLFactory().getOWLBottomDataProperty());
             set.setSingleton( getDisjointDataProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_DISJOINT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDisjointDataProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Disjoint.super.readAxioms();
+                getDisjointDataProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseDisjointDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_DISJOINT, () -> {
+                try {
+                    if ( ! getDisjointDataProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseDisjointDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    if ( OntologyMonitor.isBulkDisjointness( getOntologyReference())) // a single n-ary axiom for the whole group
+                        changes.addAll( DisjointGroups.write( getOntologyReference(), getInstance(), to,
+                                DisjointGroups.dataPropertyGroups( getOntologyReference(), getInstance()),
+                                s -> getOntologyReference().getOWLFactory().getOWLDisjointDataPropertiesAxiom( s), a -> null));
+                    else {
+                        for( OWLDataProperty a : to.getToAdd()){
+                            Set<OWLDataProperty> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( a);
+                            changes.add( getOntologyReference().makeDisjointDataProperties( s));
+                        }
+                        for( OWLDataProperty r : to.getToRemove()){
+                            Set<OWLDataProperty> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( r);
+                            changes.add( getOntologyReference().removeDisjointDataProperties( s));
+                        }
+                    }
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_DISJOINT, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeDisjointDataProperties( s));
                 }
-                for( OWLDataProperty r : to.getToRemove()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointDataProperties( s));
-                }
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -223,36 +252,53 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties queryEquivalentDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getEquivalentDataProperty(getInstance()));
+            DataProperties set = new DataProperties(DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_EQUIVALENT, () -> getOntologyReference().getEquivalentDataProperty( getInstance())));
             set.remove( getInstance());
             set.setSingleton( getEquivalentDataProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_EQUIVALENT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getEquivalentDataProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Equivalent.super.readAxioms();
+                getEquivalentDataProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseEquivalentDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_EQUIVALENT, () -> {
+                try {
+                    if ( ! getEquivalentDataProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseEquivalentDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLDataProperty a : to.getToAdd()){
+                        Set<OWLDataProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeEquivalentDataProperties( s));
+                    }
+                    for( OWLDataProperty r : to.getToRemove()){
+                        Set<OWLDataProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentDataProperties( s));
+                    }
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_EQUIVALENT, start);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeEquivalentDataProperties( s));
-                }
-                for( OWLDataProperty r : to.getToRemove()){
-                    Set<OWLDataProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentDataProperties( s));
                 }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -314,27 +360,44 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties querySubDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getSubDataPropertyOf(getInstance()));
+            DataProperties set = new DataProperties(DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_SUB, () -> getOntologyReference().getSubDataPropertyOf( getInstance())));
             set.setSingleton( getSubDataProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_SUB, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getSubDataProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Sub.super.readAxioms();
+                getSubDataProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSubDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_SUB, () -> {
+                try {
+                    if ( ! getSubDataProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSubDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (OWLDataProperty a : to.getToAdd())
+                        changes.add(getOntologyReference().addSubDataPropertyOf(getInstance(), a));
+                    for (OWLDataProperty r : to.getToRemove())
+                        changes.add(getOntologyReference().removeSubDataPropertyOf(getInstance(), r));
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_SUB, start);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLDataProperty a : to.getToAdd())
-                    changes.add(getOntologyReference().addSubDataPropertyOf(getInstance(), a));
-                for (OWLDataProperty r : to.getToRemove())
-                    changes.add(getOntologyReference().removeSubDataPropertyOf(getInstance(), r));
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -399,27 +462,44 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default DataProperties querySuperDataProperties(){
-            DataProperties set = new DataProperties(getOntologyReference().getSuperDataPropertyOf(getInstance()));
+            DataProperties set = new DataProperties(DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_SUPER, () -> getOntologyReference().getSuperDataPropertyOf( getInstance())));
             set.setSingleton( getSuperDataProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_SUPER, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getSuperDataProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Super.super.readAxioms();
+                getSuperDataProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSuperDataPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_SUPER, () -> {
+                try{
+                    if ( ! getSuperDataProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLDataProperty> to = synchroniseSuperDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLDataProperty a : to.getToAdd())
+                        changes.add( getOntologyReference().addSubDataPropertyOf( a, getInstance()));
+                    for( OWLDataProperty r : to.getToRemove())
+                        changes.add( getOntologyReference().removeSubDataPropertyOf( r, getInstance()));
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_SUPER, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLDataProperty a : to.getToAdd())
-                    changes.add( getOntologyReference().addSubDataPropertyOf( a, getInstance()));
-                for( OWLDataProperty r : to.getToRemove())
-                    changes.add( getOntologyReference().removeSubDataPropertyOf( r, getInstance()));
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -1227,10 +1307,10 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryDomainRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getDataDomainRestrictions(getInstance());
+            Set< Set<ApplyingRestriction>> restrictionsSet = DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_DOMAIN, () -> getOntologyReference().getDataDomainRestrictions( getInstance()));
             Set<ApplyingRestriction> restrictions = new HashSet<>();
             for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
+                restrictions = new HashSet<>( r); // the query result might be shared
                 break;
             }
             if ( restrictionsSet.size() > 1)
@@ -1249,25 +1329,42 @@ public interface DataPropertyExpression
 
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_DOMAIN, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDomainRestrictions().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Domain.super.readAxioms();
+                getDomainRestrictions().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainDataPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    for( Set<ApplyingRestriction> r : getOntologyReference().getDataDomainRestrictions( getInstance()))
-                        changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_DOMAIN, () -> {
+                try {
+                    if ( ! getDomainRestrictions().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainDataPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        for( Set<ApplyingRestriction> r : getOntologyReference().getDataDomainRestrictions( getInstance()))
+                            changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_DOMAIN, start);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 
@@ -1321,30 +1418,121 @@ public interface DataPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryRangeRestrictions(){
-            Restrictions set = new Restrictions(getOntologyReference().getDataRangeRestrictions(getInstance()));
+            Restrictions set = new Restrictions(DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_RANGE, () -> getOntologyReference().getDataRangeRestrictions( getInstance())));
             set.setSingleton( getRangeRestrictions().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_RANGE, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getRangeRestrictions().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Range.super.readAxioms();
+                getRangeRestrictions().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeDataPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    changes.remove(getOntologyReference().removeRestrictionAxiom(queryRangeRestrictions()));
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_RANGE, () -> {
+                try {
+                    if ( ! getRangeRestrictions().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeDataPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        changes.remove(getOntologyReference().removeRestrictionAxiom(queryRangeRestrictions()));
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_RANGE, start);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
         }
     }
 
+    /**
+     * The {@link DataProperty.Characteristic} expression for a {@link Descriptor} whose ground is {@link OWLDataProperty}.
+     * <p>
+     *     It specifies how to {@link #queryCharacteristics()} and {@link #writeAxioms()} for the
+     *     characteristics of the ground DataProperty (i.e.: {@link #getInstance()}), which can only be
+     *     {@link Characteristics.Type#FUNCTIONAL}; the other characteristics are not written.
+     *     The {@link #setFunctional()} and {@link #setNotFunctional()} setters only change {@link #getCharacteristics()},
+     *     and the related axiom is added or removed by {@link #writeAxioms()}, together with the other
+     *     changes of the descriptor. Only the asserted characteristics are queried.
+     * </p>
+     */
+    interface Characteristic
+            extends DataProperty.Characteristic<OWLReferences, OWLDataProperty, Characteristics.Type>,
+            DataPropertyExpression {
+
+        @Override // see super class for documentation
+        default void setFunctional(){
+            getCharacteristics().add( Characteristics.Type.FUNCTIONAL);
+        }
+        @Override // see super class for documentation
+        default void setNotFunctional(){
+            getCharacteristics().remove( Characteristics.Type.FUNCTIONAL);
+        }
+
+        @Override
+        Characteristics getCharacteristics();
+
+        @Override // see super class for documentation
+        default Characteristics queryCharacteristics(){
+            Characteristics set = new Characteristics( DescriptorQuery.query( this, QueryKind.DATA_PROPERTY_CHARACTERISTIC, () -> {
+                Set<Characteristics.Type> characteristics = new HashSet<>();
+                if ( getOntologyReference().getOWLOntology().functionalDataPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.FUNCTIONAL);
+                return characteristics;
+            }));
+            set.setSingleton( getCharacteristics().isSingleton());
+            return set;
+        }
+
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.DATA_PROPERTY_CHARACTERISTIC, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getCharacteristics().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = DataProperty.Characteristic.super.readAxioms();
+                getCharacteristics().setReadVersion( version);
+                return intents;
+            });
+        }
+
+        @Override // see super class for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.DATA_PROPERTY_CHARACTERISTIC, () -> {
+                try {
+                    if ( ! getCharacteristics().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<Characteristics.Type> to = synchroniseCharacteristicsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    if ( to.getToAdd().contains( Characteristics.Type.FUNCTIONAL))
+                        changes.add( getOntologyReference().addFunctionalDataProperty( getInstance()));
+                    if ( to.getToRemove().contains( Characteristics.Type.FUNCTIONAL))
+                        changes.add( getOntologyReference().removeFunctionalDataProperty( getInstance()));
+                    return getChangingIntent( to, changes, QueryKind.DATA_PROPERTY_CHARACTERISTIC, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
+        }
+    }
 }
@@ -0,0 +1,171 @@
+package it.emarolab.owloop.descriptor.construction.descriptorExpression;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The writer of the {@code Disjoint} expressions when the bulk disjointness is enabled
+ * (see {@link OntologyMonitor#enableBulkDisjointness(OWLReferences)}).
+ * <p>
+ *     It maintains the disjointness of a ground entity as a single n-ary axiom, which contains the ground,
+ *     the entities added to its {@link Axiom.EntitySet}, and the entities that are already asserted disjoint with it.
+ *     The entities of the set that are only inferred disjoint with the ground (e.g., the sub classes of an asserted
+ *     disjoint class) are not grouped, since the group would make them disjoint with each other, and their
+ *     disjointness with the ground is already entailed. The asserted axioms of the ground (either pairwise or n-ary)
+ *     whose entities are all in the new group are absorbed in it, while the asserted axioms that contain
+ *     a removed entity are split into the two axioms that keep all their other pairs disjoint.
+ *     A disjoint union is never absorbed, and it is replaced by its equivalence and its split disjointness
+ *     when one of its pairs is removed.
+ *     All the changes are applied through {@link OntologyMonitor#addAxiom(OWLReferences, OWLAxiom)} and
+ *     {@link OntologyMonitor#removeAxiom(OWLReferences, OWLAxiom)}, and an axiom that would be both removed
+ *     and added is not changed.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorExpression.DisjointGroups <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+final class DisjointGroups {
+
+    private DisjointGroups() {
+    }
+
+    /**
+     * Writes the disjointness of a ground entity as a single n-ary axiom.
+     * @param ontology the ontology to change.
+     * @param ground the ground entity of the descriptor.
+     * @param to the synchronisation intent of the descriptor's disjoint entities.
+     * @param groups the asserted axioms that state the disjointness of the ground, mapped to their members.
+     * @param disjoint a function that builds the disjoint axiom of the given members.
+     * @param remainder a function that returns the axiom that should be kept when an asserted axiom is removed,
+     *                  or {@code null} if the asserted axiom only states disjointness.
+     * @param <T> the type of the members of the disjoint axioms. Built-in entities (e.g., {@code owl:Nothing}) are not added to the group.
+     * @param <E> the type of the entities in the descriptor's {@link Axiom.EntitySet}.
+     * @return the changes applied (or buffered) to the ontology.
+     * @throws Exception if the axioms cannot be changed.
+     */
+    static <T extends OWLObject, E extends T> List<OWLOntologyChange> write(OWLReferences ontology, E ground,
+                                                          Axiom.EntitySet.SynchronisationIntent<E> to,
+                                                          Map<OWLAxiom, Set<T>> groups,
+                                                          Function<Set<T>, OWLAxiom> disjoint,
+                                                          Function<OWLAxiom, OWLAxiom> remainder) throws Exception {
+        Set<T> added = new HashSet<>( to.getToAdd());
+        added.removeIf( DisjointGroups::isBuiltIn); // e.g., owl:Nothing is disjoint with everything
+        boolean growing = ! added.isEmpty();
+        Set<T> asserted = new HashSet<>();
+        for ( Set<T> members : groups.values())
+            if ( members.contains( ground))
+                asserted.addAll( members);
+        Set<T> group = new HashSet<>( added);
+        for ( E unchanged : to.getUnchanged())
+            if ( asserted.contains( unchanged)) // the inferred disjointness is not grouped
+                group.add( unchanged);
+        group.removeIf( DisjointGroups::isBuiltIn);
+        group.add( ground);
+
+        Set<OWLAxiom> removing = new LinkedHashSet<>();
+        Set<OWLAxiom> adding = new LinkedHashSet<>();
+        for ( Map.Entry<OWLAxiom, Set<T>> entry : groups.entrySet()) {
+            Set<T> members = entry.getValue();
+            if ( ! members.contains( ground))
+                continue;
+            Set<T> removed = new HashSet<>( members);
+            removed.retainAll( to.getToRemove());
+            OWLAxiom kept = remainder.apply( entry.getKey());
+            if ( removed.isEmpty()) {
+                if ( growing && kept == null && group.containsAll( members))
+                    removing.add( entry.getKey()); // absorbed in the new group
+                continue;
+            }
+            removing.add( entry.getKey());
+            if ( kept != null)
+                adding.add( kept);
+            // split the axiom in order to keep all its pairs but the ones between the ground and the removed members
+            Set<T> withGround = new HashSet<>( members);
+            withGround.removeAll( removed);
+            if ( withGround.size() > 1 && ! ( growing && group.containsAll( withGround)))
+                adding.add( disjoint.apply( withGround));
+            Set<T> withoutGround = new HashSet<>( members);
+            withoutGround.remove( ground);
+            if ( withoutGround.size() > 1)
+                adding.add( disjoint.apply( withoutGround));
+        }
+        if ( growing && group.size() > 1)
+            adding.add( disjoint.apply( group));
+
+        Set<OWLAxiom> unchanged = new HashSet<>( removing);
+        unchanged.retainAll( adding);
+        removing.removeAll( unchanged);
+        adding.removeAll( unchanged);
+
+        List<OWLOntologyChange> changes = new ArrayList<>();
+        for ( OWLAxiom axiom : removing)
+            changes.add( OntologyMonitor.removeAxiom( ontology, axiom));
+        for ( OWLAxiom axiom : adding)
+            changes.add( OntologyMonitor.addAxiom( ontology, axiom));
+        return changes;
+    }
+
+    private static boolean isBuiltIn(OWLObject member){
+        return member instanceof OWLEntity && ((OWLEntity) member).isBuiltIn();
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param cl a class.
+     * @return the asserted disjoint classes and disjoint union axioms that contain the given class, mapped to their members.
+     */
+    static Map<OWLAxiom, Set<OWLClassExpression>> classGroups(OWLReferences ontology, OWLClass cl){
+        Map<OWLAxiom, Set<OWLClassExpression>> groups = new HashMap<>();
+        ontology.getOWLOntology().disjointClassesAxioms( cl).forEach( axiom ->
+                groups.put( axiom, axiom.classExpressions().collect( Collectors.toSet())));
+        ontology.getOWLOntology().referencingAxioms( cl).filter( axiom -> axiom instanceof OWLDisjointUnionAxiom)
+                .forEach( axiom -> groups.put( axiom, ((OWLDisjointUnionAxiom) axiom).classExpressions().collect( Collectors.toSet())));
+        return groups;
+    }
+
+    /**
+     * @param axiom an asserted axiom that is removed.
+     * @return the equivalence stated by a disjoint union axiom, or {@code null} for the other axioms.
+     */
+    static OWLAxiom classRemainder(OWLAxiom axiom){
+        if ( axiom instanceof OWLDisjointUnionAxiom)
+            return ((OWLDisjointUnionAxiom) axiom).getOWLEquivalentClassesAxiom();
+        return null;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property an object property.
+     * @return the asserted disjoint object properties axioms that contain the given property, mapped to their members.
+     */
+    static Map<OWLAxiom, Set<OWLObjectPropertyExpression>> objectPropertyGroups(OWLReferences ontology, OWLObjectProperty property){
+        Map<OWLAxiom, Set<OWLObjectPropertyExpression>> groups = new HashMap<>();
+        ontology.getOWLOntology().disjointObjectPropertiesAxioms( property).forEach( axiom ->
+                groups.put( axiom, axiom.properties().collect( Collectors.toSet())));
+        return groups;
+    }
+
+    /**
+     * @param ontology the ontology to query.
+     * @param property a data property.
+     * @return the asserted disjoint data properties axioms that contain the given property, mapped to their members.
+     */
+    static Map<OWLAxiom, Set<OWLDataPropertyExpression>> dataPropertyGroups(OWLReferences ontology, OWLDataProperty property){
+        Map<OWLAxiom, Set<OWLDataPropertyExpression>> groups = new HashMap<>();
+        ontology.getOWLOntology().disjointDataPropertiesAxioms( property).forEach( axiom ->
+                groups.put( axiom, axiom.properties().collect( Collectors.toSet())));
+        return groups;
+    }
+}
@@ -4,8 +4,12 @@ import it.emarolab.amor.owlInterface.DataPropertyRelations;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.ObjectPropertyRelations;
 import it.emarolab.owloop.core.Individual;
+import it.emarolab.owloop.core.Metrics;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.*;
 
 import java.util.*;
@@ -110,27 +114,44 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Classes queryTypes(){
-            Classes set = new Classes(getOntologyReference().getIndividualClasses(getInstance()));
+            Classes set = new Classes(DescriptorQuery.query( this, QueryKind.INDIVIDUAL_TYPE, () -> getOntologyReference().getIndividualClasses( getInstance())));
             set.setSingleton( getTypes().isSingleton());
             return set;
         }
 
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.INDIVIDUAL_TYPE, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getTypes().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Individual.Type.super.readAxioms();
+                getTypes().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLClass> to = synchroniseTypesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.INDIVIDUAL_TYPE, () -> {
+                try {
+                    if ( ! getTypes().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLClass> to = synchroniseTypesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (OWLClass a : to.getToAdd())
+                        changes.add(getOntologyReference().addIndividualB2Class(getInstance(), a));
+                    for (OWLClass b : to.getToRemove())
+                        changes.add(getOntologyReference().removeIndividualB2Class(getInstance(), b));
+                    return getChangingIntent( to, changes, QueryKind.INDIVIDUAL_TYPE, start);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLClass a : to.getToAdd())
-                    changes.add(getOntologyReference().addIndividualB2Class(getInstance(), a));
-                for (OWLClass b : to.getToRemove())
-                    changes.add(getOntologyReference().removeIndividualB2Class(getInstance(), b));
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -195,36 +216,53 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Individuals queryDisjointIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getDisjointIndividuals(getInstance()));
+            Individuals set = new Individuals(DescriptorQuery.query( this, QueryKind.INDIVIDUAL_DISJOINT, () -> getOntologyReference().getDisjointIndividuals( getInstance())));
             set.remove( getInstance());
             set.setSingleton( getDisjointIndividuals().isSingleton());
             return set;
         }
 
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.INDIVIDUAL_DISJOINT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDisjointIndividuals().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Individual.Disjoint.super.readAxioms();
+                getDisjointIndividuals().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseDisjointIndividualsToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.INDIVIDUAL_DISJOINT, () -> {
+                try {
+                    if ( ! getDisjointIndividuals().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseDisjointIndividualsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLNamedIndividual a : to.getToAdd()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeDisjointIndividuals( s));
+                    }
+                    for( OWLNamedIndividual r : to.getToRemove()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeDisjointIndividuals( s));
+                    }
+                    return getChangingIntent( to, changes, QueryKind.INDIVIDUAL_DISJOINT, start);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLNamedIndividual a : to.getToAdd()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeDisjointIndividuals( s));
                 }
-                for( OWLNamedIndividual r : to.getToRemove()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointIndividuals( s));
-                }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -289,36 +327,53 @@ public interface IndividualExpression
 
         @Override // see super classes for documentation
         default Individuals queryEquivalentIndividuals(){
-            Individuals set = new Individuals(getOntologyReference().getEquivalentIndividuals(getInstance()));
+            Individuals set = new Individuals(DescriptorQuery.query( this, QueryKind.INDIVIDUAL_EQUIVALENT, () -> getOntologyReference().getEquivalentIndividuals( getInstance())));
             set.remove( getInstance());
             set.setSingleton( getEquivalentIndividuals().isSingleton());
             return set;
         }
 
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.INDIVIDUAL_EQUIVALENT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getEquivalentIndividuals().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Individual.Equivalent.super.readAxioms();
+                getEquivalentIndividuals().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super classes for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseEquivalentIndividualsToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.INDIVIDUAL_EQUIVALENT, () -> {
+                try {
+                    if ( ! getEquivalentIndividuals().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLNamedIndividual> to = synchroniseEquivalentIndividualsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLNamedIndividual a : to.getToAdd()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeEquivalentIndividuals( s));
+                    }
+                    for( OWLNamedIndividual r : to.getToRemove()){
+                        Set<OWLNamedIndividual> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentIndividuals( s));
+                    }
+                    return getChangingIntent( to, changes, QueryKind.INDIVIDUAL_EQUIVALENT, start);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLNamedIndividual a : to.getToAdd()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeEquivalentIndividuals( s));
                 }
-                for( OWLNamedIndividual r : to.getToRemove()){
-                    Set<OWLNamedIndividual> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentIndividuals( s));
-                }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -618,38 +673,147 @@ public interface IndividualExpression
         default DataLinkSet queryDataProperties(){
             DataLinkSet dataSet = new DataLinkSet();
             dataSet.setSingleton( getDataProperties().isSingleton());
-            for (DataPropertyRelations r :  getOntologyReference().getDataPropertyB2Individual(getInstance())){
+            for (DataPropertyRelations r :  DescriptorQuery.query( this, QueryKind.INDIVIDUAL_DATA_LINK, () -> getOntologyReference().getDataPropertyB2Individual( getInstance()))){
                 DataLinks data = new DataLinks( r.getProperty());
                 data.getValues().addAll( r.getValues());
-                for (DataLinks w : getDataProperties())
-                    if ( data.equals( w)){
-                        data.getValues().setSingleton( w.getValues().isSingleton());
-                        break;
-                    }
+                DataLinks w = getDataProperties().getExpressionEntity( r.getProperty());
+                if ( data.equals( w))
+                    data.getValues().setSingleton( w.getValues().isSingleton());
                 dataSet.add( data);
             }
             return dataSet;
         }
 
-        @Override // see super classes for documentation
-        default List<MappingIntent> writeAxioms(){
+        /**
+         * It is the selective version of {@link #readAxioms()}, which synchronises only the given data properties
+         * (through {@link #queryDataProperties(Collection)}) while the other elements of {@link #getDataProperties()} are not changed.
+         * Use it when only few data properties of the ground individual are needed.
+         * @param properties the data properties to read.
+         * @return the changes made in {@link #getDataProperties()} during the reading.
+         */
+        default List<MappingIntent> readDataPropertyAxioms(Collection<OWLDataProperty> properties){
             try {
-                EntitySet.SynchronisationIntent<DataLinks> to = synchroniseDataPropertiesToExpressionAxioms();
-                if ( to == null)
-                    return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (DataLinks a : to.getToAdd())
-                    for (OWLLiteral l : a.getValues())
-                        changes.add(getOntologyReference().addDataPropertyB2Individual(getInstance(), a.getExpression(), l));
-                for (DataLinks r : to.getToRemove())
-                    for (OWLLiteral l : r.getValues())
-                        changes.add(getOntologyReference().removeDataPropertyB2Individual(getInstance(), r.getExpression(), l));
-                return getChangingIntent(to, changes);
-            }catch (Exception e){
+                EntitySet.SynchronisationIntent<DataLinks> from = synchroniseDataPropertiesFromExpressionAxioms( properties);
+                if ( from != null) {
+                    getDataProperties().addAll( from.getToAdd());
+                    getDataProperties().removeAll( from.getToRemove());
+                }
+                return getIntent( from);
+            } catch ( Exception e){
                 e.printStackTrace();
                 return getIntent( null);
             }
         }
+        /**
+         * It is an helper that just calls {@link #readDataPropertyAxioms(Collection)}
+         * for the data properties with the given names.
+         * @param propertyNames the names of the data properties to read.
+         * @return the changes made in {@link #getDataProperties()} during the reading.
+         */
+        default List<MappingIntent> readDataPropertyAxioms(String... propertyNames){
+            Set<OWLDataProperty> properties = new HashSet<>();
+            for ( String name : propertyNames)
+                properties.add( getOntologyReference().getOWLDataProperty( name));
+            return readDataPropertyAxioms( properties);
+        }
+
+        /**
+         * Queries the values of the given data properties applied to the ground individual.
+         * Differently from {@link #queryDataProperties()}, it performs a targeted query for each given property,
+         * instead of retrieving all the data properties of the individual.
+         * @param properties the data properties to query.
+         * @return a new {@link DataLinkSet} containing only the given data properties.
+         */
+        default DataLinkSet queryDataProperties(Collection<OWLDataProperty> properties){
+            DataLinkSet set = new DataLinkSet();
+            set.setSingleton( getDataProperties().isSingleton());
+            for ( OWLDataProperty p : properties){
+                Set<OWLLiteral> values = DescriptorQuery.query( this, QueryKind.INDIVIDUAL_DATA_LINK, p, () -> getOntologyReference().getDataPropertyB2Individual( getInstance(), p));
+                if ( values == null || values.isEmpty())
+                    continue;
+                DataLinks l = new DataLinks( p);
+                l.getValues().addAll( values);
+                DataLinks w = getDataProperties().getExpressionEntity( p);
+                if ( l.equals( w))
+                    l.getValues().setSingleton( w.getValues().isSingleton());
+                set.add( l);
+            }
+            return set;
+        }
+
+        /**
+         * It calls {@link #readDataPropertyAxioms(Collection)} for the data properties that
+         * are already in {@link #getDataProperties()}, in order to update their values through targeted queries.
+         * Other data properties that might be applied to the ground individual are not considered.
+         * @return the changes made in {@link #getDataProperties()} during the reading.
+         */
+        default List<MappingIntent> readKnownDataPropertyAxioms(){
+            Set<OWLDataProperty> properties = new HashSet<>();
+            for ( DataLinks l : getDataProperties())
+                properties.add( l.getExpression());
+            return readDataPropertyAxioms( properties);
+        }
+
+        /**
+         * It calls {@link EntitySet#synchroniseFrom(EntitySet)} between the elements of {@link #getDataProperties()} related
+         * to the given data properties and {@link #queryDataProperties(Collection)}. This should be done by
+         * {@link #readDataPropertyAxioms(Collection)}.
+         * @param properties the data properties to synchronise.
+         * @return the changes to be done to synchronise the given data properties of {@code this} structure
+         * with the ones of an OWL individual.
+         */
+        default EntitySet.SynchronisationIntent<DataLinks> synchroniseDataPropertiesFromExpressionAxioms(Collection<OWLDataProperty> properties){
+            try{
+                DataLinkSet selected = new DataLinkSet();
+                selected.setSingleton( getDataProperties().isSingleton());
+                for ( OWLDataProperty p : properties) {
+                    DataLinks l = getDataProperties().getExpressionEntity( p);
+                    if ( l != null)
+                        selected.add( l);
+                }
+                return selected.synchroniseFrom( queryDataProperties( properties));
+            } catch ( Exception e){
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.INDIVIDUAL_DATA_LINK, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDataProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Individual.DataLink.super.readAxioms();
+                getDataProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
+        @Override // see super classes for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.INDIVIDUAL_DATA_LINK, () -> {
+                try {
+                    if ( ! getDataProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<DataLinks> to = synchroniseDataPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (DataLinks a : to.getToAdd())
+                        for (OWLLiteral l : a.getValues())
+                            changes.add(getOntologyReference().addDataPropertyB2Individual(getInstance(), a.getExpression(), l));
+                    for (DataLinks r : to.getToRemove())
+                        for (OWLLiteral l : r.getValues())
+                            changes.add(getOntologyReference().removeDataPropertyB2Individual(getInstance(), r.getExpression(), l));
+                    return getChangingIntent( to, changes, QueryKind.INDIVIDUAL_DATA_LINK, start);
+                }catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
+        }
     }
 
     /**
@@ -937,37 +1101,146 @@ public interface IndividualExpression
         default ObjectLinkSet queryObjectProperties(){
             ObjectLinkSet objectSet = new ObjectLinkSet();
             objectSet.setSingleton( getObjectProperties().isSingleton());
-            for (ObjectPropertyRelations r :  getOntologyReference().getObjectPropertyB2Individual(getInstance())){
+            for (ObjectPropertyRelations r :  DescriptorQuery.query( this, QueryKind.INDIVIDUAL_OBJECT_LINK, () -> getOntologyReference().getObjectPropertyB2Individual( getInstance()))){
                 ObjectLinks object = new ObjectLinks( r.getProperty());
                 object.getValues().addAll( r.getValues());
-                for (ObjectLinks w : getObjectProperties())
-                    if ( object.equals( w)){
-                        object.getValues().setSingleton( w.getValues().isSingleton());
-                        break;
-                    }
+                ObjectLinks w = getObjectProperties().getExpressionEntity( r.getProperty());
+                if ( object.equals( w))
+                    object.getValues().setSingleton( w.getValues().isSingleton());
                 objectSet.add( object);
             }
             return objectSet;
         }
 
-        @Override // see super classes for documentation
-        default List<MappingIntent> writeAxioms(){
+        /**
+         * It is the selective version of {@link #readAxioms()}, which synchronises only the given object properties
+         * (through {@link #queryObjectProperties(Collection)}) while the other elements of {@link #getObjectProperties()} are not changed.
+         * Use it when only few object properties of the ground individual are needed.
+         * @param properties the object properties to read.
+         * @return the changes made in {@link #getObjectProperties()} during the reading.
+         */
+        default List<MappingIntent> readObjectPropertyAxioms(Collection<OWLObjectProperty> properties){
             try {
-                EntitySet.SynchronisationIntent<ObjectLinks> to = synchroniseObjectPropertiesToExpressionAxioms();
-                if ( to == null)
-                    return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (ObjectLinks a : to.getToAdd())
-                    for (OWLNamedIndividual l : a.getValues())
-                        changes.add(getOntologyReference().addObjectPropertyB2Individual(getInstance(), a.getExpression(), l));
-                for (ObjectLinks r : to.getToRemove())
-                    for (OWLNamedIndividual l : r.getValues())
-                        changes.add(getOntologyReference().removeObjectPropertyB2Individual(getInstance(), r.getExpression(), l));
-                return getChangingIntent(to, changes);
+                EntitySet.SynchronisationIntent<ObjectLinks> from = synchroniseObjectPropertiesFromExpressionAxioms( properties);
+                if ( from != null) {
+                    getObjectProperties().addAll( from.getToAdd());
+                    getObjectProperties().removeAll( from.getToRemove());
+                }
+                return getIntent( from);
             } catch ( Exception e){
                 e.printStackTrace();
                 return getIntent( null);
             }
         }
+        /**
+         * It is an helper that just calls {@link #readObjectPropertyAxioms(Collection)}
+         * for the object properties with the given names.
+         * @param propertyNames the names of the object properties to read.
+         * @return the changes made in {@link #getObjectProperties()} during the reading.
+         */
+        default List<MappingIntent> readObjectPropertyAxioms(String... propertyNames){
+            Set<OWLObjectProperty> properties = new HashSet<>();
+            for ( String name : propertyNames)
+                properties.add( getOntologyReference().getOWLObjectProperty( name));
+            return readObjectPropertyAxioms( properties);
+        }
+
+        /**
+         * Queries the values of the given object properties applied to the ground individual.
+         * Differently from {@link #queryObjectProperties()}, it performs a targeted query for each given property,
+         * instead of retrieving all the object properties of the individual.
+         * @param properties the object properties to query.
+         * @return a new {@link ObjectLinkSet} containing only the given object properties.
+         */
+        default ObjectLinkSet queryObjectProperties(Collection<OWLObjectProperty> properties){
+            ObjectLinkSet set = new ObjectLinkSet();
+            set.setSingleton( getObjectProperties().isSingleton());
+            for ( OWLObjectProperty p : properties){
+                Set<OWLNamedIndividual> values = DescriptorQuery.query( this, QueryKind.INDIVIDUAL_OBJECT_LINK, p, () -> getOntologyReference().getObjectPropertyB2Individual( getInstance(), p));
+                if ( values == null || values.isEmpty())
+                    continue;
+                ObjectLinks l = new ObjectLinks( p);
+                l.getValues().addAll( values);
+                ObjectLinks w = getObjectProperties().getExpressionEntity( p);
+                if ( l.equals( w))
+                    l.getValues().setSingleton( w.getValues().isSingleton());
+                set.add( l);
+            }
+            return set;
+        }
+
+        /**
+         * It calls {@link #readObjectPropertyAxioms(Collection)} for the object properties that
+         * are already in {@link #getObjectProperties()}, in order to update their values through targeted queries.
+         * Other object properties that might be applied to the ground individual are not considered.
+         * @return the changes made in {@link #getObjectProperties()} during the reading.
+         */
+        default List<MappingIntent> readKnownObjectPropertyAxioms(){
+            Set<OWLObjectProperty> properties = new HashSet<>();
+            for ( ObjectLinks l : getObjectProperties())
+                properties.add( l.getExpression());
+            return readObjectPropertyAxioms( properties);
+        }
+
+        /**
+         * It calls {@link EntitySet#synchroniseFrom(EntitySet)} between the elements of {@link #getObjectProperties()} related
+         * to the given object properties and {@link #queryObjectProperties(Collection)}. This should be done by
+         * {@link #readObjectPropertyAxioms(Collection)}.
+         * @param properties the object properties to synchronise.
+         * @return the changes to be done to synchronise the given object properties of {@code this} structure
+         * with the ones of an OWL individual.
+         */
+        default EntitySet.SynchronisationIntent<ObjectLinks> synchroniseObjectPropertiesFromExpressionAxioms(Collection<OWLObjectProperty> properties){
+            try{
+                ObjectLinkSet selected = new ObjectLinkSet();
+                selected.setSingleton( getObjectProperties().isSingleton());
+                for ( OWLObjectProperty p : properties) {
+                    ObjectLinks l = getObjectProperties().getExpressionEntity( p);
+                    if ( l != null)
+                        selected.add( l);
+                }
+                return selected.synchroniseFrom( queryObjectProperties( properties));
+            } catch ( Exception e){
+                e.printStackTrace();
+                return null;
+            }
+        }
+
+        @Override // see super classes for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.INDIVIDUAL_OBJECT_LINK, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getObjectProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = Individual.ObjectLink.super.readAxioms();
+                getObjectProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
+        @Override // see super classes for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.INDIVIDUAL_OBJECT_LINK, () -> {
+                try {
+                    if ( ! getObjectProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<ObjectLinks> to = synchroniseObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (ObjectLinks a : to.getToAdd())
+                        for (OWLNamedIndividual l : a.getValues())
+                            changes.add(getOntologyReference().addObjectPropertyB2Individual(getInstance(), a.getExpression(), l));
+                    for (ObjectLinks r : to.getToRemove())
+                        for (OWLNamedIndividual l : r.getValues())
+                            changes.add(getOntologyReference().removeObjectPropertyB2Individual(getInstance(), r.getExpression(), l));
+                    return getChangingIntent( to, changes, QueryKind.INDIVIDUAL_OBJECT_LINK, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
+        }
     }
 }
@@ -4,9 +4,14 @@ import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.SemanticRestriction;
 import it.emarolab.amor.owlInterface.SemanticRestriction.*;
 import it.emarolab.owloop.core.ObjectProperty;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Characteristics;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.*;
 
 import java.util.ArrayList;
@@ -54,6 +59,7 @@ public interface ObjectPropertyExpression
     }
 
 
+    // the characteristics are changed in the ontology right away, see ObjectPropertyExpression.Characteristic to synchronise them
     @Override // see super class for documentation
     default void setFunctional(){
         getOntologyReference().addFunctionalObjectProperty( getInstance());
@@ -179,27 +185,44 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryInverseObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getInverseProperty(getInstance()));
+            ObjectProperties set = new ObjectProperties(DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_INVERSE, () -> getOntologyReference().getInverseProperty( getInstance())));
             set.setSingleton( getInverseObjectProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_INVERSE, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getInverseObjectProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Inverse.super.readAxioms();
+                getInverseObjectProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseInverseObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_INVERSE, () -> {
+                try {
+                    if ( ! getInverseObjectProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseInverseObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for (OWLObjectProperty a : to.getToAdd())
+                        changes.add(getOntologyReference().addObjectPropertyInverseOf(getInstance(), a));
+                    for (OWLObjectProperty r : to.getToRemove())
+                        changes.add(getOntologyReference().removeObjectPropertyInverseOf(getInstance(), r));
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_INVERSE, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for (OWLObjectProperty a : to.getToAdd())
-                    changes.add(getOntologyReference().addObjectPropertyInverseOf(getInstance(), a));
-                for (OWLObjectProperty r : to.getToRemove())
-                    changes.add(getOntologyReference().removeObjectPropertyInverseOf(getInstance(), r));
-                return getChangingIntent(to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -264,37 +287,60 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryDisjointObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getDisjointObjectProperty(getInstance()));
+            ObjectProperties set = new ObjectProperties(DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_DISJOINT, () -> getOntologyReference().getDisjointObjectProperty( getInstance())));
             set.remove( getInstance());
             set.remove( getOntologyReference().getOWLFactory().getOWLBottomObjectProperty());
             set.setSingleton( getDisjointObjectProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_DISJOINT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDisjointObjectProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Disjoint.super.readAxioms();
+                getDisjointObjectProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseDisjointObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_DISJOINT, () -> {
+                try{
+                    if ( ! getDisjointObjectProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseDisjointObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    if ( OntologyMonitor.isBulkDisjointness( getOntologyReference())) // a single n-ary axiom for the whole group
+                        changes.addAll( DisjointGroups.write( getOntologyReference(), getInstance(), to,
+                                DisjointGroups.objectPropertyGroups( getOntologyReference(), getInstance()),
+                                s -> getOntologyReference().getOWLFactory().getOWLDisjointObjectPropertiesAxiom( s), a -> null));
+                    else {
+                        for( OWLObjectProperty a : to.getToAdd()){
+                            Set<OWLObjectProperty> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( a);
+                            changes.add( getOntologyReference().makeDisjointObjectProperties( s));
+                        }
+                        for( OWLObjectProperty r : to.getToRemove()){
+                            Set<OWLObjectProperty> s = new HashSet<>();
+                            s.add( getInstance());
+                            s.add( r);
+                            changes.add( getOntologyReference().removeDisjointObjectProperties( s));
+                        }
+                    }
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_DISJOINT, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeDisjointObjectProperties( s));
                 }
-                for( OWLObjectProperty r : to.getToRemove()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeDisjointObjectProperties( s));
-                }
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -359,36 +405,53 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties queryEquivalentObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getEquivalentObjectProperty(getInstance()));
+            ObjectProperties set = new ObjectProperties(DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_EQUIVALENT, () -> getOntologyReference().getEquivalentObjectProperty( getInstance())));
             set.remove( getInstance());
             set.setSingleton( getEquivalentObjectProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_EQUIVALENT, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getEquivalentObjectProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Equivalent.super.readAxioms();
+                getEquivalentObjectProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseEquivalentObjectPropertiesToExpressionAxioms();
-                if( to == null)
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_EQUIVALENT, () -> {
+                try {
+                    if ( ! getEquivalentObjectProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseEquivalentObjectPropertiesToExpressionAxioms();
+                    if( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLObjectProperty a : to.getToAdd()){
+                        Set<OWLObjectProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( a);
+                        changes.add( getOntologyReference().makeEquivalentObjectProperties( s));
+                    }
+                    for( OWLObjectProperty r : to.getToRemove()){
+                        Set<OWLObjectProperty> s = new HashSet<>();
+                        s.add( getInstance());
+                        s.add( r);
+                        changes.add( getOntologyReference().removeEquivalentObjectProperties( s));
+                    }
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_EQUIVALENT, start);
+                } catch (Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( a);
-                    changes.add( getOntologyReference().makeEquivalentObjectProperties( s));
-                }
-                for( OWLObjectProperty r : to.getToRemove()){
-                    Set<OWLObjectProperty> s = new HashSet<>();
-                    s.add( getInstance());
-                    s.add( r);
-                    changes.add( getOntologyReference().removeEquivalentObjectProperties( s));
                 }
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+            });
         }
     }
 
@@ -453,27 +516,44 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties querySubObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getSubObjectPropertyOf(getInstance()));
+            ObjectProperties set = new ObjectProperties(DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_SUB, () -> getOntologyReference().getSubObjectPropertyOf( getInstance())));
             set.setSingleton( getSubObjectProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_SUB, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getSubObjectProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Sub.super.readAxioms();
+                getSubObjectProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSubObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_SUB, () -> {
+                try{
+                    if ( ! getSubObjectProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSubObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLObjectProperty a : to.getToAdd())
+                        changes.add( getOntologyReference().addSubObjectPropertyOf( getInstance(), a));
+                    for( OWLObjectProperty r : to.getToRemove())
+                        changes.add( getOntologyReference().removeSubObjectPropertyOf( getInstance(), r));
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_SUB, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd())
-                    changes.add( getOntologyReference().addSubObjectPropertyOf( getInstance(), a));
-                for( OWLObjectProperty r : to.getToRemove())
-                    changes.add( getOntologyReference().removeSubObjectPropertyOf( getInstance(), r));
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -539,27 +619,44 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default ObjectProperties querySuperObjectProperties(){
-            ObjectProperties set = new ObjectProperties(getOntologyReference().getSuperObjectPropertyOf(getInstance()));
+            ObjectProperties set = new ObjectProperties(DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_SUPER, () -> getOntologyReference().getSuperObjectPropertyOf( getInstance())));
             set.setSingleton( getSuperObjectProperties().isSingleton());
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_SUPER, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getSuperObjectProperties().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Super.super.readAxioms();
+                getSuperObjectProperties().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try{
-                EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSuperObjectPropertiesToExpressionAxioms();
-                if ( to == null)
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_SUPER, () -> {
+                try{
+                    if ( ! getSuperObjectProperties().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<OWLObjectProperty> to = synchroniseSuperObjectPropertiesToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for( OWLObjectProperty a : to.getToAdd())
+                        changes.add( getOntologyReference().addSubObjectPropertyOf( a, getInstance()));
+                    for( OWLObjectProperty r : to.getToRemove())
+                        changes.add( getOntologyReference().removeSubObjectPropertyOf( r, getInstance()));
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_SUPER, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
                     return getIntent( null);
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                for( OWLObjectProperty a : to.getToAdd())
-                    changes.add( getOntologyReference().addSubObjectPropertyOf( a, getInstance()));
-                for( OWLObjectProperty r : to.getToRemove())
-                    changes.add( getOntologyReference().removeSubObjectPropertyOf( r, getInstance()));
-                return getChangingIntent( to, changes);
-            } catch ( Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                }
+            });
         }
     }
 
@@ -1364,10 +1461,10 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryDomainRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet = getOntologyReference().getObjectDomainRestrictions(getInstance());
+            Set< Set<ApplyingRestriction>> restrictionsSet = DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_DOMAIN, () -> getOntologyReference().getObjectDomainRestrictions( getInstance()));
             Set<ApplyingRestriction> restrictions = new HashSet<>();
             for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
+                restrictions = new HashSet<>( r); // the query result might be shared
                 break;
             }
             if ( restrictionsSet.size() > 1)
@@ -1385,26 +1482,43 @@ public interface ObjectPropertyExpression
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_DOMAIN, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getDomainRestrictions().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Domain.super.readAxioms();
+                getDomainRestrictions().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainObjectPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    for( Set<ApplyingRestriction> r : getOntologyReference().getObjectDomainRestrictions( getInstance()))
-                        changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
-                }
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_DOMAIN, () -> {
+                try {
+                    if ( ! getDomainRestrictions().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseDomainObjectPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        for( Set<ApplyingRestriction> r : getOntologyReference().getObjectDomainRestrictions( getInstance()))
+                            changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_DOMAIN, start);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
 
+            });
         }
     }
 
@@ -2210,10 +2324,10 @@ public interface ObjectPropertyExpression
 
         @Override // see super class for documentation
         default Restrictions queryRangeRestrictions(){
-            Set< Set<ApplyingRestriction>> restrictionsSet =  getOntologyReference().getObjectRangeRestrictions(getInstance());
+            Set< Set<ApplyingRestriction>> restrictionsSet =  DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_RANGE, () -> getOntologyReference().getObjectRangeRestrictions( getInstance()));
             Set<ApplyingRestriction> restrictions = new HashSet<>();
             for ( Set<ApplyingRestriction> r : restrictionsSet){
-                restrictions = r;
+                restrictions = new HashSet<>( r); // the query result might be shared
                 break;
             }
             if ( restrictionsSet.size() > 1)
@@ -2231,31 +2345,214 @@ public interface ObjectPropertyExpression
             return set;
         }
 
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_RANGE, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getRangeRestrictions().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Range.super.readAxioms();
+                getRangeRestrictions().setReadVersion( version);
+                return intents;
+            });
+        }
+
         @Override // see super class for documentation
         default List<MappingIntent> writeAxioms(){
-            try {
-                EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeObjectPropertyToExpressionAxioms();
-                List<OWLOntologyChange> changes = new ArrayList<>();
-                // not optimised: it does not sync only the changes but it removes and re-add the axiom
-                if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
-                    for( Set<ApplyingRestriction> r : getOntologyReference().getObjectRangeRestrictions( getInstance()))
-                        changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
-                    HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
-                    copy.addAll( to.getUnchanged());
-                    changes.add(getOntologyReference().addRestrictionAxiom( copy));
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_RANGE, () -> {
+                try {
+                    if ( ! getRangeRestrictions().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<SemanticRestriction> to = synchroniseRangeObjectPropertyToExpressionAxioms();
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    // not optimised: it does not sync only the changes but it removes and re-add the axiom
+                    if ( ! to.getToAdd().isEmpty() || ! to.getToRemove().isEmpty()) {
+                        for( Set<ApplyingRestriction> r : getOntologyReference().getObjectRangeRestrictions( getInstance()))
+                            changes.add(getOntologyReference().removeRestrictionAxiom ( r)); // remove all
+                        HashSet<SemanticRestriction> copy = new HashSet<>(to.getToAdd());
+                        copy.addAll( to.getUnchanged());
+                        changes.add(getOntologyReference().addRestrictionAxiom( copy));
+                    }
+
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_RANGE, start);
+                } catch (Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
                 }
+            });
+        }
+    }
 
-                return getChangingIntent(to, changes);
-            } catch (Exception e){
-                e.printStackTrace();
-                return getIntent( null);
-            }
+    /**
+     * The {@link ObjectProperty.Characteristic} expression for a {@link Descriptor} whose ground is {@link OWLObjectProperty}.
+     * <p>
+     *     It specifies how to {@link #queryCharacteristics()} and {@link #writeAxioms()} for the
+     *     characteristics of the ground ObjectProperty (i.e.: {@link #getInstance()}).
+     *     The characteristic setters (e.g., {@link #setFunctional()}) only change {@link #getCharacteristics()},
+     *     and the related axioms are added or removed by {@link #writeAxioms()}, together with the other
+     *     changes of the descriptor. Only the asserted characteristics are queried.
+     * </p>
+     */
+    interface Characteristic
+            extends ObjectProperty.Characteristic<OWLReferences, OWLObjectProperty, Characteristics.Type>,
+            ObjectPropertyExpression {
+
+        @Override // see super class for documentation
+        default void setFunctional(){
+            getCharacteristics().add( Characteristics.Type.FUNCTIONAL);
+        }
+        @Override // see super class for documentation
+        default void setNotFunctional(){
+            getCharacteristics().remove( Characteristics.Type.FUNCTIONAL);
+        }
+
+        @Override // see super class for documentation
+        default void setInverseFunctional(){
+            getCharacteristics().add( Characteristics.Type.INVERSE_FUNCTIONAL);
+        }
+        @Override // see super class for documentation
+        default void setNotInverseFunctional(){
+            getCharacteristics().remove( Characteristics.Type.INVERSE_FUNCTIONAL);
         }
 
+        @Override // see super class for documentation
+        default void setTransitive(){
+            getCharacteristics().add( Characteristics.Type.TRANSITIVE);
+        }
+        @Override // see super class for documentation
+        default void setNotTransitive(){
+            getCharacteristics().remove( Characteristics.Type.TRANSITIVE);
+        }
 
+        @Override // see super class for documentation
+        default void setSymmetric(){
+            getCharacteristics().add( Characteristics.Type.SYMMETRIC);
+        }
+        @Override // see super class for documentation
+        default void setNotSymmetric(){
+            getCharacteristics().remove( Characteristics.Type.SYMMETRIC);
+        }
 
+        @Override // see super class for documentation
+        default void setAsymmetric(){
+            getCharacteristics().add( Characteristics.Type.ASYMMETRIC);
+        }
+        @Override // see super class for documentation
+        default void setNotAsymmetric(){
+            getCharacteristics().remove( Characteristics.Type.ASYMMETRIC);
+        }
 
+        @Override // see super class for documentation
+        default void setReflexive(){
+            getCharacteristics().add( Characteristics.Type.REFLEXIVE);
+        }
+        @Override // see super class for documentation
+        default void setNotReflexive(){
+            getCharacteristics().remove( Characteristics.Type.REFLEXIVE);
+        }
 
-    }
+        @Override // see super class for documentation
+        default void setIrreflexive(){
+            getCharacteristics().add( Characteristics.Type.IRREFLEXIVE);
+        }
+        @Override // see super class for documentation
+        default void setNotIrreflexive(){
+            getCharacteristics().remove( Characteristics.Type.IRREFLEXIVE);
+        }
+
+        @Override
+        Characteristics getCharacteristics();
+
+        @Override // see super class for documentation
+        default Characteristics queryCharacteristics(){
+            Characteristics set = new Characteristics( DescriptorQuery.query( this, QueryKind.OBJECT_PROPERTY_CHARACTERISTIC, () -> {
+                OWLOntology ontology = getOntologyReference().getOWLOntology();
+                Set<Characteristics.Type> characteristics = new HashSet<>();
+                if ( ontology.functionalObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.FUNCTIONAL);
+                if ( ontology.inverseFunctionalObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.INVERSE_FUNCTIONAL);
+                if ( ontology.transitiveObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.TRANSITIVE);
+                if ( ontology.symmetricObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.SYMMETRIC);
+                if ( ontology.asymmetricObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.ASYMMETRIC);
+                if ( ontology.reflexiveObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.REFLEXIVE);
+                if ( ontology.irreflexiveObjectPropertyAxioms( getInstance()).findAny().isPresent())
+                    characteristics.add( Characteristics.Type.IRREFLEXIVE);
+                return characteristics;
+            }));
+            set.setSingleton( getCharacteristics().isSingleton());
+            return set;
+        }
+
+        @Override // see super class for documentation
+        default List<MappingIntent> readAxioms(){
+            return DescriptorQuery.read( this, QueryKind.OBJECT_PROPERTY_CHARACTERISTIC, () -> {
+                long version = OntologyMonitor.readVersion( this);
+                if ( getCharacteristics().isReadAt( version)) // nothing changed since the last reading
+                    return getIntent( null);
+                List<MappingIntent> intents = ObjectProperty.Characteristic.super.readAxioms();
+                getCharacteristics().setReadVersion( version);
+                return intents;
+            });
+        }
+
+        @Override // see super class for documentation
+        default List<MappingIntent> writeAxioms(){
+            return DescriptorQuery.write( this, QueryKind.OBJECT_PROPERTY_CHARACTERISTIC, () -> {
+                try {
+                    if ( ! getCharacteristics().isModified()) // nothing changed since the last synchronisation
+                        return getIntent( null);
+                    EntitySet.SynchronisationIntent<Characteristics.Type> to = synchroniseCharacteristicsToExpressionAxioms();
+                    if ( to == null)
+                        return getIntent( null);
+                    List<OWLOntologyChange> changes = new ArrayList<>();
+                    long start = Metrics.get().start();
+                    for ( Characteristics.Type a : to.getToAdd())
+                        changes.add( addCharacteristic( a));
+                    for ( Characteristics.Type r : to.getToRemove())
+                        changes.add( removeCharacteristic( r));
+                    return getChangingIntent( to, changes, QueryKind.OBJECT_PROPERTY_CHARACTERISTIC, start);
+                } catch ( Exception e){
+                    e.printStackTrace();
+                    return getIntent( null);
+                }
+            });
+        }
 
+        /**
+         * @param characteristic a characteristic to be added to the ground ObjectProperty.
+         * @return the change that adds the related axiom to the ontology.
+         */
+        default OWLOntologyChange addCharacteristic(Characteristics.Type characteristic){
+            switch ( characteristic) {
+                case FUNCTIONAL: return getOntologyReference().addFunctionalObjectProperty( getInstance());
+                case INVERSE_FUNCTIONAL: return getOntologyReference().addInverseFunctionalObjectProperty( getInstance());
+                case TRANSITIVE: return getOntologyReference().addTransitiveObjectProperty( getInstance());
+                case SYMMETRIC: return getOntologyReference().addSymmetricObjectProperty( getInstance());
+                case ASYMMETRIC: return getOntologyReference().addAsymmetricObjectProperty( getInstance());
+                case REFLEXIVE: return getOntologyReference().addReflexiveObjectProperty( getInstance());
+                default: return getOntologyReference().addIrreflexiveObjectProperty( getInstance());
+            }
+        }
+        /**
+         * @param characteristic a characteristic to be removed from the ground ObjectProperty.
+         * @return the change that removes the related axiom from the ontology.
+         */
+        default OWLOntologyChange removeCharacteristic(Characteristics.Type characteristic){
+            switch ( characteristic) {
+                case FUNCTIONAL: return getOntologyReference().removeFunctionalObjectProperty( getInstance());
+                case INVERSE_FUNCTIONAL: return getOntologyReference().removeInverseFunctionalObjectProperty( getInstance());
+                case TRANSITIVE: return getOntologyReference().removeTransitiveObjectProperty( getInstance());
+                case SYMMETRIC: return getOntologyReference().removeSymmetricObjectProperty( getInstance());
+                case ASYMMETRIC: return getOntologyReference().removeAsymmetricObjectProperty( getInstance());
+                case REFLEXIVE: return getOntologyReference().removeReflexiveObjectProperty( getInstance());
+                default: return getOntologyReference().removeIrreflexiveObjectProperty( getInstance());
+            }
+        }
+    }
 }
@@ -4,14 +4,25 @@ import com.clarkparsia.pellet.owlapi.PelletReasoner;
 import it.emarolab.amor.owlInterface.OWLReferences;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface;
 import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.OWLObject;
 
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * This abstract class describes common constructors and initialisations for
  * a specific {@link GroundInstance}.
  * All constructors fully initialise a new {@link Axiom.Ground} (i.e., set both an ontology and an instance).
  * By default, this class takes an ontology from a file and initialises the {@link PelletReasoner}
  * (If another {@link OWLReferences} is instantiated with the same ontoName then this ontology will be used.).
+ * It also implements the postponed reading for the descriptors that declare to be an {@link Axiom.LazyDescriptor},
+ * which should call {@link #readPostponedAxioms()} from all the getters of their state, and {@link #readingAxioms()}
+ * at the beginning of their {@code readAxioms()}.
+ * Finally, it allows reading only the asserted axioms, either always ({@link #setReadingAsserted(boolean)})
+ * or for a single call ({@link #readAssertedAxioms()}).
  *
  * <p>
  * <div style="text-align:center;"><small>
@@ -31,6 +42,9 @@ abstract public class DescriptorGround<J extends OWLObject>
     private static final boolean DEFAULT_AMOR_LOG = false;
 
     private GroundInstance<J> ground;
+    private volatile boolean readingPostponed = false;
+    private int lazyDepth = UNBOUNDED_DEPTH;
+    private volatile boolean readingAsserted = false;
 
     public DescriptorGround(J instance, OWLReferences onto) {
         setGround( getNewGround( onto, instance));
@@ -146,11 +160,103 @@ abstract public class DescriptorGround<J extends OWLObject>
         return ground;
     }
 
+    /**
+     * Reads only the axioms of the expressions of the given kinds, so that the queries for the other expressions are not performed.
+     * It should be overridden by the descriptors implementing more expressions, since by default it reads all the axioms
+     * through {@link #readAxioms()}.
+     * @param kinds the kinds of query (i.e., of expression) to read. The kinds of expressions not implemented by
+     *              {@code this} descriptor are ignored.
+     * @return the changes made in the {@link Axiom.EntitySet}s during the reading.
+     */
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        return readAxioms();
+    }
+
+    /**
+     * It calls {@link #readAxioms(Set)} with the given kinds of query.
+     * @param kind a kind of query (i.e., of expression) to read.
+     * @param kinds other kinds of query to read.
+     * @return the changes made in the {@link Axiom.EntitySet}s during the reading.
+     */
+    public List<MappingIntent> readAxioms(QueryKind kind, QueryKind... kinds) {
+        return readAxioms( EnumSet.of( kind, kinds));
+    }
+
+    /**
+     * Reads the axioms (as {@link #readAxioms()} does) from the asserted axioms of the ontology,
+     * without involving the reasoner (see {@link DescriptorQuery#readAsserted(java.util.function.Supplier)}).
+     * @return the changes made in the {@link Axiom.EntitySet}s during the reading.
+     */
+    public List<MappingIntent> readAssertedAxioms() {
+        return DescriptorQuery.readAsserted( this::readAxioms);
+    }
+
+    /**
+     * Sets whether the axioms of {@code this} descriptor are always read from the asserted axioms of the ontology,
+     * without involving the reasoner (see {@link DescriptorQuery#isReadingAsserted(Axiom.Descriptor)}).
+     * @param readingAsserted {@code true} to read only asserted axioms, {@code false} to query the reasoner (by default).
+     */
+    public void setReadingAsserted(boolean readingAsserted) {
+        this.readingAsserted = readingAsserted;
+    }
+
+    /**
+     * @return {@code true} if the axioms of {@code this} descriptor are always read from the asserted axioms of the ontology.
+     */
+    public boolean isReadingAsserted() {
+        return readingAsserted;
+    }
+
     @Override // see super class for documentation
     public void reason() {
         getGround().reason();
     }
 
+    /**
+     * Implements {@link Axiom.LazyDescriptor#readAxiomsLazily(int)} for the extending descriptors.
+     * @param depth the number of levels that can be lazily built starting from {@code this} descriptor.
+     */
+    public void readAxiomsLazily(int depth) {
+        lazyDepth = depth;
+        readingPostponed = true;
+    }
+
+    /**
+     * Implements {@link Axiom.LazyDescriptor#isReadingPostponed()} for the extending descriptors.
+     * @return {@code true} if the axioms have not been read yet after {@link #readAxiomsLazily(int)}.
+     */
+    public boolean isReadingPostponed() {
+        return readingPostponed;
+    }
+
+    /**
+     * Implements {@link Axiom.LazyDescriptor#readPostponedAxioms()} for the extending descriptors.
+     * It does nothing if {@link #readAxiomsLazily(int)} has not been called.
+     */
+    public void readPostponedAxioms() {
+        if ( readingPostponed) {
+            synchronized ( this) {
+                if ( readingPostponed) {
+                    readingPostponed = false; // before reading, since readAxioms() uses the getters
+                    readAxioms();
+                }
+            }
+        }
+    }
+
+    /**
+     * It should be called at the beginning of the {@code readAxioms()} of the extending {@link Axiom.LazyDescriptor}s,
+     * so that the getters do not read again the axioms that were postponed by {@link #readAxiomsLazily(int)}.
+     */
+    protected void readingAxioms() {
+        readingPostponed = false;
+    }
+
+    @Override // see super class for documentation
+    public int getLazyDepth() {
+        return lazyDepth;
+    }
+
     @Override // see super class for documentation
     public Ground<OWLReferences, J> copyGround() {
         return getGround().copyGround();
@@ -6,6 +6,8 @@ import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpr
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.ModuleScope;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ReasoningScheduler;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
@@ -75,7 +77,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
 
         @Override // see super class for documentation
         public OWLReferences getGroundOntology() {
-            return ontology;
+            return ModuleScope.answering( ontology); // the module answering a query, if any
         }
 
         @Override // see super class for documentation
@@ -88,7 +90,7 @@ public interface DescriptorGroundInterface<J extends OWLObject>
 
         @Override // see super class for documentation
         public void reason() {
-            ontology.synchronizeReasoner();
+            ReasoningScheduler.reason( ontology, instance);
         }
 
         @Override
@@ -411,9 +413,10 @@ public interface DescriptorGroundInterface<J extends OWLObject>
     /**
      * It calls {@link OWLReferences#synchronizeReasoner()} in order to performs
      * reasoning over the actual state of the ontology.
+     * If a {@link ReasoningScheduler} is enabled for the ontology, it waits for its next synchronisation instead.
      */
     default void reason(){
-        getGroundOntology().synchronizeReasoner();
+        ReasoningScheduler.reason( getGroundOntology(), getGroundInstance());
     }
 
     /**
@@ -0,0 +1,468 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLManipulator;
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.DescriptorEvent;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.DescriptorEvents;
+import org.semanticweb.owlapi.model.*;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This class monitors the changes of the ontology of an {@link OWLReferences}, and the synchronisations of its reasoner.
+ * <p>
+ *     There is at most one monitor for each {@link OWLReferences}, and it is created with {@link #of(OWLReferences)}.
+ *     A monitor notifies its {@link Listener}s every time {@link OWLOntologyChange}s are applied to the ontology
+ *     (through its {@link OWLOntologyManager}), and every time the reasoner is synchronised with those changes.
+ *     <br>
+ *     The reasoner synchronisations performed through OWLOOP (e.g., {@link GroundInstance#reason()}) are done
+ *     with {@link #synchroniseReasoner(OWLReferences)}, which notifies {@link #reasoned(OWLReferences)}.
+ *     The ones performed directly with {@link OWLReferences#synchronizeReasoner()}
+ *     are detected when new changes are going to be applied, or when {@link #checkReasoned()} is called,
+ *     since the reasoner does not have pending changes anymore.
+ *     If the reasoner is not buffering, each applied change is also notified as a reasoner synchronisation.
+ * </p>
+ * <p>
+ *     A monitor also maintains a {@link #getVersion()} of the ontology, which increases every time changes are
+ *     applied or the reasoner is synchronised. When versioned reads are enabled for an ontology
+ *     (see {@link #enableVersionedReads(OWLReferences)}), each expression remembers the version at which it
+ *     has been read, and its {@code readAxioms()} does not query the ontology again until the version changes,
+ *     or until its entity set is modified (see {@link it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DescriptorEntitySet.EntitySetBase#isReadAt(long)}).
+ *     Note that only the changes applied to the monitored ontology (i.e., not to its imports) change the version.
+ * </p>
+ * <p>
+ *     When incremental definitions are enabled for an ontology (see {@link #enableIncrementalDefinitions(OWLReferences)}),
+ *     the {@code writeAxioms()} of {@link it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression.EquivalentRestriction}
+ *     replaces only the axiom that defines the class, instead of converting all its equivalent classes to
+ *     super classes and back. The axioms are changed with {@link #addAxiom(OWLReferences, OWLAxiom)} and
+ *     {@link #removeAxiom(OWLReferences, OWLAxiom)}, which respect the buffering of the aMOR manipulator
+ *     (see {@link #isBuffering(OWLReferences)}).
+ * </p>
+ * <p>
+ *     When bulk disjointness is enabled for an ontology (see {@link #enableBulkDisjointness(OWLReferences)}),
+ *     the {@code writeAxioms()} of the {@code Disjoint} expressions write the ground and its disjoint entities as
+ *     a single n-ary axiom, which also absorbs the asserted pairwise axioms of the same group, instead of
+ *     writing a binary axiom for each disjoint entity. Removed entities are split out of the asserted n-ary axioms.
+ * </p>
+ * Monitors are not created if no features based on them are used, and {@link #reasoned(OWLReferences)} costs nothing in this case.
+ * A monitor is kept until its ontology is released with {@link OntologyRegistry#release(OWLReferences)}.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class OntologyMonitor
+        implements OWLOntologyChangeListener, ImpendingOWLOntologyChangeListener {
+
+    /**
+     * The interface to be notified about the changes of a monitored ontology.
+     */
+    public interface Listener {
+        /**
+         * It is called after some changes have been applied to the monitored ontology.
+         * @param changes the applied changes.
+         */
+        void changed(List<? extends OWLOntologyChange> changes);
+        /**
+         * It is called after the reasoner of the monitored ontology has been synchronised.
+         */
+        void reasoned();
+    }
+
+    /**
+     * The version returned by {@link #readVersion(OWLReferences)} when versioned reads are not enabled.
+     */
+    public static final long NO_VERSION = -1;
+
+    private static final OntologyRegistry<OntologyMonitor> MONITORS = new OntologyRegistry<>( OntologyMonitor::dispose);
+    private static volatile boolean anyVersionedReads = false;
+    private static volatile boolean anyIncrementalDefinitions = false;
+    private static volatile boolean anyBulkDisjointness = false;
+
+    /**
+     * Returns the monitor of an ontology, it creates it if it does not exist.
+     * @param ontology the ontology to monitor.
+     * @return the monitor of the given ontology.
+     */
+    public static OntologyMonitor of(OWLReferences ontology){
+        synchronized ( MONITORS) {
+            OntologyMonitor monitor = MONITORS.get( ontology);
+            if ( monitor == null) {
+                monitor = new OntologyMonitor( ontology);
+                MONITORS.put( ontology, monitor);
+            }
+            return monitor;
+        }
+    }
+
+    /**
+     * Returns the monitor of an ontology if it has been created.
+     * @param ontology the monitored ontology.
+     * @return the monitor of the given ontology, or {@code null} if it has not been created with {@link #of(OWLReferences)}.
+     */
+    public static OntologyMonitor get(OWLReferences ontology){
+        return MONITORS.get( ontology);
+    }
+
+    // it stops monitoring an ontology, and it forgets its monitor (see OntologyRegistry#release(OWLReferences))
+    private static void dispose(OWLReferences ontology){
+        OntologyMonitor monitor = MONITORS.remove( ontology);
+        if ( monitor != null) {
+            ontology.getOWLManager().removeOntologyChangeListener( monitor);
+            ontology.getOWLManager().removeImpendingOntologyChangeListener( monitor);
+        }
+    }
+
+    /**
+     * Enables the versioned reads for an ontology, so that the {@code readAxioms()} of the expressions
+     * do not query it again if it did not change since their last reading.
+     * @param ontology the ontology whose reads should be versioned.
+     * @return the monitor of the given ontology.
+     */
+    public static OntologyMonitor enableVersionedReads(OWLReferences ontology){
+        OntologyMonitor monitor = of( ontology);
+        monitor.versionedReads = true;
+        anyVersionedReads = true;
+        return monitor;
+    }
+
+    /**
+     * Disables the versioned reads for an ontology, so that the {@code readAxioms()} of the expressions
+     * always query it.
+     * @param ontology the ontology whose reads should not be versioned anymore.
+     */
+    public static void disableVersionedReads(OWLReferences ontology){
+        OntologyMonitor monitor = get( ontology);
+        if ( monitor != null)
+            monitor.versionedReads = false;
+    }
+
+    /**
+     * Returns the current version of an ontology, to be remembered by the expressions that read it.
+     * @param ontology the ontology to read.
+     * @return the {@link #getVersion()} of the given ontology, or {@link #NO_VERSION} if its reads are not versioned.
+     */
+    public static long readVersion(OWLReferences ontology){
+        if ( ! anyVersionedReads) // fast path when versioned reads are not used
+            return NO_VERSION;
+        OntologyMonitor monitor = get( ontology);
+        if ( monitor == null || ! monitor.versionedReads)
+            return NO_VERSION;
+        return monitor.getVersion();
+    }
+
+    /**
+     * Returns the current version of the ontology of a descriptor, to be remembered by its expressions.
+     * The reads of asserted axioms (see {@link DescriptorQuery#isReadingAsserted(Axiom.Descriptor)}) are not versioned,
+     * so that the expressions read in a mode are read again in the other one.
+     * @param descriptor the descriptor that reads its ontology.
+     * @return the {@link #getVersion()} of the ontology of the given descriptor, or {@link #NO_VERSION} if its reads are not versioned.
+     */
+    public static long readVersion(Axiom.Descriptor<OWLReferences,?> descriptor){
+        if ( ! anyVersionedReads) // fast path when versioned reads are not used
+            return NO_VERSION;
+        if ( DescriptorQuery.isReadingAsserted( descriptor))
+            return NO_VERSION;
+        return readVersion( descriptor.getOntologyReference());
+    }
+
+    /**
+     * Enables the incremental definitions for an ontology, so that the {@code writeAxioms()} of the
+     * class restrictions replace the defining axiom of a class, instead of rewriting all its definition.
+     * @param ontology the ontology whose class definitions should be written incrementally.
+     * @return the monitor of the given ontology.
+     */
+    public static OntologyMonitor enableIncrementalDefinitions(OWLReferences ontology){
+        OntologyMonitor monitor = of( ontology);
+        monitor.incrementalDefinitions = true;
+        anyIncrementalDefinitions = true;
+        return monitor;
+    }
+
+    /**
+     * Disables the incremental definitions for an ontology, so that the class definitions are rewritten
+     * through {@link OWLReferences#convertEquivalentClassesToSuperClasses(OWLClass)} and
+     * {@link OWLReferences#convertSuperClassesToEquivalentClass(OWLClass)}.
+     * @param ontology the ontology whose class definitions should not be written incrementally anymore.
+     */
+    public static void disableIncrementalDefinitions(OWLReferences ontology){
+        OntologyMonitor monitor = get( ontology);
+        if ( monitor != null)
+            monitor.incrementalDefinitions = false;
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return {@code true} if the class definitions of the given ontology are written incrementally.
+     */
+    public static boolean isIncrementalDefinitions(OWLReferences ontology){
+        if ( ! anyIncrementalDefinitions) // fast path when incremental definitions are not used
+            return false;
+        OntologyMonitor monitor = get( ontology);
+        return monitor != null && monitor.incrementalDefinitions;
+    }
+
+    /**
+     * Enables the bulk disjointness for an ontology, so that the {@code writeAxioms()} of the {@code Disjoint}
+     * expressions maintain a single n-ary axiom for the ground and all its disjoint entities.
+     * Note that the disjoint entities of a descriptor become also mutually disjoint in this mode.
+     * @param ontology the ontology whose disjointness should be written in bulk.
+     * @return the monitor of the given ontology.
+     */
+    public static OntologyMonitor enableBulkDisjointness(OWLReferences ontology){
+        OntologyMonitor monitor = of( ontology);
+        monitor.bulkDisjointness = true;
+        anyBulkDisjointness = true;
+        return monitor;
+    }
+
+    /**
+     * Disables the bulk disjointness for an ontology, so that a binary axiom is written for each disjoint entity.
+     * @param ontology the ontology whose disjointness should not be written in bulk anymore.
+     */
+    public static void disableBulkDisjointness(OWLReferences ontology){
+        OntologyMonitor monitor = get( ontology);
+        if ( monitor != null)
+            monitor.bulkDisjointness = false;
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return {@code true} if the disjointness of the given ontology is written as n-ary axioms.
+     */
+    public static boolean isBulkDisjointness(OWLReferences ontology){
+        if ( ! anyBulkDisjointness) // fast path when bulk disjointness is not used
+            return false;
+        OntologyMonitor monitor = get( ontology);
+        return monitor != null && monitor.bulkDisjointness;
+    }
+
+    // aMOR does not expose the manipulator of an ontology, which buffers the changes, it is got through reflection.
+    private static Method manipulatorGetter;
+    private static OWLManipulator getManipulator(OWLReferences ontology) throws Exception {
+        if ( manipulatorGetter == null) {
+            Method getter = OWLReferencesInterface.class.getDeclaredMethod( "getManipulator");
+            getter.setAccessible( true);
+            manipulatorGetter = getter;
+        }
+        return (OWLManipulator) manipulatorGetter.invoke( ontology);
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return {@code true} if the aMOR manipulator of the given ontology is buffering the changes,
+     * i.e., they are only applied with {@link OWLReferences#applyOWLManipulatorChanges()}.
+     */
+    public static boolean isBuffering(OWLReferences ontology){
+        try {
+            Boolean buffering = getManipulator( ontology).isChangeBuffering();
+            return buffering != null && buffering;
+        } catch (Exception e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Adds an axiom to an ontology as the aMOR manipulator does, i.e., the change is applied right away
+     * only if the manipulator is not buffering (see {@link #isBuffering(OWLReferences)}).
+     * @param ontology the ontology to change.
+     * @param axiom the axiom to add.
+     * @return the change that adds the axiom.
+     * @throws Exception if the manipulator is not accessible.
+     */
+    public static OWLOntologyChange addAxiom(OWLReferences ontology, OWLAxiom axiom) throws Exception {
+        OWLManipulator manipulator = getManipulator( ontology);
+        boolean buffering = Boolean.TRUE.equals( manipulator.isChangeBuffering());
+        OWLOntologyChange change = manipulator.getAddAxiom( axiom, buffering);
+        if ( ! buffering)
+            manipulator.applyChanges( change);
+        return change;
+    }
+
+    /**
+     * Removes an axiom from an ontology as the aMOR manipulator does, i.e., the change is applied right away
+     * only if the manipulator is not buffering (see {@link #isBuffering(OWLReferences)}).
+     * @param ontology the ontology to change.
+     * @param axiom the axiom to remove.
+     * @return the change that removes the axiom.
+     * @throws Exception if the manipulator is not accessible.
+     */
+    public static OWLOntologyChange removeAxiom(OWLReferences ontology, OWLAxiom axiom) throws Exception {
+        OWLManipulator manipulator = getManipulator( ontology);
+        boolean buffering = Boolean.TRUE.equals( manipulator.isChangeBuffering());
+        OWLOntologyChange change = manipulator.getRemoveAxiom( axiom, buffering);
+        if ( ! buffering)
+            manipulator.applyChanges( change);
+        return change;
+    }
+
+    /**
+     * Synchronises the reasoner of an ontology, records its duration in {@link Metrics#get()} and as a
+     * {@link DescriptorEvent.Reason} Flight Recorder event, and calls {@link #reasoned(OWLReferences)}.
+     * @param ontology the ontology whose reasoner should be synchronised.
+     */
+    public static void synchroniseReasoner(OWLReferences ontology){
+        synchroniseReasoner( ontology, null);
+    }
+    /**
+     * It calls {@link #synchroniseReasoner(OWLReferences)} on behalf of a ground instance, which is also recorded in the event.
+     * @param ontology the ontology whose reasoner should be synchronised.
+     * @param instance the ground instance that required the synchronisation, it can be {@code null}.
+     */
+    public static void synchroniseReasoner(OWLReferences ontology, OWLObject instance){
+        DescriptorEvent event = DescriptorEvents.begin( DescriptorEvents.Type.REASON);
+        Metrics metrics = Metrics.get();
+        long start = metrics.start();
+        ontology.synchronizeReasoner();
+        metrics.stop( Metrics.Phase.REASON, null, start);
+        metrics.count( Metrics.Counter.REASONER_SYNCHRONISATIONS, null, 1);
+        DescriptorEvents.end( event, ontology, instance);
+        reasoned( ontology);
+    }
+
+    /**
+     * It should be called every time the reasoner of an ontology is synchronised.
+     * It does nothing if the ontology is not monitored.
+     * @param ontology the ontology whose reasoner has been synchronised.
+     */
+    public static void reasoned(OWLReferences ontology){
+        OntologyMonitor monitor = get( ontology);
+        if ( monitor != null)
+            monitor.reasoned();
+    }
+
+    private OWLReferences ontology;
+    private boolean bufferingReasoner;
+    private volatile boolean pendingChanges = false; // true if changes have been applied after the last known synchronisation
+    private List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private AtomicLong version = new AtomicLong(); // increased at each change and reasoner synchronisation
+    private volatile boolean versionedReads = false;
+    private volatile boolean incrementalDefinitions = false;
+    private volatile boolean bulkDisjointness = false;
+
+    private OntologyMonitor(OWLReferences ontology) {
+        this.ontology = ontology;
+        this.bufferingReasoner = ontology.useBufferingReasoner();
+        ontology.getOWLManager().addOntologyChangeListener( this);
+        ontology.getOWLManager().addImpendingOntologyChangeListener( this);
+    }
+
+    /**
+     * @return the monitored ontology.
+     */
+    public OWLReferences getOntologyReference() {
+        return ontology;
+    }
+
+    /**
+     * @param listener a new listener to be notified about changes and reasoning.
+     */
+    public void addListener(Listener listener){
+        listeners.add( listener);
+    }
+    /**
+     * @param listener the listener to be not notified anymore.
+     */
+    public void removeListener(Listener listener){
+        listeners.remove( listener);
+    }
+
+    /**
+     * @return {@code true} if changes have been applied to the ontology after the last known synchronisation of its reasoner.
+     */
+    public boolean hasPendingChanges() {
+        return pendingChanges;
+    }
+
+    /**
+     * Returns the version of the monitored ontology, which is increased every time changes are applied
+     * or the reasoner is synchronised. It also checks for the synchronisations performed outside OWLOOP
+     * (see {@link #checkReasoned()}).
+     * @return the current version of the monitored ontology.
+     */
+    public long getVersion() {
+        checkReasoned();
+        return version.get();
+    }
+
+    /**
+     * @return {@code true} if the reads of the monitored ontology are versioned.
+     */
+    public boolean isVersioningReads() {
+        return versionedReads;
+    }
+
+    /**
+     * @return {@code true} if the class definitions of the monitored ontology are written incrementally.
+     */
+    public boolean isIncrementalDefinitions() {
+        return incrementalDefinitions;
+    }
+
+    /**
+     * @return {@code true} if the disjointness of the monitored ontology is written as n-ary axioms.
+     */
+    public boolean isBulkDisjointness() {
+        return bulkDisjointness;
+    }
+
+    /**
+     * It notifies all the listeners that the reasoner has been synchronised.
+     */
+    public void reasoned(){
+        version.incrementAndGet();
+        pendingChanges = false;
+        for ( Listener l : listeners)
+            l.reasoned();
+    }
+
+    /**
+     * It checks if the reasoner has been synchronised (e.g., through {@link OWLReferences#synchronizeReasoner()})
+     * after the last applied changes, and, if it is the case, notifies {@link #reasoned()}.
+     * It is fast if no changes have been applied.
+     */
+    public void checkReasoned(){
+        if ( pendingChanges && ontology.getOWLReasoner().getPendingChanges().isEmpty())
+            reasoned();
+    }
+
+    @Override
+    public void handleImpendingOntologyChanges(List<? extends OWLOntologyChange> impendingChanges) {
+        // detects synchronisations made in between changes before the reasoner knows about the new changes
+        checkReasoned();
+    }
+
+    @Override
+    public void ontologiesChanged(List<? extends OWLOntologyChange> changes) {
+        List<OWLOntologyChange> applied = new ArrayList<>( changes.size());
+        for ( OWLOntologyChange c : changes)
+            if ( c.getOntology() == ontology.getOWLOntology())
+                applied.add( c);
+        if ( applied.isEmpty())
+            return;
+        version.incrementAndGet();
+        pendingChanges = true;
+        for ( Listener l : listeners)
+            l.changed( applied);
+        if ( ! bufferingReasoner)
+            reasoned();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "@" + ontology.getReferenceName();
+    }
+}
@@ -0,0 +1,120 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * This class maps each {@link OWLReferences} to the state of a feature that has been enabled for it
+ * (e.g., its {@link OntologyMonitor} or its {@link it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryCache}).
+ * <p>
+ *     The state of a feature refers to its ontology (e.g., through the listeners of its {@link OntologyMonitor}),
+ *     therefore the entries are not weak, and they are kept until the feature is disabled.
+ *     This is the same lifecycle of aMOR, which keeps each {@link OWLReferences} until
+ *     {@link OWLReferencesInterface.OWLReferencesContainer#removeInstance(OWLReferencesInterface)}.
+ *     {@link #release(OWLReferences)} disables all the features of an ontology at once, and it should be called
+ *     when the ontology is not used anymore, for its memory to be reclaimed.
+ *     <br>
+ *     A registry is also the monitor that guards its entries (i.e., it can be used for {@code synchronized} blocks),
+ *     and {@link #get(OWLReferences)} does not synchronise if the feature is not enabled for any ontology.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ *
+ * @param <V> the type of the state of the feature.
+ */
+public final class OntologyRegistry<V> {
+
+    private static final List<OntologyRegistry<?>> REGISTRIES = new CopyOnWriteArrayList<>();
+
+    /**
+     * Disables all the features of an ontology (e.g., its cache, its scheduler and its monitor),
+     * so that they do not refer to it anymore.
+     * @param ontology the ontology that is not used anymore.
+     */
+    public static void release(OWLReferences ontology){
+        for ( OntologyRegistry<?> registry : REGISTRIES)
+            if ( registry.get( ontology) != null)
+                registry.disabler.accept( ontology);
+    }
+
+    private Map<OWLReferences, V> entries = new HashMap<>();
+    private Consumer<OWLReferences> disabler;
+    private volatile boolean empty = true;
+
+    /**
+     * Creates the registry of a feature, whose entries are disabled by {@link #release(OWLReferences)}.
+     * @param disabler the function that disables the feature for an ontology, and removes it from this registry.
+     */
+    public OntologyRegistry(Consumer<OWLReferences> disabler) {
+        this.disabler = disabler;
+        REGISTRIES.add( this);
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the state of the feature for the given ontology, or {@code null} if it is not enabled.
+     */
+    public V get(OWLReferences ontology){
+        if ( empty) // fast path when the feature is not used
+            return null;
+        synchronized ( this) {
+            return entries.get( ontology);
+        }
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @param value the state of the feature for the given ontology.
+     * @return the previous state of the feature for the given ontology, or {@code null}.
+     */
+    public synchronized V put(OWLReferences ontology, V value){
+        V previous = entries.put( ontology, value);
+        empty = false;
+        return previous;
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the removed state of the feature for the given ontology, or {@code null} if it was not enabled.
+     */
+    public synchronized V remove(OWLReferences ontology){
+        V removed = entries.remove( ontology);
+        empty = entries.isEmpty();
+        return removed;
+    }
+    /**
+     * @param ontology an ontology.
+     * @param value the state of the feature to remove.
+     * @return {@code true} if the given state was mapped to the ontology, and it has been removed.
+     */
+    public synchronized boolean remove(OWLReferences ontology, V value){
+        boolean removed = entries.remove( ontology, value);
+        empty = entries.isEmpty();
+        return removed;
+    }
+
+    /**
+     * @return {@code true} if the feature is not enabled for any ontology.
+     */
+    public boolean isEmpty(){
+        return empty;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + "{" + entries.size() + " ontologies}";
+    }
+}
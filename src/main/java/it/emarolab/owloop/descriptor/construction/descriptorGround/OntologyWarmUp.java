@@ -0,0 +1,217 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.OntologyExecutor;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * This class loads an ontology and warms its reasoner up in background.
+ * <p>
+ *     The {@code load()} methods parse the ontology file (as the constructors of {@link DescriptorGround} do) and
+ *     return right away, while the classification and the realisation of the ontology are performed by
+ *     {@link OntologyExecutor} (i.e., holding the lock of the ontology). The {@link #getReadiness()} future is
+ *     completed when the reasoner is warm, and descriptors can be created on the ontology in the meanwhile.
+ *     <br>
+ *     The queries that the descriptors perform before the ontology is ready behave as configured by a {@link Policy}:
+ *     they wait for the readiness ({@link Policy#BLOCK}), they wait up to a timeout and then fail with an
+ *     {@link IllegalStateException} ({@link Policy#TIMEOUT}, and {@code readAxioms()} prints it as the other failures
+ *     of its queries), or they are answered from the asserted axioms without
+ *     involving the reasoner ({@link Policy#ASSERTED}), restrictions included.
+ *     <br>
+ *     The warm-up of an ontology that has already been loaded can be started with {@link #warmUp(OWLReferences, Policy, long)}.
+ *     After the readiness, the ontology is forgotten by this class and its queries cost nothing more.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyWarmUp <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class OntologyWarmUp {
+
+    /**
+     * The behaviour of the queries performed before the ontology is ready.
+     */
+    public enum Policy {
+        /** The queries wait until the ontology is ready. */
+        BLOCK,
+        /** The queries wait until the ontology is ready, up to a timeout, and then fail with an {@link IllegalStateException}. */
+        TIMEOUT,
+        /** The queries are answered from the asserted axioms, without waiting until the ontology is ready. */
+        ASSERTED
+    }
+
+    private static final OntologyRegistry<OntologyWarmUp> WARMING = new OntologyRegistry<>( OntologyWarmUp::forget);
+
+    /**
+     * Loads an ontology with a not buffering reasoner, and warms it up in background with the {@link Policy#BLOCK} policy.
+     * @param ontoName the name of the ontology reference. If it already exists, that ontology is warmed up.
+     * @param filePath the path of the ontology file.
+     * @param iriPath the IRI of the ontology.
+     * @return the warm-up of the ontology.
+     */
+    public static OntologyWarmUp load(String ontoName, String filePath, String iriPath){
+        return load( ontoName, filePath, iriPath, false, Policy.BLOCK, 0);
+    }
+
+    /**
+     * Loads an ontology and warms it up in background.
+     * @param ontoName the name of the ontology reference. If it already exists, that ontology is warmed up.
+     * @param filePath the path of the ontology file.
+     * @param iriPath the IRI of the ontology.
+     * @param bufferingChanges {@code true} if the reasoner should be synchronised manually.
+     * @param policy the behaviour of the queries performed before the ontology is ready.
+     * @param timeout the maximum number of milliseconds that queries wait for with the {@link Policy#TIMEOUT} policy.
+     * @return the warm-up of the ontology.
+     */
+    public static OntologyWarmUp load(String ontoName, String filePath, String iriPath, boolean bufferingChanges,
+                                      Policy policy, long timeout){
+        OWLReferences ontology;
+        if ( OWLReferencesInterface.OWLReferencesContainer.getOWLReferencesKeys().contains( ontoName))
+            ontology = (OWLReferences) OWLReferencesInterface.OWLReferencesContainer.getOWLReferences( ontoName);
+        else ontology = OWLReferencesInterface.OWLReferencesContainer.newOWLReferenceFromFileWithPellet(
+                ontoName, filePath, iriPath, bufferingChanges);
+        return warmUp( ontology, policy, timeout);
+    }
+
+    /**
+     * Warms up the reasoner of an ontology in background. If the ontology is already warming up,
+     * its current warm-up is returned.
+     * @param ontology the ontology to warm up.
+     * @param policy the behaviour of the queries performed before the ontology is ready.
+     * @param timeout the maximum number of milliseconds that queries wait for with the {@link Policy#TIMEOUT} policy.
+     * @return the warm-up of the ontology.
+     */
+    public static OntologyWarmUp warmUp(OWLReferences ontology, Policy policy, long timeout){
+        OntologyWarmUp warmUp;
+        synchronized ( WARMING) {
+            warmUp = WARMING.get( ontology);
+            if ( warmUp != null)
+                return warmUp;
+            warmUp = new OntologyWarmUp( ontology, policy, timeout);
+            warmUp.readiness = OntologyExecutor.submit( ontology, () -> warm( ontology));
+            WARMING.put( ontology, warmUp);
+        }
+        OntologyWarmUp started = warmUp;
+        warmUp.readiness.whenComplete( (r, x) -> {
+            if ( x != null)
+                x.printStackTrace(); // the queries are performed as usual anyway
+            WARMING.remove( ontology, started);
+        });
+        return warmUp;
+    }
+
+    // it synchronises the reasoner and precomputes the inferences that the descriptors query, holding the lock of the ontology
+    private static OWLReferences warm(OWLReferences ontology){
+        OntologyMonitor.synchroniseReasoner( ontology);
+        ontology.getOWLReasoner().precomputeInferences( InferenceType.CLASS_HIERARCHY, InferenceType.CLASS_ASSERTIONS,
+                InferenceType.OBJECT_PROPERTY_HIERARCHY, InferenceType.DATA_PROPERTY_HIERARCHY);
+        return ontology;
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the warm-up of the given ontology, or {@code null} if it is not warming up (e.g., it is ready).
+     */
+    public static OntologyWarmUp get(OWLReferences ontology){
+        OntologyWarmUp warmUp = WARMING.get( ontology);
+        return warmUp == null || warmUp.isReady() ? null : warmUp;
+    }
+
+    // the queries stop waiting for the warm-up of an ontology that is released (see OntologyRegistry#release(OWLReferences))
+    private static void forget(OWLReferences ontology){
+        WARMING.remove( ontology);
+    }
+
+    private OWLReferences ontology;
+    private Policy policy;
+    private long timeout;
+    private CompletableFuture<OWLReferences> readiness;
+
+    private OntologyWarmUp(OWLReferences ontology, Policy policy, long timeout) {
+        this.ontology = ontology;
+        this.policy = policy;
+        this.timeout = timeout;
+    }
+
+    /**
+     * @return the ontology that is warming up.
+     */
+    public OWLReferences getOntologyReference() {
+        return ontology;
+    }
+
+    /**
+     * @return a future completed with the ontology when its reasoner is warm,
+     * or exceptionally if the warm-up failed (in this case, the queries are performed as usual).
+     */
+    public CompletableFuture<OWLReferences> getReadiness() {
+        return readiness;
+    }
+
+    /**
+     * @return {@code true} if the warm-up is over.
+     */
+    public boolean isReady() {
+        return readiness.isDone();
+    }
+
+    /**
+     * @return the behaviour of the queries performed before the ontology is ready.
+     */
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the maximum number of milliseconds that queries wait for with the {@link Policy#TIMEOUT} policy.
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Waits for the end of the warm-up, either successful or not. With the {@link Policy#TIMEOUT} policy,
+     * it waits for {@link #getTimeout()} milliseconds at most. With the {@link Policy#BLOCK} policy,
+     * a thread that holds the lock of the ontology (see {@link OntologyExecutor#getLock(Object)}) warms the reasoner
+     * up by itself, since the background warm-up waits for that lock (and it costs little afterwards).
+     * @throws IllegalStateException if the ontology is not ready within the timeout, or if the thread is interrupted.
+     */
+    public void await(){
+        if ( isReady())
+            return;
+        if ( policy == Policy.BLOCK && OntologyExecutor.getLock( ontology).isHeldByCurrentThread()) {
+            warm( ontology); // waiting would deadlock
+            return;
+        }
+        try {
+            CompletableFuture<?> done = readiness.handle( (r, x) -> null);
+            if ( policy == Policy.TIMEOUT)
+                done.get( timeout, TimeUnit.MILLISECONDS);
+            else done.get();
+        } catch ( TimeoutException e) {
+            throw new IllegalStateException( "ontology " + ontology.getReferenceName() + " is not ready after " + timeout + "ms", e);
+        } catch ( InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "interrupted while waiting for ontology " + ontology.getReferenceName(), e);
+        } catch ( ExecutionException e) { // never thrown, since failures are handled
+            e.printStackTrace();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "@" + ontology.getReferenceName()
+                + "{ready=" + isReady() + ", policy=" + policy + ", timeout=" + timeout + "ms}";
+    }
+}
@@ -0,0 +1,76 @@
+package it.emarolab.owloop.descriptor.construction.descriptorMetrics;
+
+import jdk.jfr.*;
+
+/**
+ * The base JDK Flight Recorder event of the operations of a descriptor.
+ * <p>
+ *     The events are emitted through {@link DescriptorEvents}, they carry the name of the ground instance and
+ *     of the ontology reference, the class of the descriptor, the kind of expression, the number of ontology
+ *     changes and their duration.
+ *     The events are:
+ *     <ul>
+ *     <li><b>{@link Query}</b>:  a query to the ontology performed by the {@code queryXxx()} methods of an expression.</li>
+ *     <li><b>{@link Read}</b>:   the {@code readAxioms()} of an expression of a descriptor.</li>
+ *     <li><b>{@link Write}</b>:  the {@code writeAxioms()} of an expression of a descriptor.</li>
+ *     <li><b>{@link Reason}</b>: a synchronisation of the reasoner.</li>
+ *     </ul>
+ *     They are all enabled by default, and they appear in the {@code OWLOOP} category of a recording.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorMetrics.DescriptorEvent <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+@Category( "OWLOOP")
+@StackTrace( false)
+public abstract class DescriptorEvent
+        extends Event {
+
+    @Label( "Ground Instance")
+    String instance;
+
+    @Label( "Ontology Reference")
+    String ontology;
+
+    @Label( "Descriptor")
+    @Description( "The class of the descriptor")
+    String descriptor;
+
+    @Label( "Kind")
+    @Description( "The kind of expression")
+    String kind;
+
+    @Label( "Changes")
+    @Description( "The number of changes applied to the ontology")
+    int changes;
+
+    @Name( "it.emarolab.owloop.Query")
+    @Label( "Descriptor Query")
+    @Description( "A query to the ontology for reading an expression")
+    public static class Query extends DescriptorEvent {
+    }
+
+    @Name( "it.emarolab.owloop.Read")
+    @Label( "Descriptor Read")
+    @Description( "The reading of the axioms of an expression of a descriptor")
+    public static class Read extends DescriptorEvent {
+    }
+
+    @Name( "it.emarolab.owloop.Write")
+    @Label( "Descriptor Write")
+    @Description( "The writing of the axioms of an expression of a descriptor")
+    public static class Write extends DescriptorEvent {
+    }
+
+    @Name( "it.emarolab.owloop.Reason")
+    @Label( "Reasoner Synchronisation")
+    @Description( "The synchronisation of the reasoner of an ontology")
+    public static class Reason extends DescriptorEvent {
+    }
+}
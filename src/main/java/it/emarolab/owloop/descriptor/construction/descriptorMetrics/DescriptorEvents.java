@@ -0,0 +1,167 @@
+package it.emarolab.owloop.descriptor.construction.descriptorMetrics;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import jdk.jfr.EventType;
+import org.semanticweb.owlapi.model.OWLObject;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * This class emits the JDK Flight Recorder {@link DescriptorEvent}s.
+ * <p>
+ *     An operation should be instrumented as:
+ * </p>
+ * <pre>
+ * {@code
+ *     DescriptorEvent event = DescriptorEvents.begin( DescriptorEvents.Type.READ);
+ *     List<MappingIntent> intents = ...; // the operation to record
+ *     DescriptorEvents.end( event, descriptor, kind, intents);
+ * }
+ * </pre>
+ * When no recording is enabling an event type (or if the JVM does not support Flight Recorder), {@link #begin(Type)}
+ * returns {@code null} without creating an event, and {@code end(..)} does nothing. Also, the names and the
+ * number of changes of an event are computed only if it is going to be recorded.
+ * The {@link DescriptorEvent.Read} and {@link DescriptorEvent.Write} events are emitted by
+ * {@link it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery} for each expression
+ * that a descriptor reads or writes, so they do not need to be emitted by the descriptors.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorMetrics.DescriptorEvents <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public final class DescriptorEvents {
+
+    /**
+     * The types of {@link DescriptorEvent}.
+     */
+    public enum Type {
+        /** see {@link DescriptorEvent.Query} */
+        QUERY,
+        /** see {@link DescriptorEvent.Read} */
+        READ,
+        /** see {@link DescriptorEvent.Write} */
+        WRITE,
+        /** see {@link DescriptorEvent.Reason} */
+        REASON
+    }
+
+    private static final boolean AVAILABLE = isAvailable();
+
+    private static boolean isAvailable(){
+        try {
+            Class.forName( "jdk.jfr.FlightRecorder");
+            return true;
+        } catch ( Throwable e){
+            return false;
+        }
+    }
+
+    private DescriptorEvents() {
+    }
+
+    /**
+     * @param type a type of event.
+     * @return {@code true} if the events of the given type are going to be recorded.
+     */
+    public static boolean isEnabled(Type type){
+        return AVAILABLE && EventTypes.TYPES[ type.ordinal()].isEnabled();
+    }
+
+    /**
+     * Starts a new event.
+     * @param type the type of the event.
+     * @return the started event, or {@code null} if the events of the given type are not recorded.
+     */
+    public static DescriptorEvent begin(Type type){
+        if ( ! isEnabled( type))
+            return null;
+        DescriptorEvent event;
+        switch ( type) {
+            case QUERY: event = new DescriptorEvent.Query(); break;
+            case READ: event = new DescriptorEvent.Read(); break;
+            case WRITE: event = new DescriptorEvent.Write(); break;
+            default: event = new DescriptorEvent.Reason();
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and records the event of an operation that read or wrote the axioms of an expression of a descriptor.
+     * @param event the value returned by {@link #begin(Type)}.
+     * @param descriptor the descriptor that performed the operation.
+     * @param kind the kind of expression.
+     * @param intents the results of the operation, used to count the ontology changes.
+     */
+    public static void end(DescriptorEvent event, Axiom.Descriptor<OWLReferences,?> descriptor, Object kind, List<Axiom.MappingIntent> intents){
+        if ( event == null)
+            return;
+        event.end();
+        if ( event.shouldCommit()) {
+            int changes = 0;
+            if ( intents != null)
+                for ( Axiom.MappingIntent i : intents)
+                    if ( i.getOntologyChanges() instanceof Collection)
+                        changes += ((Collection<?>) i.getOntologyChanges()).size();
+            commit( event, descriptor.getOntologyReference(), descriptor.getInstance(), descriptor, String.valueOf( kind), changes);
+        }
+    }
+
+    /**
+     * Ends and records the event of a query performed for a descriptor.
+     * @param event the value returned by {@link #begin(Type)}.
+     * @param descriptor the descriptor that performed the query.
+     * @param kind the kind of query.
+     */
+    public static void end(DescriptorEvent event, Axiom.Descriptor<OWLReferences,?> descriptor, Object kind){
+        if ( event == null)
+            return;
+        event.end();
+        if ( event.shouldCommit())
+            commit( event, descriptor.getOntologyReference(), descriptor.getInstance(), descriptor, String.valueOf( kind), 0);
+    }
+
+    /**
+     * Ends and records the event of an operation on an ontology (e.g., a synchronisation of its reasoner).
+     * @param event the value returned by {@link #begin(Type)}.
+     * @param ontology the ontology.
+     * @param instance the instance of the descriptor that required the operation, it can be {@code null}.
+     */
+    public static void end(DescriptorEvent event, OWLReferences ontology, OWLObject instance){
+        if ( event == null)
+            return;
+        event.end();
+        if ( event.shouldCommit())
+            commit( event, ontology, instance, null, null, 0);
+    }
+
+    private static void commit(DescriptorEvent event, OWLReferences ontology, Object instance, Object descriptor, String kind, int changes){
+        if ( ontology != null) {
+            event.ontology = ontology.getReferenceName();
+            if ( instance instanceof OWLObject)
+                event.instance = ontology.getOWLObjectName( (OWLObject) instance);
+        }
+        if ( descriptor != null)
+            event.descriptor = descriptor.getClass().getSimpleName();
+        event.kind = kind;
+        event.changes = changes;
+        event.commit();
+    }
+
+    // loaded only if Flight Recorder is available
+    private static final class EventTypes {
+        private static final EventType[] TYPES = {
+                EventType.getEventType( DescriptorEvent.Query.class),
+                EventType.getEventType( DescriptorEvent.Read.class),
+                EventType.getEventType( DescriptorEvent.Write.class),
+                EventType.getEventType( DescriptorEvent.Reason.class)
+        };
+    }
+}
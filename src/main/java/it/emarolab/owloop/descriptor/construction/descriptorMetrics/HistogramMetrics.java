@@ -0,0 +1,262 @@
+package it.emarolab.owloop.descriptor.construction.descriptorMetrics;
+
+import it.emarolab.owloop.core.Metrics;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * An implementation of {@link Metrics} that keeps the records in memory.
+ * <p>
+ *     For each {@link Metrics.Phase} and kind, the durations are collected in a {@link Histogram}, with buckets
+ *     of exponential size, which gives the number of records, their total, mean, minimum and maximum duration,
+ *     and approximated percentiles. For each {@link Metrics.Counter} and kind, the events are summed up.
+ *     It is thread safe, and the recording does not lock.
+ *     <br>
+ *     Use it as:
+ * </p>
+ * <pre>
+ * {@code
+ *     HistogramMetrics metrics = new HistogramMetrics();
+ *     Metrics.set( metrics);
+ *     // ... use the descriptors
+ *     System.out.println( metrics);
+ *     Metrics.set( null); // back to Metrics.NO_OP
+ * }
+ * </pre>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorMetrics.HistogramMetrics <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class HistogramMetrics
+        implements Metrics {
+
+    /**
+     * The kind used for the records that are not specific (i.e., given with a {@code null} kind).
+     */
+    public static final String ANY_KIND = "*";
+
+    private final Map<Phase, ConcurrentMap<Object, Histogram>> histograms = new EnumMap<>( Phase.class);
+    private final Map<Counter, ConcurrentMap<Object, LongAdder>> counters = new EnumMap<>( Counter.class);
+
+    public HistogramMetrics() {
+        for ( Phase p : Phase.values())
+            histograms.put( p, new ConcurrentHashMap<>());
+        for ( Counter c : Counter.values())
+            counters.put( c, new ConcurrentHashMap<>());
+    }
+
+    @Override // see super class for documentation
+    public void record(Phase phase, Object kind, long nanos) {
+        histograms.get( phase).computeIfAbsent( kindOf( kind), k -> new Histogram()).record( nanos);
+    }
+
+    @Override // see super class for documentation
+    public void count(Counter counter, Object kind, long events) {
+        counters.get( counter).computeIfAbsent( kindOf( kind), k -> new LongAdder()).add( events);
+    }
+
+    private static Object kindOf(Object kind){
+        return kind != null ? kind : ANY_KIND;
+    }
+
+    /**
+     * @param phase a phase of the operations.
+     * @param kind a kind of operation, {@code null} for the not specific ones.
+     * @return the durations recorded for the given phase and kind, or {@code null} if nothing has been recorded.
+     */
+    public Histogram getHistogram(Phase phase, Object kind){
+        return histograms.get( phase).get( kindOf( kind));
+    }
+
+    /**
+     * @param phase a phase of the operations.
+     * @return the durations recorded for the given phase, indexed by kind.
+     */
+    public Map<Object, Histogram> getHistograms(Phase phase){
+        return Collections.unmodifiableMap( histograms.get( phase));
+    }
+
+    /**
+     * @param phase a phase of the operations.
+     * @return the durations recorded for the given phase, for all the kinds.
+     */
+    public Histogram getTotal(Phase phase){
+        Histogram total = new Histogram();
+        for ( Histogram h : histograms.get( phase).values())
+            total.merge( h);
+        return total;
+    }
+
+    /**
+     * @param counter a type of events.
+     * @param kind a kind of operation, {@code null} for the not specific ones.
+     * @return the number of events counted for the given type and kind.
+     */
+    public long getCount(Counter counter, Object kind){
+        LongAdder count = counters.get( counter).get( kindOf( kind));
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * @param counter a type of events.
+     * @return the number of events counted for the given type, for all the kinds.
+     */
+    public long getCount(Counter counter){
+        long total = 0;
+        for ( LongAdder count : counters.get( counter).values())
+            total += count.sum();
+        return total;
+    }
+
+    /**
+     * @param counter a type of events.
+     * @return the number of events counted for the given type, indexed by kind.
+     */
+    public Map<Object, Long> getCounts(Counter counter){
+        Map<Object, Long> out = new HashMap<>();
+        for ( Map.Entry<Object, LongAdder> e : counters.get( counter).entrySet())
+            out.put( e.getKey(), e.getValue().sum());
+        return out;
+    }
+
+    /**
+     * Removes all the records.
+     */
+    public void reset(){
+        for ( ConcurrentMap<Object, Histogram> h : histograms.values())
+            h.clear();
+        for ( ConcurrentMap<Object, LongAdder> c : counters.values())
+            c.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder( getClass().getSimpleName()).append( "{");
+        for ( Phase p : Phase.values())
+            for ( Map.Entry<Object, Histogram> e : histograms.get( p).entrySet())
+                out.append( System.lineSeparator()).append( "\t").append( p).append( "[").append( kindName( e.getKey()))
+                        .append( "] ").append( e.getValue());
+        for ( Counter c : Counter.values())
+            for ( Map.Entry<Object, LongAdder> e : counters.get( c).entrySet())
+                out.append( System.lineSeparator()).append( "\t").append( c).append( "[").append( kindName( e.getKey()))
+                        .append( "] ").append( e.getValue().sum());
+        return out.append( System.lineSeparator()).append( "}").toString();
+    }
+
+    private static String kindName(Object kind){
+        if ( kind instanceof java.lang.Class)
+            return ((java.lang.Class<?>) kind).getSimpleName();
+        return String.valueOf( kind);
+    }
+
+    /**
+     * A thread safe histogram of durations (in nanoseconds).
+     * The durations are collected in 64 buckets, where the i-th bucket contains the durations in [2^(i-1), 2^i)
+     * (the 0-th bucket contains only the durations equal to 0),
+     * therefore, the percentiles are approximated to a power of two.
+     */
+    public static class Histogram {
+
+        private static final int BUCKETS = 64;
+
+        private final AtomicLongArray buckets = new AtomicLongArray( BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong min = new AtomicLong( Long.MAX_VALUE);
+        private final AtomicLong max = new AtomicLong( Long.MIN_VALUE);
+
+        /**
+         * @param nanos a new duration to collect.
+         */
+        public void record(long nanos){
+            if ( nanos < 0)
+                nanos = 0;
+            buckets.incrementAndGet( BUCKETS - Long.numberOfLeadingZeros( nanos));
+            count.increment();
+            total.add( nanos);
+            long m;
+            while ( nanos < ( m = min.get()) && ! min.compareAndSet( m, nanos));
+            while ( nanos > ( m = max.get()) && ! max.compareAndSet( m, nanos));
+        }
+
+        // adds all the records of another histogram to this
+        private void merge(Histogram other){
+            for ( int i = 0; i < BUCKETS; i++)
+                buckets.addAndGet( i, other.buckets.get( i));
+            count.add( other.count.sum());
+            total.add( other.total.sum());
+            long m, o = other.min.get();
+            while ( o < ( m = min.get()) && ! min.compareAndSet( m, o));
+            o = other.max.get();
+            while ( o > ( m = max.get()) && ! max.compareAndSet( m, o));
+        }
+
+        /**
+         * @return the number of collected durations.
+         */
+        public long getCount(){
+            return count.sum();
+        }
+        /**
+         * @return the sum of the collected durations in nanoseconds.
+         */
+        public long getTotal(){
+            return total.sum();
+        }
+        /**
+         * @return the average of the collected durations in nanoseconds, or {@code 0} if there are none.
+         */
+        public double getMean(){
+            long c = getCount();
+            return c > 0 ? (double) getTotal() / c : 0;
+        }
+        /**
+         * @return the minimum collected duration in nanoseconds, or {@code 0} if there are none.
+         */
+        public long getMin(){
+            return getCount() > 0 ? min.get() : 0;
+        }
+        /**
+         * @return the maximum collected duration in nanoseconds, or {@code 0} if there are none.
+         */
+        public long getMax(){
+            return getCount() > 0 ? max.get() : 0;
+        }
+
+        /**
+         * @param percentile a value in [0,100].
+         * @return the approximated duration in nanoseconds below which there are the given percentile of the collected durations.
+         * It is the upper bound of the bucket containing the percentile, limited to {@link #getMax()}.
+         */
+        public long getPercentile(double percentile){
+            long c = getCount();
+            if ( c == 0)
+                return 0;
+            long rank = (long) Math.ceil( c * Math.max( 0, Math.min( 100, percentile)) / 100);
+            long seen = 0;
+            for ( int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get( i);
+                if ( seen >= rank && seen > 0)
+                    return Math.min( ( 1L << i) - 1, getMax()); // for i = 63 it is Long.MAX_VALUE
+            }
+            return getMax();
+        }
+
+        @Override
+        public String toString() {
+            return "{count=" + getCount() + ", total=" + getTotal() + "ns, mean=" + (long) getMean() + "ns, min=" + getMin()
+                    + "ns, p50=" + getPercentile( 50) + "ns, p99=" + getPercentile( 99) + "ns, max=" + getMax() + "ns}";
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.DataPropertyRelations;
+import it.emarolab.amor.owlInterface.OWLEnquirer;
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.ObjectPropertyRelations;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The queries of the descriptors answered from the asserted axioms of an ontology (and its imports).
+ * <p>
+ *     The axioms are retrieved through the indexes of the {@link OWLOntology}, without involving the reasoner
+ *     (and without acquiring the lock that aMOR uses for its queries). The results have the same types of the
+ *     aMOR queries, but they only contain the named entities that are explicitly related to the queried instance,
+ *     i.e., they are not transitively closed.
+ *     <br>
+ *     The restrictions (i.e., {@link QueryKind#CLASS_EQUIVALENT_RESTRICTION} and the domains and ranges of properties)
+ *     are answered from the asserted {@code EquivalentClasses}, {@code ObjectPropertyDomain}, {@code ObjectPropertyRange},
+ *     {@code DataPropertyDomain} and {@code DataPropertyRange} axioms of the ontology (not of its imports) by an aMOR
+ *     {@link OWLEnquirer}, which does not acquire the lock of the ontology.
+ *     The characteristics of properties are already asserted lookups, and they are performed as usual.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorQuery.AssertedQueries <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+final class AssertedQueries {
+
+    private AssertedQueries() {
+    }
+
+    /**
+     * Answers a query from the asserted axioms.
+     * @param ontology the ontology to query.
+     * @param instance the ground instance of the descriptor.
+     * @param kind the kind of query.
+     * @param argument the argument of the query, or {@code null}.
+     * @param query the actual query of the descriptor, which is performed only for the characteristics of properties.
+     * @param <T> the type of the query result.
+     * @return the asserted result of the query.
+     * @throws IllegalArgumentException if the given kind of query cannot be answered from the asserted axioms.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T answer(OWLReferences ontology, Object instance, QueryKind kind, Object argument, Supplier<T> query){
+        List<OWLOntology> ontologies = ontology.getOWLOntology().importsClosure().collect( Collectors.toList());
+        Set<Object> result = new HashSet<>();
+        switch ( kind){
+            case CLASS_INSTANCE:
+                ontologies.stream().flatMap( o -> o.classAssertionAxioms( (OWLClass) instance))
+                        .forEach( a -> collect( result, OWLNamedIndividual.class, a.getIndividual(), instance));
+                break;
+            case CLASS_DISJOINT:
+                ontologies.stream().flatMap( o -> o.disjointClassesAxioms( (OWLClass) instance))
+                        .forEach( a -> collect( result, OWLClass.class, a.classExpressions(), instance));
+                break;
+            case CLASS_EQUIVALENT:
+                ontologies.stream().flatMap( o -> o.equivalentClassesAxioms( (OWLClass) instance))
+                        .forEach( a -> collect( result, OWLClass.class, a.classExpressions(), instance));
+                break;
+            case CLASS_SUB:
+                ontologies.stream().flatMap( o -> o.subClassAxiomsForSuperClass( (OWLClass) instance))
+                        .forEach( a -> collect( result, OWLClass.class, a.getSubClass(), instance));
+                break;
+            case CLASS_SUPER:
+                ontologies.stream().flatMap( o -> o.subClassAxiomsForSubClass( (OWLClass) instance))
+                        .forEach( a -> collect( result, OWLClass.class, a.getSuperClass(), instance));
+                break;
+            case CLASS_EQUIVALENT_RESTRICTION:
+                return (T) enquirer( ontology).getClassRestrictions( (OWLClass) instance);
+
+            case INDIVIDUAL_TYPE:
+                ontologies.stream().flatMap( o -> o.classAssertionAxioms( (OWLIndividual) instance))
+                        .forEach( a -> collect( result, OWLClass.class, a.getClassExpression(), instance));
+                break;
+            case INDIVIDUAL_DISJOINT:
+                ontologies.stream().flatMap( o -> o.differentIndividualAxioms( (OWLIndividual) instance))
+                        .forEach( a -> collect( result, OWLNamedIndividual.class, a.individuals(), instance));
+                break;
+            case INDIVIDUAL_EQUIVALENT:
+                ontologies.stream().flatMap( o -> o.sameIndividualAxioms( (OWLIndividual) instance))
+                        .forEach( a -> collect( result, OWLNamedIndividual.class, a.individuals(), instance));
+                break;
+            case INDIVIDUAL_OBJECT_LINK:
+                return (T) objectLinks( ontologies, (OWLNamedIndividual) instance, argument);
+            case INDIVIDUAL_DATA_LINK:
+                return (T) dataLinks( ontologies, (OWLNamedIndividual) instance, argument);
+
+            case OBJECT_PROPERTY_INVERSE:
+                ontologies.stream().flatMap( o -> o.inverseObjectPropertyAxioms( (OWLObjectProperty) instance))
+                        .forEach( a -> collect( result, OWLObjectProperty.class, a.properties(), instance));
+                break;
+            case OBJECT_PROPERTY_DISJOINT:
+                ontologies.stream().flatMap( o -> o.disjointObjectPropertiesAxioms( (OWLObjectProperty) instance))
+                        .forEach( a -> collect( result, OWLObjectProperty.class, a.properties(), instance));
+                break;
+            case OBJECT_PROPERTY_EQUIVALENT:
+                ontologies.stream().flatMap( o -> o.equivalentObjectPropertiesAxioms( (OWLObjectProperty) instance))
+                        .forEach( a -> collect( result, OWLObjectProperty.class, a.properties(), instance));
+                break;
+            case OBJECT_PROPERTY_SUB:
+                ontologies.stream().flatMap( o -> o.objectSubPropertyAxiomsForSuperProperty( (OWLObjectProperty) instance))
+                        .forEach( a -> collect( result, OWLObjectProperty.class, a.getSubProperty(), instance));
+                break;
+            case OBJECT_PROPERTY_SUPER:
+                ontologies.stream().flatMap( o -> o.objectSubPropertyAxiomsForSubProperty( (OWLObjectProperty) instance))
+                        .forEach( a -> collect( result, OWLObjectProperty.class, a.getSuperProperty(), instance));
+                break;
+            case OBJECT_PROPERTY_DOMAIN:
+                return (T) enquirer( ontology).getObjectDomainRestrictions( (OWLObjectProperty) instance);
+            case OBJECT_PROPERTY_RANGE:
+                return (T) enquirer( ontology).getObjectRangeRestrictions( (OWLObjectProperty) instance);
+
+            case DATA_PROPERTY_DISJOINT:
+                ontologies.stream().flatMap( o -> o.disjointDataPropertiesAxioms( (OWLDataProperty) instance))
+                        .forEach( a -> collect( result, OWLDataProperty.class, a.properties(), instance));
+                break;
+            case DATA_PROPERTY_EQUIVALENT:
+                ontologies.stream().flatMap( o -> o.equivalentDataPropertiesAxioms( (OWLDataProperty) instance))
+                        .forEach( a -> collect( result, OWLDataProperty.class, a.properties(), instance));
+                break;
+            case DATA_PROPERTY_SUB:
+                ontologies.stream().flatMap( o -> o.dataSubPropertyAxiomsForSuperProperty( (OWLDataProperty) instance))
+                        .forEach( a -> collect( result, OWLDataProperty.class, a.getSubProperty(), instance));
+                break;
+            case DATA_PROPERTY_SUPER:
+                ontologies.stream().flatMap( o -> o.dataSubPropertyAxiomsForSubProperty( (OWLDataProperty) instance))
+                        .forEach( a -> collect( result, OWLDataProperty.class, a.getSuperProperty(), instance));
+                break;
+            case DATA_PROPERTY_DOMAIN:
+                return (T) enquirer( ontology).getDataDomainRestrictions( (OWLDataProperty) instance);
+            case DATA_PROPERTY_RANGE:
+                return (T) enquirer( ontology).getDataRangeRestrictions( (OWLDataProperty) instance);
+
+            case OBJECT_PROPERTY_CHARACTERISTIC:
+            case DATA_PROPERTY_CHARACTERISTIC:
+                return query.get(); // they are already asserted lookups
+            default:
+                throw new IllegalArgumentException( kind + " cannot be answered from the asserted axioms");
+        }
+        return (T) result;
+    }
+
+    // the aMOR queries of restrictions only read the asserted axioms, but OWLReferences performs them with its lock
+    private static OWLEnquirer enquirer(OWLReferences ontology){
+        return new OWLEnquirer( ontology){};
+    }
+
+    // it adds the members of the given type, but the instance itself
+    private static void collect(Set<Object> result, java.lang.Class<?> type, Stream<?> members, Object instance){
+        members.forEach( m -> collect( result, type, m, instance));
+    }
+    private static void collect(Set<Object> result, java.lang.Class<?> type, Object member, Object instance){
+        if ( type.isInstance( member) && ! member.equals( instance))
+            result.add( member);
+    }
+
+    // the values of the given property, or the values of all the properties if it is null
+    private static Object objectLinks(List<OWLOntology> ontologies, OWLNamedIndividual individual, Object property){
+        Map<OWLObjectProperty, Set<OWLNamedIndividual>> links = new HashMap<>();
+        ontologies.stream().flatMap( o -> o.objectPropertyAssertionAxioms( individual))
+                .filter( a -> ! a.getProperty().isAnonymous() && a.getObject().isNamed()
+                        && ( property == null || property.equals( a.getProperty())))
+                .forEach( a -> links.computeIfAbsent( a.getProperty().asOWLObjectProperty(), p -> new HashSet<>())
+                        .add( a.getObject().asOWLNamedIndividual()));
+        if ( property != null)
+            return links.getOrDefault( property, new HashSet<>());
+        Set<ObjectPropertyRelations> relations = new HashSet<>();
+        for ( Map.Entry<OWLObjectProperty, Set<OWLNamedIndividual>> e : links.entrySet())
+            relations.add( new ObjectPropertyRelations( individual, e.getKey(), e.getValue()));
+        return relations;
+    }
+    private static Object dataLinks(List<OWLOntology> ontologies, OWLNamedIndividual individual, Object property){
+        Map<OWLDataProperty, Set<OWLLiteral>> links = new HashMap<>();
+        ontologies.stream().flatMap( o -> o.dataPropertyAssertionAxioms( individual))
+                .filter( a -> property == null || property.equals( a.getProperty()))
+                .forEach( a -> links.computeIfAbsent( a.getProperty().asOWLDataProperty(), p -> new HashSet<>())
+                        .add( a.getObject()));
+        if ( property != null)
+            return links.getOrDefault( property, new HashSet<>());
+        Set<DataPropertyRelations> relations = new HashSet<>();
+        for ( Map.Entry<OWLDataProperty, Set<OWLLiteral>> e : links.entrySet())
+            relations.add( new DataPropertyRelations( individual, e.getKey(), e.getValue()));
+        return relations;
+    }
+}
@@ -0,0 +1,196 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyWarmUp;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.DescriptorEvent;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.DescriptorEvents;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * This class is the single point through which the expressions query the ontology to read axioms.
+ * <p>
+ *     All the {@code queryXxx()} methods of the expressions (see {@link QueryKind}) perform
+ *     their aMOR query through {@link #query(Axiom.Descriptor, QueryKind, Supplier)}, which
+ *     uses the {@link QueryCache} of the ontology if it has been enabled, or just performs the query otherwise.
+ *     The queries actually performed on the ontology are timed and counted in {@link Metrics#get()}
+ *     (as {@link Metrics.Phase#QUERY} and {@link Metrics.Counter#REASONER_QUERIES}), with their {@link QueryKind},
+ *     and they are also recorded as {@link DescriptorEvent.Query} Flight Recorder events.
+ *     Similarly, the expressions read and write their axioms through {@link #read(Axiom.Descriptor, QueryKind, Supplier)}
+ *     and {@link #write(Axiom.Descriptor, QueryKind, Supplier)}, which time them as {@link Metrics.Phase#READ} and
+ *     {@link Metrics.Phase#WRITE}, and record them as {@link DescriptorEvent.Read} and {@link DescriptorEvent.Write}
+ *     Flight Recorder events, whichever descriptor (or selective reading) performs them.
+ *     The queries of the descriptors in an open {@link ModuleScope.Session} are answered from its module, without the cache.
+ *     If the {@link MaterialisedIndex} of the ontology has been enabled, the queries are answered from it
+ *     while it is materialised, and the cache is not used in this case.
+ *     The queries on an ontology that is still warming up (see {@link OntologyWarmUp}) wait for it,
+ *     or they are answered from the asserted axioms, depending on its {@link OntologyWarmUp.Policy}.
+ *     <br>
+ *     The queries are always answered from the asserted axioms of the ontology, without involving the reasoner and
+ *     the other features above, when {@link #isReadingAsserted(Axiom.Descriptor)}, i.e., inside
+ *     {@link #readAsserted(Supplier)} or for the descriptors with {@link DescriptorGround#setReadingAsserted(boolean)}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorQuery.DescriptorQuery <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class DescriptorQuery {
+
+    private static final ThreadLocal<Boolean> READING_ASSERTED = ThreadLocal.withInitial( () -> false);
+
+    private DescriptorQuery() {
+    }
+
+    /**
+     * Performs a reading (e.g., {@code descriptor::readAxioms}) so that all the queries that it performs on the
+     * current thread are answered from the asserted axioms of the ontology, without involving the reasoner.
+     * @param reading the reading to perform.
+     * @param <T> the type of the result of the reading.
+     * @return the result of the reading.
+     */
+    public static <T> T readAsserted(Supplier<T> reading){
+        boolean previous = READING_ASSERTED.get();
+        READING_ASSERTED.set( true);
+        try {
+            return reading.get();
+        } finally {
+            READING_ASSERTED.set( previous);
+        }
+    }
+
+    /**
+     * @param descriptor a descriptor.
+     * @return {@code true} if the queries of the given descriptor are answered from the asserted axioms,
+     * i.e., inside {@link #readAsserted(Supplier)} or if {@link DescriptorGround#isReadingAsserted()}.
+     */
+    public static boolean isReadingAsserted(Axiom.Descriptor<OWLReferences,?> descriptor){
+        return READING_ASSERTED.get()
+                || ( descriptor instanceof DescriptorGround && ((DescriptorGround<?>) descriptor).isReadingAsserted());
+    }
+
+    /**
+     * Performs a query for a descriptor.
+     * @param descriptor the descriptor that performs the query.
+     * @param kind the kind of query.
+     * @param query the actual query on the ontology of the descriptor.
+     * @param <T> the type of the query result.
+     * @return the result of the query. It might be shared with other callers and should not be changed.
+     */
+    public static <T> T query(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Supplier<T> query){
+        if ( isReadingAsserted( descriptor))
+            return AssertedQueries.answer( descriptor.getOntologyReference(), descriptor.getInstance(), kind, null, query);
+        T materialised = MaterialisedIndex.lookup( descriptor, kind, null);
+        if ( materialised != null) // answered without the reasoner
+            return materialised;
+        T asserted = warming( descriptor, kind, null, query);
+        if ( asserted != null) // answered while the reasoner is warming up
+            return asserted;
+        Supplier<T> measured = measured( descriptor, kind, query);
+        Supplier<T> scoped = ModuleScope.scoped( descriptor, kind, measured);
+        QueryCache cache = QueryCache.get( descriptor.getOntologyReference());
+        if ( cache == null || scoped != measured) // the answers of a module are not cached
+            return scoped.get();
+        return cache.query( descriptor.getInstance(), kind, measured);
+    }
+
+    /**
+     * Performs a query with an argument for a descriptor (e.g., a query targeted to a specific property).
+     * @param descriptor the descriptor that performs the query.
+     * @param kind the kind of query.
+     * @param argument the argument of the query.
+     * @param query the actual query on the ontology of the descriptor.
+     * @param <T> the type of the query result.
+     * @return the result of the query. It might be shared with other callers and should not be changed.
+     */
+    public static <T> T query(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Object argument, Supplier<T> query){
+        if ( isReadingAsserted( descriptor))
+            return AssertedQueries.answer( descriptor.getOntologyReference(), descriptor.getInstance(), kind, argument, query);
+        T materialised = MaterialisedIndex.lookup( descriptor, kind, argument);
+        if ( materialised != null) // answered without the reasoner
+            return materialised;
+        T asserted = warming( descriptor, kind, argument, query);
+        if ( asserted != null) // answered while the reasoner is warming up
+            return asserted;
+        Supplier<T> measured = measured( descriptor, kind, query);
+        Supplier<T> scoped = ModuleScope.scoped( descriptor, kind, measured);
+        QueryCache cache = QueryCache.get( descriptor.getOntologyReference());
+        if ( cache == null || scoped != measured) // the answers of a module are not cached
+            return scoped.get();
+        return cache.query( descriptor.getInstance(), kind, argument, measured);
+    }
+
+    /**
+     * Performs the reading of an expression of a descriptor (i.e., the body of its {@code readAxioms()}).
+     * @param descriptor the descriptor that implements the expression.
+     * @param kind the kind of query of the expression.
+     * @param reading the actual reading of the expression.
+     * @return the changes made in the {@link Axiom.EntitySet} of the expression during the reading.
+     */
+    public static List<Axiom.MappingIntent> read(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind,
+                                                 Supplier<List<Axiom.MappingIntent>> reading){
+        return measured( descriptor, kind, Metrics.Phase.READ, DescriptorEvents.Type.READ, reading);
+    }
+
+    /**
+     * Performs the writing of an expression of a descriptor (i.e., the body of its {@code writeAxioms()}).
+     * @param descriptor the descriptor that implements the expression.
+     * @param kind the kind of query of the expression.
+     * @param writing the actual writing of the expression.
+     * @return the changes made in the OWL ontology during the writing.
+     */
+    public static List<Axiom.MappingIntent> write(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind,
+                                                  Supplier<List<Axiom.MappingIntent>> writing){
+        return measured( descriptor, kind, Metrics.Phase.WRITE, DescriptorEvents.Type.WRITE, writing);
+    }
+
+    // it records the reading or the writing of an expression in the metrics and as a flight recorder event
+    private static List<Axiom.MappingIntent> measured(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Metrics.Phase phase,
+                                                      DescriptorEvents.Type type, Supplier<List<Axiom.MappingIntent>> synchronisation){
+        Metrics metrics = Metrics.get();
+        DescriptorEvent event = DescriptorEvents.begin( type);
+        if ( ! metrics.isEnabled() && event == null)
+            return synchronisation.get();
+        long start = metrics.start();
+        List<Axiom.MappingIntent> intents = synchronisation.get();
+        metrics.stop( phase, kind, start);
+        DescriptorEvents.end( event, descriptor, kind, intents);
+        return intents;
+    }
+
+    // it waits for the warm-up of the ontology, or it answers from the asserted axioms in the meanwhile (otherwise it returns null)
+    private static <T> T warming(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Object argument, Supplier<T> query){
+        OntologyWarmUp warmUp = OntologyWarmUp.get( descriptor.getOntologyReference());
+        if ( warmUp == null || warmUp.isReady())
+            return null;
+        if ( warmUp.getPolicy() == OntologyWarmUp.Policy.ASSERTED)
+            return AssertedQueries.answer( descriptor.getOntologyReference(), descriptor.getInstance(), kind, argument, query);
+        warmUp.await(); // it might throw an exception after a timeout
+        return null;
+    }
+
+    // it records the query in the metrics and as a flight recorder event when it is actually performed
+    private static <T> Supplier<T> measured(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Supplier<T> query){
+        Metrics metrics = Metrics.get();
+        if ( ! metrics.isEnabled() && ! DescriptorEvents.isEnabled( DescriptorEvents.Type.QUERY))
+            return query;
+        return () -> {
+            DescriptorEvent event = DescriptorEvents.begin( DescriptorEvents.Type.QUERY);
+            long start = metrics.start();
+            T result = query.get();
+            metrics.stop( Metrics.Phase.QUERY, kind, start);
+            metrics.count( Metrics.Counter.REASONER_QUERIES, kind, 1);
+            DescriptorEvents.end( event, descriptor, kind);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,586 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.DataPropertyRelations;
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.ObjectPropertyRelations;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.Imports;
+
+import java.io.*;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * This class materialises the results of the queries that the descriptors perform on an ontology.
+ * <p>
+ *     An index is opt-in and there is at most one index for each {@link OWLReferences}; it is created with
+ *     {@link #enable(OWLReferences)} and removed with {@link #disable(OWLReferences)}.
+ *     Every time that the reasoner is synchronised (see {@link OntologyMonitor}), the index performs, once,
+ *     the queries of all the {@link QueryKind}s related to the reasoner (i.e., all but the characteristics of properties)
+ *     for all the classes, individuals and properties in the signature of the ontology (and its imports).
+ *     Then, the {@code queryXxx()} methods of the expressions are answered from the index by
+ *     {@link DescriptorQuery#query(it.emarolab.owloop.core.Axiom.Descriptor, QueryKind, Supplier)},
+ *     without involving the reasoner. The index is dropped as soon as a change is applied to the ontology,
+ *     and queries are performed on the ontology until the reasoner is synchronised again.
+ *     <br>
+ *     The queries for entities that were not in the signature during the materialisation are performed on the ontology.
+ * </p>
+ * <p>
+ *     The materialised results (i.e., the {@link #SNAPSHOT_KINDS}) can be saved in a compact file
+ *     with {@link #save(File)}, together with a checksum of the axioms of the ontology. At the next start,
+ *     {@link #enable(OWLReferences, File)} restores them if the checksum matches, without classifying the ontology.
+ *     The restrictions are not saved, since aMOR reads them from the asserted axioms, and they are restored from
+ *     the ontology (e.g., {@link QueryKind#CLASS_EQUIVALENT_RESTRICTION}). Then, the ontology is reclassified in background
+ *     through the {@link OntologyExecutor} (see {@link #getReclassification()}), and the restored results are replaced
+ *     by a new materialisation when it is done.
+ * </p>
+ * The materialised results are shared and should never be changed by the caller.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorQuery.MaterialisedIndex <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class MaterialisedIndex
+        implements OntologyMonitor.Listener {
+
+    /**
+     * The kinds of queries that are restored from a snapshot, i.e., all the kinds that are materialised
+     * (all but the characteristics of properties).
+     */
+    public static final Set<QueryKind> SNAPSHOT_KINDS = Collections.unmodifiableSet( EnumSet.complementOf( EnumSet.of(
+            QueryKind.OBJECT_PROPERTY_CHARACTERISTIC, QueryKind.DATA_PROPERTY_CHARACTERISTIC)));
+    // the kinds of queries that aMOR answers from the asserted axioms, which are restored from the ontology
+    private static final Set<QueryKind> RESTRICTION_KINDS = Collections.unmodifiableSet( EnumSet.of(
+            QueryKind.CLASS_EQUIVALENT_RESTRICTION,
+            QueryKind.OBJECT_PROPERTY_DOMAIN, QueryKind.OBJECT_PROPERTY_RANGE,
+            QueryKind.DATA_PROPERTY_DOMAIN, QueryKind.DATA_PROPERTY_RANGE));
+    private static final String SNAPSHOT_HEADER = "owloop-snapshot 2";
+
+    private static final OntologyRegistry<MaterialisedIndex> INDEXES = new OntologyRegistry<>( MaterialisedIndex::disable);
+
+    /**
+     * Enables an index for the given ontology. It is materialised right away if the reasoner
+     * is synchronised with the ontology, or at the next synchronisation otherwise.
+     * @param ontology the ontology whose queries should be materialised.
+     * @return the index of the given ontology.
+     */
+    public static MaterialisedIndex enable(OWLReferences ontology){
+        return enable( ontology, null);
+    }
+
+    /**
+     * Enables an index for the given ontology, and restores it from a snapshot (see {@link #save(File)})
+     * if the snapshot has been saved for the same axioms. In this case, the ontology is reclassified in background
+     * (see {@link #getReclassification()}). Otherwise, it behaves like {@link #enable(OWLReferences)}.
+     * @param ontology the ontology whose queries should be materialised.
+     * @param snapshot the file of the snapshot, which might not exist. It is not used if the index is already enabled.
+     * @return the index of the given ontology.
+     */
+    public static MaterialisedIndex enable(OWLReferences ontology, File snapshot){
+        MaterialisedIndex index;
+        synchronized ( INDEXES) {
+            index = INDEXES.get( ontology);
+            if ( index != null)
+                return index;
+            index = new MaterialisedIndex( ontology);
+            INDEXES.put( ontology, index);
+        }
+        if ( snapshot != null && snapshot.isFile() && index.restore( snapshot)) {
+            index.reclassify();
+            return index;
+        }
+        if ( ! index.monitor.hasPendingChanges())
+            index.materialise();
+        return index;
+    }
+
+    /**
+     * Disables the index of the given ontology.
+     * @param ontology the ontology whose queries should be performed on the reasoner.
+     */
+    public static void disable(OWLReferences ontology){
+        synchronized ( INDEXES) {
+            MaterialisedIndex index = INDEXES.remove( ontology);
+            if ( index != null) {
+                index.monitor.removeListener( index);
+                index.drop();
+            }
+        }
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the index of the given ontology, or {@code null} if it is not enabled.
+     */
+    public static MaterialisedIndex get(OWLReferences ontology){
+        return INDEXES.get( ontology);
+    }
+
+    /**
+     * Returns the materialised result of a query. This is used by {@link DescriptorQuery}.
+     * @param descriptor the descriptor that performs the query.
+     * @param kind the kind of query.
+     * @param argument the argument of the query, or {@code null}.
+     * @param <T> the type of the query result.
+     * @return the materialised result, or {@code null} if it should be queried to the ontology.
+     */
+    static <T> T lookup(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Object argument){
+        MaterialisedIndex index = get( descriptor.getOntologyReference());
+        if ( index == null || ! SNAPSHOT_KINDS.contains( kind)) // the characteristics are not materialised
+            return null;
+        return index.get( descriptor.getInstance(), kind, argument);
+    }
+
+    private OntologyMonitor monitor;
+    private volatile Materialisation materialisation; // null if the ontology changed after the last materialisation
+    private long generation = 0; // increased at each change, to not publish materialisations computed before it
+    private long hits = 0, misses = 0, materialisations = 0;
+    private boolean restored = false; // true if the current materialisation has been restored from a snapshot
+    private volatile CompletableFuture<OWLReferences> reclassification; // null if the index has not been restored
+
+    private MaterialisedIndex(OWLReferences ontology) {
+        this.monitor = OntologyMonitor.of( ontology);
+        monitor.addListener( this);
+    }
+
+    /**
+     * @return the ontology of this index.
+     */
+    public OWLReferences getOntologyReference() {
+        return monitor.getOntologyReference();
+    }
+
+    /**
+     * @return {@code true} if the queries are currently answered from this index. If the reasoner has been
+     * synchronised outside OWLOOP, the index is materialised at the next query.
+     */
+    public boolean isMaterialised() {
+        return materialisation != null;
+    }
+
+    /**
+     * @return {@code true} if the queries are currently answered from a snapshot (see {@link #enable(OWLReferences, File)}),
+     * i.e., until the background reclassification replaces it.
+     */
+    public synchronized boolean isRestored() {
+        return materialisation != null && restored;
+    }
+
+    /**
+     * @return the reclassification of the ontology started after restoring a snapshot, which is completed when the
+     * restored results have been replaced by a new materialisation, or {@code null} if the index has not been restored.
+     */
+    public CompletableFuture<OWLReferences> getReclassification() {
+        return reclassification;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Object instance, QueryKind kind, Object argument){
+        Materialisation m = materialisation;
+        if ( m == null) {
+            monitor.checkReasoned(); // in case the reasoner has been synchronised outside OWLOOP
+            m = materialisation;
+        }
+        Object result = m == null ? null : m.get( instance, kind, argument);
+        synchronized ( this) {
+            if ( result != null)
+                hits++;
+            else misses++;
+        }
+        return (T) result;
+    }
+
+    /**
+     * Performs all the queries on the ontology and answers them from this index, until the ontology changes.
+     * It is called every time that the reasoner is synchronised.
+     */
+    public void materialise(){
+        long materialising;
+        synchronized ( this) {
+            materialising = generation;
+        }
+        Materialisation m = new Materialisation( getOntologyReference());
+        synchronized ( this) {
+            if ( materialising == generation) { // nothing has been changed in the meanwhile
+                materialisation = m;
+                materialisations++;
+                restored = false;
+            }
+        }
+    }
+
+    /**
+     * Saves the {@link #SNAPSHOT_KINDS} of the current materialisation (but the restrictions, which are read
+     * from the asserted axioms), and the checksum of the axioms of the ontology, in a gzip text file.
+     * @param file the file of the snapshot, which is overwritten.
+     * @return {@code true} if the snapshot has been saved, {@code false} if this index is not materialised or an error occurred.
+     */
+    public boolean save(File file){
+        Materialisation m = materialisation;
+        if ( m == null)
+            return false;
+        OWLReferences ontology = getOntologyReference();
+        OWLOntology owl = ontology.getOWLOntology();
+        try ( Writer out = new BufferedWriter( new OutputStreamWriter( new GZIPOutputStream( new FileOutputStream( file)), StandardCharsets.UTF_8))) {
+            out.write( SNAPSHOT_HEADER + "\n" + checksum( ontology) + "\n");
+            for ( OWLClass c : owl.classesInSignature( Imports.INCLUDED).collect( Collectors.toList()))
+                m.save( out, c, QueryKind.CLASS_SUB, QueryKind.CLASS_SUPER, QueryKind.CLASS_EQUIVALENT,
+                        QueryKind.CLASS_DISJOINT, QueryKind.CLASS_INSTANCE);
+            for ( OWLNamedIndividual i : owl.individualsInSignature( Imports.INCLUDED).collect( Collectors.toList())) {
+                m.save( out, i, QueryKind.INDIVIDUAL_TYPE, QueryKind.INDIVIDUAL_DISJOINT, QueryKind.INDIVIDUAL_EQUIVALENT);
+                m.saveLinks( out, i);
+            }
+            for ( OWLObjectProperty p : owl.objectPropertiesInSignature( Imports.INCLUDED).collect( Collectors.toList()))
+                m.save( out, p, QueryKind.OBJECT_PROPERTY_SUB, QueryKind.OBJECT_PROPERTY_SUPER, QueryKind.OBJECT_PROPERTY_EQUIVALENT,
+                        QueryKind.OBJECT_PROPERTY_DISJOINT, QueryKind.OBJECT_PROPERTY_INVERSE);
+            for ( OWLDataProperty p : owl.dataPropertiesInSignature( Imports.INCLUDED).collect( Collectors.toList()))
+                m.save( out, p, QueryKind.DATA_PROPERTY_SUB, QueryKind.DATA_PROPERTY_SUPER, QueryKind.DATA_PROPERTY_EQUIVALENT,
+                        QueryKind.DATA_PROPERTY_DISJOINT);
+            return true;
+        } catch ( IOException e) {
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    // it publishes the materialisation of a snapshot, if it has been saved for the current axioms of the ontology
+    private boolean restore(File file){
+        long restoring;
+        synchronized ( this) {
+            restoring = generation;
+        }
+        OWLReferences ontology = getOntologyReference();
+        Materialisation m = new Materialisation();
+        try ( BufferedReader in = new BufferedReader( new InputStreamReader( new GZIPInputStream( new FileInputStream( file)), StandardCharsets.UTF_8))) {
+            if ( ! SNAPSHOT_HEADER.equals( in.readLine()) || ! checksum( ontology).equals( in.readLine()))
+                return false; // saved by another version, or for other axioms
+            OWLDataFactory factory = ontology.getOWLFactory();
+            String line;
+            while ( ( line = in.readLine()) != null)
+                m.restore( factory, line);
+            m.restoreRestrictions( ontology);
+        } catch ( IOException | RuntimeException e) {
+            e.printStackTrace();
+            return false;
+        }
+        synchronized ( this) {
+            if ( restoring != generation)
+                return false;
+            materialisation = m;
+            restored = true;
+            return true;
+        }
+    }
+
+    // it synchronises the reasoner in background, which materialises this index again (see reasoned())
+    private void reclassify(){
+        OWLReferences ontology = getOntologyReference();
+        reclassification = OntologyExecutor.submit( ontology, () -> {
+            OntologyMonitor.synchroniseReasoner( ontology);
+            return ontology;
+        });
+        reclassification.whenComplete( (r, x) -> {
+            if ( x != null)
+                x.printStackTrace(); // the restored results are used until the next synchronisation anyway
+        });
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the SHA-256 checksum of the axioms of the given ontology (and its imports), used to validate a snapshot.
+     */
+    public static String checksum(OWLReferences ontology){
+        List<String> axioms = ontology.getOWLOntology().axioms( Imports.INCLUDED)
+                .map( OWLAxiom::toString)
+                .sorted() // the order of the axioms in the ontology is not deterministic
+                .collect( Collectors.toList());
+        try {
+            MessageDigest digest = MessageDigest.getInstance( "SHA-256");
+            for ( String a : axioms) {
+                digest.update( a.getBytes( StandardCharsets.UTF_8));
+                digest.update( (byte) '\n');
+            }
+            StringBuilder hex = new StringBuilder();
+            for ( byte b : digest.digest())
+                hex.append( String.format( "%02x", b));
+            return hex.toString();
+        } catch ( Exception e) { // SHA-256 is always available
+            e.printStackTrace();
+            return "";
+        }
+    }
+
+    private synchronized void drop(){
+        generation++;
+        materialisation = null;
+    }
+
+    @Override
+    public void changed(List<? extends OWLOntologyChange> changes) {
+        drop();
+    }
+
+    @Override
+    public void reasoned() {
+        materialise();
+    }
+
+    /**
+     * @return the number of materialised results.
+     */
+    public int size(){
+        Materialisation m = materialisation;
+        return m == null ? 0 : m.results.size();
+    }
+    /**
+     * @return the number of queries answered from this index.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+    /**
+     * @return the number of queries that have been performed on the ontology, since they were not materialised.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+    /**
+     * @return the number of times that the index has been materialised.
+     */
+    public synchronized long getMaterialisations() {
+        return materialisations;
+    }
+    /**
+     * Sets to {@code 0} the {@link #getHits()}, {@link #getMisses()} and {@link #getMaterialisations()} counters.
+     */
+    public synchronized void resetCounters(){
+        hits = 0;
+        misses = 0;
+        materialisations = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + "@" + getOntologyReference().getReferenceName()
+                + "{materialised=" + isMaterialised() + ", restored=" + isRestored() + ", size=" + size()
+                + ", hits=" + hits + ", misses=" + misses + ", materialisations=" + materialisations + "}";
+    }
+
+    // the results of all the queries at a synchronisation of the reasoner
+    private static class Materialisation {
+
+        private Map<QueryCache.Key,Object> results = new HashMap<>();
+        private Set<OWLEntity> entities = new HashSet<>(); // the materialised ground instances and properties
+        private Metrics metrics = Metrics.get();
+
+        private Materialisation() { // to be restored from a snapshot
+        }
+
+        private Materialisation(OWLReferences ontology) {
+            OWLOntology owl = ontology.getOWLOntology();
+            for ( OWLClass c : owl.classesInSignature( Imports.INCLUDED).collect( Collectors.toList())) {
+                put( c, QueryKind.CLASS_INSTANCE, () -> ontology.getIndividualB2Class( c));
+                put( c, QueryKind.CLASS_DISJOINT, () -> ontology.getDisjointClasses( c));
+                put( c, QueryKind.CLASS_EQUIVALENT, () -> ontology.getEquivalentClasses( c));
+                put( c, QueryKind.CLASS_SUB, () -> ontology.getSubClassOf( c));
+                put( c, QueryKind.CLASS_SUPER, () -> ontology.getSuperClassOf( c));
+                put( c, QueryKind.CLASS_EQUIVALENT_RESTRICTION, () -> ontology.getClassRestrictions( c));
+            }
+            for ( OWLObjectProperty p : owl.objectPropertiesInSignature( Imports.INCLUDED).collect( Collectors.toList())) {
+                put( p, QueryKind.OBJECT_PROPERTY_INVERSE, () -> ontology.getInverseProperty( p));
+                put( p, QueryKind.OBJECT_PROPERTY_DISJOINT, () -> ontology.getDisjointObjectProperty( p));
+                put( p, QueryKind.OBJECT_PROPERTY_EQUIVALENT, () -> ontology.getEquivalentObjectProperty( p));
+                put( p, QueryKind.OBJECT_PROPERTY_SUB, () -> ontology.getSubObjectPropertyOf( p));
+                put( p, QueryKind.OBJECT_PROPERTY_SUPER, () -> ontology.getSuperObjectPropertyOf( p));
+                put( p, QueryKind.OBJECT_PROPERTY_DOMAIN, () -> ontology.getObjectDomainRestrictions( p));
+                put( p, QueryKind.OBJECT_PROPERTY_RANGE, () -> ontology.getObjectRangeRestrictions( p));
+            }
+            for ( OWLDataProperty p : owl.dataPropertiesInSignature( Imports.INCLUDED).collect( Collectors.toList())) {
+                put( p, QueryKind.DATA_PROPERTY_DISJOINT, () -> ontology.getDisjointDataProperty( p));
+                put( p, QueryKind.DATA_PROPERTY_EQUIVALENT, () -> ontology.getEquivalentDataProperty( p));
+                put( p, QueryKind.DATA_PROPERTY_SUB, () -> ontology.getSubDataPropertyOf( p));
+                put( p, QueryKind.DATA_PROPERTY_SUPER, () -> ontology.getSuperDataPropertyOf( p));
+                put( p, QueryKind.DATA_PROPERTY_DOMAIN, () -> ontology.getDataDomainRestrictions( p));
+                put( p, QueryKind.DATA_PROPERTY_RANGE, () -> ontology.getDataRangeRestrictions( p));
+            }
+            for ( OWLNamedIndividual i : owl.individualsInSignature( Imports.INCLUDED).collect( Collectors.toList())) {
+                put( i, QueryKind.INDIVIDUAL_TYPE, () -> ontology.getIndividualClasses( i));
+                put( i, QueryKind.INDIVIDUAL_DISJOINT, () -> ontology.getDisjointIndividuals( i));
+                put( i, QueryKind.INDIVIDUAL_EQUIVALENT, () -> ontology.getEquivalentIndividuals( i));
+                // the links of each property are also indexed, for the queries with a property as argument
+                Set<ObjectPropertyRelations> objectLinks = put( i, QueryKind.INDIVIDUAL_OBJECT_LINK, () -> ontology.getObjectPropertyB2Individual( i));
+                if ( objectLinks != null)
+                    for ( ObjectPropertyRelations r : objectLinks)
+                        results.put( new QueryCache.Key( i, QueryKind.INDIVIDUAL_OBJECT_LINK, r.getProperty()), r.getValues());
+                Set<DataPropertyRelations> dataLinks = put( i, QueryKind.INDIVIDUAL_DATA_LINK, () -> ontology.getDataPropertyB2Individual( i));
+                if ( dataLinks != null)
+                    for ( DataPropertyRelations r : dataLinks)
+                        results.put( new QueryCache.Key( i, QueryKind.INDIVIDUAL_DATA_LINK, r.getProperty()), r.getValues());
+            }
+        }
+
+        private <T> T put(OWLEntity instance, QueryKind kind, Supplier<T> query){
+            long start = metrics.start();
+            T result = query.get();
+            metrics.stop( Metrics.Phase.QUERY, kind, start);
+            metrics.count( Metrics.Counter.REASONER_QUERIES, kind, 1);
+            entities.add( instance);
+            if ( result != null)
+                results.put( new QueryCache.Key( instance, kind, null), result);
+            return result;
+        }
+
+        // it writes a line with the kind, the instance and the results of each given kind of query
+        private void save(Writer out, OWLEntity instance, QueryKind... kinds) throws IOException {
+            for ( QueryKind kind : kinds) {
+                Object result = results.get( new QueryCache.Key( instance, kind, null));
+                if ( ! ( result instanceof Set))
+                    continue;
+                out.write( kind.name() + "\t" + instance.getIRI());
+                for ( Object value : (Set<?>) result)
+                    out.write( "\t" + ((OWLEntity) value).getIRI());
+                out.write( "\n");
+            }
+        }
+
+        // it writes a line with the property and its values for each link of the individual, or a line without links
+        private void saveLinks(Writer out, OWLNamedIndividual individual) throws IOException {
+            Object objectLinks = results.get( new QueryCache.Key( individual, QueryKind.INDIVIDUAL_OBJECT_LINK, null));
+            if ( objectLinks instanceof Set) {
+                out.write( QueryKind.INDIVIDUAL_OBJECT_LINK.name() + "\t" + individual.getIRI() + "\n");
+                for ( Object r : (Set<?>) objectLinks) {
+                    ObjectPropertyRelations relation = (ObjectPropertyRelations) r;
+                    out.write( QueryKind.INDIVIDUAL_OBJECT_LINK.name() + "\t" + individual.getIRI() + "\t" + relation.getProperty().getIRI());
+                    for ( OWLNamedIndividual value : relation.getValues())
+                        out.write( "\t" + value.getIRI());
+                    out.write( "\n");
+                }
+            }
+            Object dataLinks = results.get( new QueryCache.Key( individual, QueryKind.INDIVIDUAL_DATA_LINK, null));
+            if ( dataLinks instanceof Set) {
+                out.write( QueryKind.INDIVIDUAL_DATA_LINK.name() + "\t" + individual.getIRI() + "\n");
+                for ( Object r : (Set<?>) dataLinks) {
+                    DataPropertyRelations relation = (DataPropertyRelations) r;
+                    out.write( QueryKind.INDIVIDUAL_DATA_LINK.name() + "\t" + individual.getIRI() + "\t" + relation.getProperty().getIRI());
+                    for ( OWLLiteral value : relation.getValues())
+                        out.write( "\t" + toString( value));
+                    out.write( "\n");
+                }
+            }
+        }
+
+        private void restore(OWLDataFactory factory, String line) throws UnsupportedEncodingException {
+            String[] fields = line.split( "\t");
+            QueryKind kind = QueryKind.valueOf( fields[ 0]);
+            if ( kind == QueryKind.INDIVIDUAL_OBJECT_LINK || kind == QueryKind.INDIVIDUAL_DATA_LINK) {
+                restoreLinks( factory, kind, fields);
+                return;
+            }
+            EntityType<?> instanceType = instanceType( kind);
+            EntityType<?> valueType = kind == QueryKind.CLASS_INSTANCE ? EntityType.NAMED_INDIVIDUAL
+                    : kind == QueryKind.INDIVIDUAL_TYPE ? EntityType.CLASS : instanceType;
+            Set<OWLEntity> values = new HashSet<>();
+            for ( int i = 2; i < fields.length; i++)
+                values.add( factory.getOWLEntity( valueType, IRI.create( fields[ i])));
+            results.put( new QueryCache.Key( factory.getOWLEntity( instanceType, IRI.create( fields[ 1])), kind, null), values);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void restoreLinks(OWLDataFactory factory, QueryKind kind, String[] fields) throws UnsupportedEncodingException {
+            OWLNamedIndividual individual = factory.getOWLNamedIndividual( IRI.create( fields[ 1]));
+            entities.add( individual);
+            Set<Object> relations = (Set<Object>) results.computeIfAbsent( new QueryCache.Key( individual, kind, null), k -> new HashSet<>());
+            if ( fields.length == 2) // the line of the individual
+                return;
+            if ( kind == QueryKind.INDIVIDUAL_OBJECT_LINK) {
+                OWLObjectProperty property = factory.getOWLObjectProperty( IRI.create( fields[ 2]));
+                Set<OWLNamedIndividual> values = new HashSet<>();
+                for ( int i = 3; i < fields.length; i++)
+                    values.add( factory.getOWLNamedIndividual( IRI.create( fields[ i])));
+                relations.add( new ObjectPropertyRelations( individual, property, values));
+                results.put( new QueryCache.Key( individual, kind, property), values);
+                entities.add( property);
+            } else {
+                OWLDataProperty property = factory.getOWLDataProperty( IRI.create( fields[ 2]));
+                Set<OWLLiteral> values = new HashSet<>();
+                for ( int i = 3; i < fields.length; i++)
+                    values.add( toLiteral( factory, fields[ i]));
+                relations.add( new DataPropertyRelations( individual, property, values));
+                results.put( new QueryCache.Key( individual, kind, property), values);
+                entities.add( property);
+            }
+        }
+
+        // the restrictions are read by aMOR from the asserted axioms, which are the same of the snapshot
+        private void restoreRestrictions(OWLReferences ontology){
+            OWLOntology owl = ontology.getOWLOntology();
+            List<OWLEntity> restricted = new ArrayList<>();
+            restricted.addAll( owl.classesInSignature( Imports.INCLUDED).collect( Collectors.toList()));
+            restricted.addAll( owl.objectPropertiesInSignature( Imports.INCLUDED).collect( Collectors.toList()));
+            restricted.addAll( owl.dataPropertiesInSignature( Imports.INCLUDED).collect( Collectors.toList()));
+            for ( OWLEntity e : restricted)
+                for ( QueryKind kind : RESTRICTION_KINDS)
+                    if ( instanceType( kind) == e.getEntityType())
+                        results.put( new QueryCache.Key( e, kind, null), AssertedQueries.answer( ontology, e, kind, null, null));
+        }
+
+        // a literal as its (URL encoded) value, followed by its language or by its data type
+        private static String toString(OWLLiteral literal) throws UnsupportedEncodingException {
+            String value = URLEncoder.encode( literal.getLiteral(), "UTF-8");
+            if ( literal.hasLang())
+                return value + "@" + literal.getLang();
+            return value + "^^" + literal.getDatatype().getIRI();
+        }
+        private static OWLLiteral toLiteral(OWLDataFactory factory, String field) throws UnsupportedEncodingException {
+            int type = field.indexOf( "^^"), lang = field.indexOf( '@'); // they are encoded in the value
+            if ( type >= 0 && ( lang < 0 || type < lang))
+                return factory.getOWLLiteral( URLDecoder.decode( field.substring( 0, type), "UTF-8"),
+                        factory.getOWLDatatype( IRI.create( field.substring( type + 2))));
+            return factory.getOWLLiteral( URLDecoder.decode( field.substring( 0, lang), "UTF-8"), field.substring( lang + 1));
+        }
+
+        private static EntityType<?> instanceType(QueryKind kind){
+            switch ( kind){
+                case CLASS_SUB: case CLASS_SUPER: case CLASS_EQUIVALENT: case CLASS_DISJOINT: case CLASS_INSTANCE:
+                case CLASS_EQUIVALENT_RESTRICTION:
+                    return EntityType.CLASS;
+                case INDIVIDUAL_TYPE: case INDIVIDUAL_DISJOINT: case INDIVIDUAL_EQUIVALENT:
+                    return EntityType.NAMED_INDIVIDUAL;
+                case OBJECT_PROPERTY_SUB: case OBJECT_PROPERTY_SUPER: case OBJECT_PROPERTY_EQUIVALENT:
+                case OBJECT_PROPERTY_DISJOINT: case OBJECT_PROPERTY_INVERSE:
+                case OBJECT_PROPERTY_DOMAIN: case OBJECT_PROPERTY_RANGE:
+                    return EntityType.OBJECT_PROPERTY;
+                case DATA_PROPERTY_SUB: case DATA_PROPERTY_SUPER: case DATA_PROPERTY_EQUIVALENT:
+                case DATA_PROPERTY_DISJOINT: case DATA_PROPERTY_DOMAIN: case DATA_PROPERTY_RANGE:
+                    return EntityType.DATA_PROPERTY;
+                default:
+                    throw new IllegalArgumentException( kind + " is not saved in a snapshot");
+            }
+        }
+
+        private Object get(Object instance, QueryKind kind, Object argument){
+            Object result = results.get( new QueryCache.Key( instance, kind, argument));
+            if ( result == null && argument != null && entities.contains( instance) && entities.contains( argument))
+                return Collections.emptySet(); // the individual has no links for that property
+            return result;
+        }
+    }
+}
@@ -0,0 +1,455 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+import uk.ac.manchester.cs.owlapi.modularity.ModuleType;
+import uk.ac.manchester.cs.owlapi.modularity.SyntacticLocalityModuleExtractor;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * This class answers the queries of some descriptors from a syntactic locality module of their ontology.
+ * <p>
+ *     A scope is opt-in and there is at most one scope for each {@link OWLReferences}; it is created with
+ *     {@link #enable(OWLReferences)} (or {@link #enable(OWLReferences, ModuleType, Set, int)}) and removed with
+ *     {@link #disable(OWLReferences)}. Then, {@link #open(Collection)} extracts the module of the signature of
+ *     the given descriptors (i.e., their ground instances), attaches a Pellet reasoner to it, and answers the
+ *     {@code queryXxx()} methods of those descriptors from the module, until the returned {@link Session} is closed.
+ *     Also {@link #readAxioms(Collection)} reads some descriptors from their module.
+ *     <br>
+ *     Modules are cached by signature, and the least recently used ones are disposed when there are more than
+ *     {@link #getMaxModules()}. All the modules are disposed when changes are applied to the ontology, and they are
+ *     extracted while holding the lock of the ontology (see {@link OntologyExecutor#getLock(Object)}).
+ *     The answers of a module are not stored in the {@link QueryCache} of the ontology.
+ * </p>
+ * <p>
+ *     A module preserves the entailments about its signature, but not all the queries of a descriptor are
+ *     about its signature only. For instance, a {@link ModuleType#BOT} module preserves the super classes of
+ *     a class but not its sub classes. Therefore, only the kinds of queries given by {@link #getKinds()} are
+ *     answered from the module, while the others are still answered by the ontology.
+ *     By default, they are the {@link #UPWARD_KINDS}, which are preserved by {@link ModuleType#BOT} modules.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorQuery.ModuleScope <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class ModuleScope
+        implements OntologyMonitor.Listener {
+
+    /**
+     * The default maximum number of modules cached by a scope.
+     */
+    public static final int DEFAULT_MAX_MODULES = 16;
+
+    /**
+     * The kinds of queries about the ground instance and the entities above it (e.g., its super classes or its types),
+     * which are answered from {@link ModuleType#BOT} modules by default.
+     */
+    public static final Set<QueryKind> UPWARD_KINDS = Collections.unmodifiableSet( EnumSet.of(
+            QueryKind.CLASS_SUPER, QueryKind.CLASS_EQUIVALENT, QueryKind.CLASS_EQUIVALENT_RESTRICTION,
+            QueryKind.INDIVIDUAL_TYPE,
+            QueryKind.OBJECT_PROPERTY_SUPER, QueryKind.OBJECT_PROPERTY_EQUIVALENT,
+            QueryKind.OBJECT_PROPERTY_DOMAIN, QueryKind.OBJECT_PROPERTY_RANGE,
+            QueryKind.DATA_PROPERTY_SUPER, QueryKind.DATA_PROPERTY_EQUIVALENT,
+            QueryKind.DATA_PROPERTY_DOMAIN, QueryKind.DATA_PROPERTY_RANGE));
+
+    private static final OntologyRegistry<ModuleScope> SCOPES = new OntologyRegistry<>( ModuleScope::disable);
+    private static final AtomicLong MODULE_COUNTER = new AtomicLong();
+    // the module that is answering a query on this thread, for the ontology it replaces
+    private static final ThreadLocal<Module> ANSWERING = new ThreadLocal<>();
+
+    /**
+     * Enables a scope for the given ontology, with {@link ModuleType#BOT} modules answering the {@link #UPWARD_KINDS}
+     * and caching at most {@link #DEFAULT_MAX_MODULES}.
+     * @param ontology the ontology whose descriptors can be answered from its modules.
+     * @return the scope of the given ontology.
+     */
+    public static ModuleScope enable(OWLReferences ontology){
+        return enable( ontology, ModuleType.BOT, UPWARD_KINDS, DEFAULT_MAX_MODULES);
+    }
+    /**
+     * Enables a scope for the given ontology. If it was already enabled, its cached modules are disposed.
+     * @param ontology the ontology whose descriptors can be answered from its modules.
+     * @param type the type of the syntactic locality modules to extract.
+     * @param kinds the kinds of queries to answer from the modules.
+     * @param maxModules the maximum number of modules to cache.
+     * @return the scope of the given ontology.
+     */
+    public static ModuleScope enable(OWLReferences ontology, ModuleType type, Set<QueryKind> kinds, int maxModules){
+        synchronized ( SCOPES) {
+            ModuleScope scope = SCOPES.get( ontology);
+            if ( scope == null) {
+                scope = new ModuleScope( ontology);
+                SCOPES.put( ontology, scope);
+            } else scope.clear();
+            scope.type = type;
+            scope.kinds = Collections.unmodifiableSet( EnumSet.copyOf( kinds));
+            scope.maxModules = maxModules;
+            return scope;
+        }
+    }
+
+    /**
+     * Disables the scope of the given ontology and disposes its modules.
+     * @param ontology the ontology whose descriptors should be answered only from the ontology.
+     */
+    public static void disable(OWLReferences ontology){
+        synchronized ( SCOPES) {
+            ModuleScope scope = SCOPES.remove( ontology);
+            if ( scope != null) {
+                scope.monitor.removeListener( scope);
+                scope.clear();
+            }
+        }
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the scope of the given ontology, or {@code null} if it is not enabled.
+     */
+    public static ModuleScope get(OWLReferences ontology){
+        return SCOPES.get( ontology);
+    }
+
+    /**
+     * Returns the query to perform for a descriptor. If the descriptor is in an open {@link Session}
+     * and the kind of query is in {@link #getKinds()}, the returned query is answered from the module,
+     * otherwise the given query is returned.
+     * This is used by {@link DescriptorQuery}.
+     * @param descriptor the descriptor that performs the query.
+     * @param kind the kind of query.
+     * @param query the query on the ontology of the descriptor.
+     * @param <T> the type of the query result.
+     * @return the query to perform.
+     */
+    static <T> Supplier<T> scoped(Axiom.Descriptor<OWLReferences,?> descriptor, QueryKind kind, Supplier<T> query){
+        ModuleScope scope = get( descriptor.getOntologyReference());
+        if ( scope == null || ! scope.kinds.contains( kind))
+            return query;
+        Module module = scope.moduleOf( descriptor);
+        if ( module == null)
+            return query;
+        return () -> {
+            Module previous = ANSWERING.get();
+            ANSWERING.set( module);
+            try {
+                return query.get();
+            } finally {
+                ANSWERING.set( previous);
+            }
+        };
+    }
+
+    /**
+     * Returns the ontology that a descriptor grounded on the given ontology should use.
+     * It is the module of the given ontology while one of its queries is answered from the module,
+     * and the given ontology otherwise.
+     * This is used by {@link it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGroundInterface.GroundInstance}.
+     * @param ontology the ontology of a ground.
+     * @return the ontology that the ground should use.
+     */
+    public static OWLReferences answering(OWLReferences ontology){
+        if ( SCOPES.isEmpty()) // fast path when scopes are not used
+            return ontology;
+        Module module = ANSWERING.get();
+        if ( module != null && module.scope.getOntologyReference() == ontology)
+            return module.reference;
+        return ontology;
+    }
+
+    private OntologyMonitor monitor;
+    private ModuleType type;
+    private Set<QueryKind> kinds;
+    private int maxModules;
+    private LinkedHashMap<Set<OWLEntity>,Module> modules = new LinkedHashMap<>( 16, .75f, true); // in access order
+    private Map<Axiom.Descriptor<OWLReferences,?>,Module> opened = new IdentityHashMap<>(); // descriptor -> the module of its open session
+    private long extractions = 0, hits = 0;
+
+    private ModuleScope(OWLReferences ontology) {
+        this.monitor = OntologyMonitor.of( ontology);
+        monitor.addListener( this);
+    }
+
+    /**
+     * @return the ontology of this scope.
+     */
+    public OWLReferences getOntologyReference() {
+        return monitor.getOntologyReference();
+    }
+
+    /**
+     * @return the type of the extracted modules.
+     */
+    public ModuleType getType() {
+        return type;
+    }
+
+    /**
+     * @return the kinds of queries answered from the modules.
+     */
+    public Set<QueryKind> getKinds() {
+        return kinds;
+    }
+
+    /**
+     * @return the maximum number of cached modules.
+     */
+    public synchronized int getMaxModules() {
+        return maxModules;
+    }
+
+    /**
+     * Answers the queries of the given descriptors from the module of their signature, until the
+     * returned session is closed. The module is extracted only if it is not cached.
+     * Descriptors grounded on another ontology, or already in an open session, are not affected.
+     * @param descriptors the descriptors to answer from a module.
+     * @return the open session, which should be closed after reading the descriptors.
+     */
+    public Session open(Collection<? extends Axiom.Descriptor<OWLReferences,?>> descriptors){
+        Set<OWLEntity> signature = new HashSet<>();
+        List<Axiom.Descriptor<OWLReferences,?>> scoped = new ArrayList<>();
+        for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+            if ( d.getOntologyReference() == getOntologyReference() && d.getInstance() instanceof OWLEntity) {
+                signature.add( (OWLEntity) d.getInstance());
+                scoped.add( d);
+            }
+        Module module = getModule( signature);
+        Session session = new Session( module);
+        synchronized ( this) {
+            for ( Axiom.Descriptor<OWLReferences,?> d : scoped)
+                if ( opened.putIfAbsent( d, module) == null)
+                    session.descriptors.add( d);
+            module.users++;
+        }
+        return session;
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#readAxioms()} on all the given descriptors, while their queries are
+     * answered from the module of their signature (see {@link #open(Collection)}).
+     * @param descriptors the descriptors to read.
+     * @return the changes made by all the descriptors in their internal state.
+     */
+    public List<Axiom.MappingIntent> readAxioms(Collection<? extends Axiom.Descriptor<OWLReferences,?>> descriptors){
+        List<Axiom.MappingIntent> intents = new ArrayList<>();
+        Session session = open( descriptors);
+        try {
+            for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+                intents.addAll( d.readAxioms());
+        } finally {
+            session.close();
+        }
+        return intents;
+    }
+
+    private synchronized Module moduleOf(Axiom.Descriptor<OWLReferences,?> descriptor){
+        Module module = opened.get( descriptor);
+        if ( module == null || module.stale) // the ontology changed after opening the session
+            return null;
+        return module;
+    }
+
+    private Module getModule(Set<OWLEntity> signature){
+        synchronized ( this) {
+            Module module = modules.get( signature);
+            if ( module != null) {
+                hits++;
+                return module;
+            }
+        }
+        // extracted without locking the scope, since it is slow, but while the ontology does not change
+        Set<OWLAxiom> axioms;
+        ReentrantLock lock = OntologyExecutor.getLock( getOntologyReference());
+        lock.lock();
+        try {
+            axioms = new SyntacticLocalityModuleExtractor( getOntologyReference().getOWLManager(),
+                    getOntologyReference().getOWLOntology(), type).extract( signature);
+        } finally {
+            lock.unlock();
+        }
+        Module module = new Module( this, signature, axioms);
+        synchronized ( this) {
+            extractions++;
+            Module extracted = modules.putIfAbsent( module.signature, module);
+            if ( extracted != null) { // extracted concurrently
+                module.dispose();
+                return extracted;
+            }
+            evict();
+            return module;
+        }
+    }
+
+    private void evict(){
+        Iterator<Module> it = modules.values().iterator();
+        while ( modules.size() > maxModules && it.hasNext()){
+            Module module = it.next();
+            if ( module.users > 0)
+                continue; // it is still answering some descriptors
+            it.remove();
+            module.dispose();
+        }
+    }
+
+    /**
+     * Disposes all the cached modules that are not open.
+     */
+    public synchronized void clear(){
+        Iterator<Module> it = modules.values().iterator();
+        while ( it.hasNext()){
+            Module module = it.next();
+            it.remove();
+            module.stale = true;
+            if ( module.users == 0)
+                module.dispose();
+        }
+    }
+
+    @Override
+    public void changed(List<? extends OWLOntologyChange> changes) {
+        clear();
+    }
+
+    @Override
+    public void reasoned() {
+    }
+
+    /**
+     * @return the number of cached modules.
+     */
+    public synchronized int size(){
+        return modules.size();
+    }
+    /**
+     * @return the number of modules that have been extracted.
+     */
+    public synchronized long getExtractions() {
+        return extractions;
+    }
+    /**
+     * @return the number of times that a cached module has been used.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + "@" + getOntologyReference().getReferenceName()
+                + "{type=" + type + ", modules=" + modules.size() + "/" + maxModules
+                + ", extractions=" + extractions + ", hits=" + hits + "}";
+    }
+
+    /**
+     * The module of a signature, with its own reasoner.
+     */
+    public static class Module {
+
+        private ModuleScope scope;
+        private Set<OWLEntity> signature;
+        private OWLReferences reference;
+        private int axioms;
+        private int users = 0; // guarded by the scope, the number of open sessions
+        private boolean stale = false; // guarded by the scope, true if it should be disposed when closed
+
+        private Module(ModuleScope scope, Set<OWLEntity> signature, Set<OWLAxiom> axioms) {
+            this.scope = scope;
+            this.signature = Collections.unmodifiableSet( signature);
+            this.axioms = axioms.size();
+            OWLReferences ontology = scope.getOntologyReference();
+            this.reference = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                    ontology.getReferenceName() + "-module" + MODULE_COUNTER.incrementAndGet(),
+                    ontology.getFilePath(), ontology.getIriOntologyPath().toString(), true);
+            reference.getOWLOntology().addAxioms( axioms);
+            reference.synchronizeReasoner();
+        }
+
+        /**
+         * @return the signature of this module.
+         */
+        public Set<OWLEntity> getSignature() {
+            return signature;
+        }
+
+        /**
+         * @return the number of axioms in this module.
+         */
+        public int getAxiomCount() {
+            return axioms;
+        }
+
+        /**
+         * @return the ontology of this module, which has its own reasoner.
+         */
+        public OWLReferences getOntologyReference() {
+            return reference;
+        }
+
+        private void dispose(){
+            reference.getOWLReasoner().dispose();
+            OWLReferencesInterface.OWLReferencesContainer.removeInstance( reference);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + "{signature=" + signature + ", axioms=" + axioms + "}";
+        }
+    }
+
+    /**
+     * The descriptors whose queries are answered from a {@link Module}, see {@link ModuleScope#open(Collection)}.
+     */
+    public class Session
+            implements AutoCloseable {
+
+        private Module module;
+        private List<Axiom.Descriptor<OWLReferences,?>> descriptors = new ArrayList<>();
+
+        private Session(Module module) {
+            this.module = module;
+        }
+
+        /**
+         * @return the module that answers the queries of the descriptors in this session.
+         */
+        public Module getModule() {
+            return module;
+        }
+
+        /**
+         * Stops answering the queries of the descriptors from the module.
+         * The module stays cached until it is evicted or the ontology changes.
+         */
+        @Override
+        public void close() {
+            synchronized ( ModuleScope.this) {
+                if ( module == null)
+                    return; // already closed
+                for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+                    opened.remove( d, module);
+                descriptors.clear();
+                module.users--;
+                if ( module.users == 0 && module.stale)
+                    module.dispose();
+                else evict();
+                module = null;
+            }
+        }
+    }
+}
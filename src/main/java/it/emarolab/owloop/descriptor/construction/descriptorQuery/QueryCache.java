@@ -0,0 +1,304 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry;
+import org.semanticweb.owlapi.model.OWLEntity;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * This class memoises the results of the queries that the descriptors perform on an ontology.
+ * <p>
+ *     A cache is opt-in and there is at most one cache for each {@link OWLReferences}; it is created with
+ *     {@link #enable(OWLReferences)} (or {@link #enable(OWLReferences, int)}) and removed with {@link #disable(OWLReferences)}.
+ *     When it is enabled, all the {@code queryXxx()} methods of the expressions (see {@link QueryKind})
+ *     are performed through {@link DescriptorQuery#query(it.emarolab.owloop.core.Axiom.Descriptor, QueryKind, Supplier)},
+ *     which returns the memoised result for the same ground instance, kind of query and argument (if any).
+ *     <br>
+ *     The results related to an entity are invalidated when an {@link OWLOntologyChange} whose axiom
+ *     involves that entity is applied to the ontology, while all the results are invalidated
+ *     when the reasoner is synchronised (see {@link OntologyMonitor}).
+ *     The number of memoised results is bounded, and the least recently used ones are evicted first.
+ * </p>
+ * The memoised results are shared and should never be changed by the caller.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryCache <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class QueryCache
+        implements OntologyMonitor.Listener {
+
+    /**
+     * The default maximum number of results memoised by a cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final OntologyRegistry<QueryCache> CACHES = new OntologyRegistry<>( QueryCache::disable);
+
+    /**
+     * Enables a cache with {@link #DEFAULT_MAX_SIZE} for the given ontology.
+     * @param ontology the ontology whose queries should be memoised.
+     * @return the cache of the given ontology.
+     */
+    public static QueryCache enable(OWLReferences ontology){
+        return enable( ontology, DEFAULT_MAX_SIZE);
+    }
+    /**
+     * Enables a cache for the given ontology. If it was already enabled, its maximum size is changed.
+     * @param ontology the ontology whose queries should be memoised.
+     * @param maxSize the maximum number of results to memoise.
+     * @return the cache of the given ontology.
+     */
+    public static QueryCache enable(OWLReferences ontology, int maxSize){
+        synchronized ( CACHES) {
+            QueryCache cache = CACHES.get( ontology);
+            if ( cache == null) {
+                cache = new QueryCache( ontology, maxSize);
+                CACHES.put( ontology, cache);
+            } else cache.setMaxSize( maxSize);
+            return cache;
+        }
+    }
+
+    /**
+     * Disables and clears the cache of the given ontology, if it exists.
+     * @param ontology the ontology whose queries should not be memoised anymore.
+     */
+    public static void disable(OWLReferences ontology){
+        synchronized ( CACHES) {
+            QueryCache cache = CACHES.remove( ontology);
+            if ( cache != null) {
+                cache.monitor.removeListener( cache);
+                cache.clear();
+            }
+        }
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the cache of the given ontology, or {@code null} if it is not enabled.
+     */
+    public static QueryCache get(OWLReferences ontology){
+        return CACHES.get( ontology);
+    }
+
+    private OntologyMonitor monitor;
+    private int maxSize;
+    private LinkedHashMap<Key,Object> results = new LinkedHashMap<>( 16, .75f, true); // in access order
+    private Map<Object,Set<Key>> byInstance = new HashMap<>(); // ground instance -> keys of its results
+    private long generation = 0; // increased at each invalidation, to not memoise results computed before it
+    private long hits = 0, misses = 0, evictions = 0;
+
+    private QueryCache(OWLReferences ontology, int maxSize) {
+        this.maxSize = maxSize;
+        this.monitor = OntologyMonitor.of( ontology);
+        monitor.addListener( this);
+    }
+
+    /**
+     * @return the ontology whose queries are memoised.
+     */
+    public OWLReferences getOntologyReference() {
+        return monitor.getOntologyReference();
+    }
+
+    /**
+     * @return the maximum number of memoised results.
+     */
+    public synchronized int getMaxSize() {
+        return maxSize;
+    }
+    /**
+     * @param maxSize the maximum number of memoised results. The least recently used ones are evicted if they are too many.
+     */
+    public synchronized void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    /**
+     * Returns the memoised result of a query, or performs and memoises it.
+     * @param instance the ground instance of the descriptor performing the query.
+     * @param kind the kind of query.
+     * @param query the query to perform on the ontology if the result is not memoised.
+     * @param <T> the type of the query result.
+     * @return the result of the query.
+     */
+    public <T> T query(Object instance, QueryKind kind, Supplier<T> query){
+        return query( instance, kind, null, query);
+    }
+
+    /**
+     * Returns the memoised result of a query with an argument (e.g., the property of a targeted query), or performs and memoises it.
+     * @param instance the ground instance of the descriptor performing the query.
+     * @param kind the kind of query.
+     * @param argument the argument of the query, or {@code null} if it has no arguments.
+     * @param query the query to perform on the ontology if the result is not memoised.
+     * @param <T> the type of the query result.
+     * @return the result of the query.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T query(Object instance, QueryKind kind, Object argument, Supplier<T> query){
+        monitor.checkReasoned(); // in case the reasoner has been synchronised outside OWLOOP
+        Key key = new Key( instance, kind, argument);
+        long queried;
+        synchronized ( this) {
+            Object result = results.get( key);
+            if ( result != null) {
+                hits++;
+                return (T) result;
+            }
+            misses++;
+            queried = generation;
+        }
+        T result = query.get(); // without locking the cache, since the reasoner is slow
+        if ( result != null) {
+            synchronized ( this) {
+                if ( queried == generation) { // nothing has been invalidated in the meanwhile
+                    if ( results.put( key, result) == null)
+                        byInstance.computeIfAbsent( instance, k -> new HashSet<>()).add( key);
+                    evict();
+                }
+            }
+        }
+        return result;
+    }
+
+    private void evict(){
+        Iterator<Key> it = results.keySet().iterator();
+        while ( results.size() > maxSize && it.hasNext()){
+            Key key = it.next();
+            it.remove();
+            unindex( key);
+            evictions++;
+        }
+    }
+
+    private void unindex(Key key){
+        Set<Key> keys = byInstance.get( key.instance);
+        if ( keys != null) {
+            keys.remove( key);
+            if ( keys.isEmpty())
+                byInstance.remove( key.instance);
+        }
+    }
+
+    private void remove(Object instance){
+        Set<Key> keys = byInstance.remove( instance);
+        if ( keys != null)
+            for ( Key key : keys)
+                results.remove( key);
+    }
+
+    /**
+     * Invalidates all the memoised results related to the given ground instance.
+     * @param instance a ground instance.
+     */
+    public synchronized void invalidate(Object instance){
+        generation++;
+        remove( instance);
+    }
+
+    /**
+     * Invalidates all the memoised results.
+     */
+    public synchronized void clear(){
+        generation++;
+        results.clear();
+        byInstance.clear();
+    }
+
+    @Override
+    public void changed(List<? extends OWLOntologyChange> changes) {
+        Set<OWLEntity> touched = new HashSet<>();
+        for ( OWLOntologyChange c : changes)
+            if ( c.isAxiomChange())
+                c.getAxiom().signature().forEach( touched::add);
+        synchronized ( this) {
+            generation++;
+            if ( results.isEmpty())
+                return;
+            for ( OWLEntity e : touched)
+                remove( e);
+        }
+    }
+
+    @Override
+    public void reasoned() {
+        clear();
+    }
+
+    /**
+     * @return the number of memoised results.
+     */
+    public synchronized int size(){
+        return results.size();
+    }
+    /**
+     * @return the number of queries whose result was memoised.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+    /**
+     * @return the number of queries that have been performed on the ontology.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+    /**
+     * @return the number of results that have been removed because the cache was full.
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+    /**
+     * Sets to {@code 0} the {@link #getHits()}, {@link #getMisses()} and {@link #getEvictions()} counters.
+     */
+    public synchronized void resetCounters(){
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + "@" + getOntologyReference().getReferenceName()
+                + "{size=" + results.size() + "/" + maxSize
+                + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "}";
+    }
+
+    static class Key { // also used by MaterialisedIndex
+        private Object instance;
+        private QueryKind kind;
+        private Object argument;
+
+        Key(Object instance, QueryKind kind, Object argument) {
+            this.instance = instance;
+            this.kind = kind;
+            this.argument = argument;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return kind == key.kind && instance.equals( key.instance) && Objects.equals( argument, key.argument);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * ( 31 * instance.hashCode() + kind.hashCode()) + Objects.hashCode( argument);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
+
+/**
+ * The kinds of queries that the expressions perform on an ontology to read axioms.
+ * <p>
+ *     Each kind is related to the {@code queryXxx()} method of an expression in
+ *     {@link ClassExpression}, {@link DataPropertyExpression}, {@link IndividualExpression} or {@link ObjectPropertyExpression},
+ *     which describes it through {@link #getExpression()} (e.g., {@code "IndividualExpression.Type"}).
+ *     The kinds are also used to read only some expressions of a descriptor, see
+ *     {@link it.emarolab.owloop.descriptor.construction.descriptorGround.DescriptorGround#readAxioms(java.util.Set)}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public enum QueryKind {
+
+    /** {@link ClassExpression.Instance#queryIndividuals()} */
+    CLASS_INSTANCE( "ClassExpression.Instance"),
+    /** {@link ClassExpression.Disjoint#queryDisjointClasses()} */
+    CLASS_DISJOINT( "ClassExpression.Disjoint"),
+    /** {@link ClassExpression.Equivalent#queryEquivalentClasses()} */
+    CLASS_EQUIVALENT( "ClassExpression.Equivalent"),
+    /** {@link ClassExpression.Sub#querySubClasses()} */
+    CLASS_SUB( "ClassExpression.Sub"),
+    /** {@link ClassExpression.Super#querySuperClasses()} */
+    CLASS_SUPER( "ClassExpression.Super"),
+    /** {@link ClassExpression.EquivalentRestriction#queryEquivalentRestrictions()} */
+    CLASS_EQUIVALENT_RESTRICTION( "ClassExpression.EquivalentRestriction"),
+
+    /** {@link DataPropertyExpression.Disjoint#queryDisjointDataProperties()} */
+    DATA_PROPERTY_DISJOINT( "DataPropertyExpression.Disjoint"),
+    /** {@link DataPropertyExpression.Equivalent#queryEquivalentDataProperties()} */
+    DATA_PROPERTY_EQUIVALENT( "DataPropertyExpression.Equivalent"),
+    /** {@link DataPropertyExpression.Sub#querySubDataProperties()} */
+    DATA_PROPERTY_SUB( "DataPropertyExpression.Sub"),
+    /** {@link DataPropertyExpression.Super#querySuperDataProperties()} */
+    DATA_PROPERTY_SUPER( "DataPropertyExpression.Super"),
+    /** {@link DataPropertyExpression.Domain#queryDomainRestrictions()} */
+    DATA_PROPERTY_DOMAIN( "DataPropertyExpression.Domain"),
+    /** {@link DataPropertyExpression.Range#queryRangeRestrictions()} */
+    DATA_PROPERTY_RANGE( "DataPropertyExpression.Range"),
+    /** {@link DataPropertyExpression.Characteristic#queryCharacteristics()} */
+    DATA_PROPERTY_CHARACTERISTIC( "DataPropertyExpression.Characteristic"),
+
+    /** {@link IndividualExpression.Type#queryTypes()} */
+    INDIVIDUAL_TYPE( "IndividualExpression.Type"),
+    /** {@link IndividualExpression.Disjoint#queryDisjointIndividuals()} */
+    INDIVIDUAL_DISJOINT( "IndividualExpression.Disjoint"),
+    /** {@link IndividualExpression.Equivalent#queryEquivalentIndividuals()} */
+    INDIVIDUAL_EQUIVALENT( "IndividualExpression.Equivalent"),
+    /** {@link IndividualExpression.DataLink#queryDataProperties()} */
+    INDIVIDUAL_DATA_LINK( "IndividualExpression.DataLink"),
+    /** {@link IndividualExpression.ObjectLink#queryObjectProperties()} */
+    INDIVIDUAL_OBJECT_LINK( "IndividualExpression.ObjectLink"),
+
+    /** {@link ObjectPropertyExpression.Inverse#queryInverseObjectProperties()} */
+    OBJECT_PROPERTY_INVERSE( "ObjectPropertyExpression.Inverse"),
+    /** {@link ObjectPropertyExpression.Disjoint#queryDisjointObjectProperties()} */
+    OBJECT_PROPERTY_DISJOINT( "ObjectPropertyExpression.Disjoint"),
+    /** {@link ObjectPropertyExpression.Equivalent#queryEquivalentObjectProperties()} */
+    OBJECT_PROPERTY_EQUIVALENT( "ObjectPropertyExpression.Equivalent"),
+    /** {@link ObjectPropertyExpression.Sub#querySubObjectProperties()} */
+    OBJECT_PROPERTY_SUB( "ObjectPropertyExpression.Sub"),
+    /** {@link ObjectPropertyExpression.Super#querySuperObjectProperties()} */
+    OBJECT_PROPERTY_SUPER( "ObjectPropertyExpression.Super"),
+    /** {@link ObjectPropertyExpression.Domain#queryDomainRestrictions()} */
+    OBJECT_PROPERTY_DOMAIN( "ObjectPropertyExpression.Domain"),
+    /** {@link ObjectPropertyExpression.Range#queryRangeRestrictions()} */
+    OBJECT_PROPERTY_RANGE( "ObjectPropertyExpression.Range"),
+    /** {@link ObjectPropertyExpression.Characteristic#queryCharacteristics()} */
+    OBJECT_PROPERTY_CHARACTERISTIC( "ObjectPropertyExpression.Characteristic");
+
+    private String expression;
+
+    QueryKind(String expression) {
+        this.expression = expression;
+    }
+
+    /**
+     * @return the name of the expression that performs this kind of query.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+}
@@ -0,0 +1,200 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class synchronises many {@link Axiom.Descriptor}s, grounded on the same {@link OWLReferences}, at once.
+ * <p>
+ *     Calling {@link Axiom.Descriptor#writeAxiomsReasonReadAxioms()} on each descriptor applies its changes
+ *     and synchronises the reasoner once per descriptor. Instead, {@link #writeAxiomsReasonReadAxioms()}:
+ *     <ol>
+ *     <li>calls {@link Axiom.Descriptor#writeAxioms()} on all the descriptors, while the aMOR manipulator
+ *     is buffering (i.e., the {@link org.semanticweb.owlapi.model.OWLOntologyChange}s are only collected),</li>
+ *     <li>applies all the collected changes in the ontology at once,</li>
+ *     <li>synchronises the reasoner only once, and</li>
+ *     <li>calls {@link Axiom.Descriptor#readAxioms()} on all the descriptors.</li>
+ *     </ol>
+ *     The buffering state of the ontology is restored at the end of the writing.
+ *     Note that, since changes are applied only after all the descriptors have been written,
+ *     each descriptor computes its changes with respect to the ontology as it was before the batch.
+ *     Therefore, descriptors should be independent (i.e., they should not write the same axioms),
+ *     and descriptors that need to query their own changes while writing them (e.g.,
+ *     {@link it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression.EquivalentRestriction})
+ *     should be synchronised outside of a batch.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.DescriptorBatch <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class DescriptorBatch {
+
+    private OWLReferences ontology;
+    private Set<Axiom.Descriptor<OWLReferences,?>> descriptors = new LinkedHashSet<>();
+
+    /**
+     * Creates an empty batch of descriptors.
+     * @param ontology the ontology in which all the descriptors of this batch are grounded.
+     */
+    public DescriptorBatch(OWLReferences ontology) {
+        this.ontology = ontology;
+    }
+    /**
+     * Creates a batch of descriptors.
+     * @param ontology the ontology in which all the descriptors of this batch are grounded.
+     * @param descriptors the initial descriptors of the batch.
+     * @throws IllegalArgumentException if a descriptor is grounded on another ontology.
+     */
+    public DescriptorBatch(OWLReferences ontology, Collection<? extends Axiom.Descriptor<OWLReferences,?>> descriptors) {
+        this.ontology = ontology;
+        addAll( descriptors);
+    }
+
+    /**
+     * @return the ontology in which all the descriptors of this batch are grounded.
+     */
+    public OWLReferences getOntologyReference() {
+        return ontology;
+    }
+
+    /**
+     * @return the descriptors in this batch, in the order they will be synchronised.
+     */
+    public Set<Axiom.Descriptor<OWLReferences,?>> getDescriptors() {
+        return descriptors;
+    }
+
+    /**
+     * Adds a descriptor to this batch.
+     * @param descriptor the descriptor to add.
+     * @return {@code true} if the descriptor has been added, {@code false} if it was already in this batch.
+     * @throws IllegalArgumentException if the descriptor is grounded on another ontology.
+     */
+    public boolean add(Axiom.Descriptor<OWLReferences,?> descriptor){
+        if ( descriptor.getOntologyReference() != ontology)
+            throw new IllegalArgumentException( descriptor.getGround() + " is grounded on "
+                    + descriptor.getOntologyReference().getReferenceName() + ", it cannot be added to a batch on " + ontology.getReferenceName());
+        return descriptors.add( descriptor);
+    }
+    /**
+     * Adds all the given descriptors to this batch (see {@link #add(Axiom.Descriptor)}).
+     * @param descriptors the descriptors to add.
+     * @return {@code true} if this batch changed.
+     * @throws IllegalArgumentException if a descriptor is grounded on another ontology
+     * (the descriptors before it have been added).
+     */
+    public boolean addAll(Collection<? extends Axiom.Descriptor<OWLReferences,?>> descriptors){
+        boolean changed = false;
+        for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+            changed |= add( d);
+        return changed;
+    }
+    /**
+     * Removes a descriptor from this batch.
+     * @param descriptor the descriptor to remove.
+     * @return {@code true} if the descriptor was in this batch.
+     */
+    public boolean remove(Axiom.Descriptor<OWLReferences,?> descriptor){
+        return descriptors.remove( descriptor);
+    }
+    /**
+     * Removes all the descriptors from this batch.
+     */
+    public void clear(){
+        descriptors.clear();
+    }
+    /**
+     * @return the number of descriptors in this batch.
+     */
+    public int size(){
+        return descriptors.size();
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#writeAxioms()} on all the descriptors and applies
+     * their changes to the ontology at once.
+     * It does not synchronise the reasoner.
+     * @return the changes made by all the descriptors in the ontology.
+     */
+    public List<Axiom.MappingIntent> writeAxioms(){
+        List<Axiom.MappingIntent> intents = new ArrayList<>();
+        ReentrantLock lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+        try {
+            boolean buffering = isBuffering( ontology);
+            ontology.setOWLManipulatorBuffering( true);
+            try {
+                for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+                    intents.addAll( d.writeAxioms());
+                ontology.applyOWLManipulatorChanges();
+            } finally {
+                ontology.setOWLManipulatorBuffering( buffering);
+            }
+        } finally {
+            lock.unlock();
+        }
+        return intents;
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#readAxioms()} on all the descriptors.
+     * @return the changes made by all the descriptors in their internal states.
+     */
+    public List<Axiom.MappingIntent> readAxioms(){
+        List<Axiom.MappingIntent> intents = new ArrayList<>();
+        for ( Axiom.Descriptor<OWLReferences,?> d : descriptors)
+            intents.addAll( d.readAxioms());
+        return intents;
+    }
+
+    /**
+     * Synchronises the reasoner of the ontology in which all the descriptors are grounded
+     * (through its {@link ReasoningScheduler}, if it is enabled).
+     */
+    public void reason(){
+        ReasoningScheduler.reason( ontology, null);
+    }
+
+    /**
+     * It performs {@link #writeAxioms()}, then {@link #reason()} (once for all the descriptors)
+     * and then {@link #readAxioms()}.
+     * @return the changes made by the writing and the reading of all the descriptors.
+     */
+    public List<Axiom.MappingIntent> writeAxiomsReasonReadAxioms(){
+        return writeAxiomsReasonReadAxioms( true);
+    }
+    /**
+     * It performs {@link #writeAxioms()}, then {@link #reason()} (once for all the descriptors)
+     * and then {@link #readAxioms()}.
+     * @param reason set to (false) to disable reasoning. This will add only asserted elements.
+     * @return the changes made by the writing and the reading of all the descriptors.
+     */
+    public List<Axiom.MappingIntent> writeAxiomsReasonReadAxioms(boolean reason){
+        List<Axiom.MappingIntent> intents = writeAxioms();
+        if ( reason)
+            reason();
+        intents.addAll( readAxioms());
+        return intents;
+    }
+
+    // the buffering flag of an ontology (see OntologyMonitor#isBuffering)
+    static boolean isBuffering(OWLReferences ontology){
+        return OntologyMonitor.isBuffering( ontology);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "@" + ontology.getReferenceName() + descriptors;
+    }
+}
@@ -0,0 +1,356 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.HistogramMetrics;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class funnels all the operations on an ontology through a single thread, i.e., an actor.
+ * <p>
+ *     An actor is optional and there is at most one actor for each {@link OWLReferences}; it is started with
+ *     {@link #start(OWLReferences)} and stopped with {@link #stop(OWLReferences)}.
+ *     The operations are submitted with {@link #read(Axiom.Descriptor)}, {@link #write(Axiom.Descriptor)},
+ *     {@link #reason()} and {@link #writeReasonRead(Axiom.Descriptor)}, which return a {@link CompletableFuture},
+ *     and they are queued as {@link Command}s. The thread of the actor takes the commands in order, and it executes
+ *     together the consecutive commands of the same type:
+ *     <ul>
+ *     <li><b>{@link Command#WRITE}</b>:  the descriptors are written while the aMOR manipulator is buffering, and
+ *                                        their changes are applied to the ontology at once (as {@link DescriptorBatch} does).
+ *                                        A descriptor grounded on an instance already written in the same group, or that
+ *                                        queries its own changes (i.e., {@link ClassExpression.EquivalentRestriction}),
+ *                                        starts a new group.</li>
+ *     <li><b>{@link Command#REASON}</b>: the reasoner is synchronised once.</li>
+ *     <li><b>{@link Command#READ}</b>:   the descriptors are read one after the other by the thread of the actor, since aMOR
+ *                                        serialises all the queries of an ontology anyway (i.e., reading them concurrently
+ *                                        would not be faster). A descriptor already read in the same group starts a new group.</li>
+ *     </ul>
+ *     The writings and the synchronisations hold the lock of the ontology (see {@link OntologyExecutor#getLock(Object)}).
+ *     <br>
+ *     An actor records the depth of its queue (see {@link #getQueueDepth()} and {@link #getMaxQueueDepth()}),
+ *     the time each command waited in the queue (see {@link #getWaitTime(Command)}), and the time
+ *     spent to execute each group of commands (see {@link #getServiceTime(Command)}).
+ * </p>
+ * The descriptors submitted to an actor should not be used by other threads until their futures are completed.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.OntologyActor <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class OntologyActor {
+
+    /**
+     * The types of operations executed by an actor.
+     */
+    public enum Command {
+        /** A {@link Axiom.Descriptor#readAxioms()}. */
+        READ,
+        /** A {@link Axiom.Descriptor#writeAxioms()}. */
+        WRITE,
+        /** A synchronisation of the reasoner. */
+        REASON
+    }
+
+    private static final OntologyRegistry<OntologyActor> ACTORS = new OntologyRegistry<>( OntologyActor::stop);
+
+    /**
+     * Starts an actor for the given ontology. If it was already started, it is returned as is.
+     * @param ontology the ontology whose operations should be funnelled through the actor.
+     * @return the actor of the given ontology.
+     */
+    public static OntologyActor start(OWLReferences ontology){
+        synchronized ( ACTORS) {
+            OntologyActor actor = ACTORS.get( ontology);
+            if ( actor == null) {
+                actor = new OntologyActor( ontology);
+                ACTORS.put( ontology, actor);
+            }
+            return actor;
+        }
+    }
+
+    /**
+     * Stops the actor of the given ontology, if it exists. It waits for the queued commands to be executed.
+     * @param ontology the ontology whose actor should be stopped.
+     */
+    public static void stop(OWLReferences ontology){
+        OntologyActor actor = ACTORS.remove( ontology);
+        if ( actor != null)
+            actor.shutdown();
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the actor of the given ontology, or {@code null} if it is not started.
+     */
+    public static OntologyActor get(OWLReferences ontology){
+        return ACTORS.get( ontology);
+    }
+
+    private OWLReferences ontology;
+    private BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+    private Thread thread;
+    private volatile boolean running = true;
+    private AtomicInteger maxQueueDepth = new AtomicInteger();
+    private volatile Map<Command, HistogramMetrics.Histogram> waitTimes = newHistograms();
+    private volatile Map<Command, HistogramMetrics.Histogram> serviceTimes = newHistograms();
+
+    private OntologyActor(OWLReferences ontology) {
+        this.ontology = ontology;
+        thread = new Thread( this::run, "owloop-actor-" + ontology.getReferenceName());
+        thread.setDaemon( true);
+        thread.start();
+    }
+
+    /**
+     * @return the ontology whose operations are funnelled through this actor.
+     */
+    public OWLReferences getOntologyReference() {
+        return ontology;
+    }
+
+    /**
+     * Queues the reading of a descriptor.
+     * @param descriptor the descriptor to read, it should be grounded in the ontology of this actor.
+     * @return a future completed with the result of {@link Axiom.Descriptor#readAxioms()}.
+     */
+    public CompletableFuture<List<Axiom.MappingIntent>> read(Axiom.Descriptor<OWLReferences,?> descriptor){
+        return submit( new Task( Command.READ, descriptor));
+    }
+
+    /**
+     * Queues the writing of a descriptor.
+     * @param descriptor the descriptor to write, it should be grounded in the ontology of this actor.
+     * @return a future completed with the result of {@link Axiom.Descriptor#writeAxioms()},
+     * after its changes have been applied to the ontology.
+     */
+    public CompletableFuture<List<Axiom.MappingIntent>> write(Axiom.Descriptor<OWLReferences,?> descriptor){
+        return submit( new Task( Command.WRITE, descriptor));
+    }
+
+    /**
+     * Queues a synchronisation of the reasoner.
+     * @return a future completed when the reasoner has been synchronised.
+     */
+    public CompletableFuture<Void> reason(){
+        return submit( new Task( Command.REASON, null)).thenApply( r -> null);
+    }
+
+    /**
+     * Queues, one after the other, the writing of a descriptor, a synchronisation of the reasoner, and the reading of the descriptor.
+     * @param descriptor the descriptor to write and read, it should be grounded in the ontology of this actor.
+     * @return a future completed with the results of the writing and the reading.
+     */
+    public CompletableFuture<List<Axiom.MappingIntent>> writeReasonRead(Axiom.Descriptor<OWLReferences,?> descriptor){
+        CompletableFuture<List<Axiom.MappingIntent>> written, read;
+        synchronized ( queue) { // consecutive in the queue
+            written = write( descriptor);
+            reason();
+            read = read( descriptor);
+        }
+        return written.thenCombine( read, (w, r) -> {
+            List<Axiom.MappingIntent> intents = new ArrayList<>( w);
+            intents.addAll( r);
+            return intents;
+        });
+    }
+
+    private CompletableFuture<List<Axiom.MappingIntent>> submit(Task task){
+        synchronized ( queue) {
+            if ( ! running)
+                task.future.completeExceptionally( new IllegalStateException( this + " has been stopped"));
+            else {
+                queue.add( task);
+                int depth = queue.size(), max;
+                while ( depth > ( max = maxQueueDepth.get()) && ! maxQueueDepth.compareAndSet( max, depth));
+            }
+        }
+        return task.future;
+    }
+
+    private void run(){
+        while ( true) {
+            Task first;
+            try {
+                first = queue.take();
+            } catch ( InterruptedException e) {
+                return;
+            }
+            if ( first.command == null) // stopped
+                return;
+            // collects the consecutive commands of the same type (this is the only consumer of the queue)
+            List<Task> group = new ArrayList<>();
+            Set<Object> grounds = new HashSet<>();
+            group.add( first);
+            grounds.add( first.ground());
+            Task next;
+            while ( isGroupable( first) && ( next = queue.peek()) != null
+                    && next.command == first.command && isGroupable( next) && ( next.command == Command.REASON || grounds.add( next.ground())))
+                group.add( queue.poll());
+            long start = System.nanoTime();
+            for ( Task t : group)
+                waitTimes.get( t.command).record( start - t.queued);
+            switch ( first.command) {
+                case READ: read( group); break;
+                case WRITE: write( group); break;
+                default: reason( group);
+            }
+            serviceTimes.get( first.command).record( System.nanoTime() - start);
+            for ( Task t : group) // after the metrics have been recorded
+                t.complete();
+        }
+    }
+
+    private boolean isGroupable(Task task){
+        return task.command != Command.WRITE || ! ( task.descriptor instanceof ClassExpression.EquivalentRestriction);
+    }
+
+    private void read(List<Task> group){
+        for ( Task t : group) // aMOR serialises the queries
+            t.perform( t.descriptor::readAxioms);
+    }
+
+    private void write(List<Task> group){
+        ReentrantLock lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+        try {
+            boolean buffering = OntologyMonitor.isBuffering( ontology);
+            ontology.setOWLManipulatorBuffering( true);
+            try {
+                for ( Task t : group)
+                    t.perform( t.descriptor::writeAxioms);
+                ontology.applyOWLManipulatorChanges();
+            } finally {
+                ontology.setOWLManipulatorBuffering( buffering);
+            }
+        } catch ( Exception e) {
+            for ( Task t : group)
+                t.failure = e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reason(List<Task> group){
+        ReentrantLock lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+        try {
+            OntologyMonitor.synchroniseReasoner( ontology);
+            for ( Task t : group)
+                t.result = Collections.emptyList();
+        } catch ( Exception e) {
+            for ( Task t : group)
+                t.failure = e;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void shutdown(){
+        synchronized ( queue) {
+            running = false;
+            queue.add( new Task( null, null)); // after all the queued commands
+        }
+        try {
+            thread.join();
+        } catch ( InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the number of commands waiting in the queue.
+     */
+    public int getQueueDepth(){
+        return queue.size();
+    }
+    /**
+     * @return the maximum number of commands that have been waiting in the queue.
+     */
+    public int getMaxQueueDepth(){
+        return maxQueueDepth.get();
+    }
+    /**
+     * @param command a type of command.
+     * @return the time (in nanoseconds) the commands of the given type waited in the queue.
+     * Its count is the number of executed commands.
+     */
+    public HistogramMetrics.Histogram getWaitTime(Command command){
+        return waitTimes.get( command);
+    }
+    /**
+     * @param command a type of command.
+     * @return the time (in nanoseconds) spent to execute the groups of commands of the given type.
+     * Its count is the number of groups.
+     */
+    public HistogramMetrics.Histogram getServiceTime(Command command){
+        return serviceTimes.get( command);
+    }
+    /**
+     * Resets the {@link #getMaxQueueDepth()}, {@link #getWaitTime(Command)} and {@link #getServiceTime(Command)}.
+     */
+    public void resetMetrics(){
+        maxQueueDepth.set( 0);
+        waitTimes = newHistograms();
+        serviceTimes = newHistograms();
+    }
+
+    private static Map<Command, HistogramMetrics.Histogram> newHistograms(){
+        Map<Command, HistogramMetrics.Histogram> histograms = new EnumMap<>( Command.class);
+        for ( Command c : Command.values())
+            histograms.put( c, new HistogramMetrics.Histogram());
+        return histograms;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "@" + ontology.getReferenceName() + "{queueDepth=" + getQueueDepth() + "}";
+    }
+
+    // a queued command, and its result
+    private static class Task {
+        private Command command; // null to stop the actor
+        private Axiom.Descriptor<OWLReferences,?> descriptor;
+        private CompletableFuture<List<Axiom.MappingIntent>> future = new CompletableFuture<>();
+        private long queued = System.nanoTime();
+        private List<Axiom.MappingIntent> result;
+        private Exception failure;
+
+        private Task(Command command, Axiom.Descriptor<OWLReferences,?> descriptor) {
+            this.command = command;
+            this.descriptor = descriptor;
+        }
+
+        // the ground instance of the descriptor, which identifies it within a group
+        private Object ground(){
+            return descriptor != null ? descriptor.getInstance() : null;
+        }
+
+        private void perform(Callable<List<Axiom.MappingIntent>> operation){
+            try {
+                result = operation.call();
+            } catch ( Exception e) {
+                failure = e;
+            }
+        }
+
+        private void complete(){
+            if ( failure != null)
+                future.completeExceptionally( failure);
+            else future.complete( result);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+/**
+ * This class calls {@link Axiom.Descriptor#readAxioms()} on many independent descriptors
+ * in parallel, through a {@link ForkJoinPool}.
+ * <p>
+ *     Reading does not change the ontology, therefore descriptors can be read concurrently as far as
+ *     their ontology is not written, and its reasoner is not synchronised, in the meanwhile.
+ *     Note that aMOR serialises the queries to the reasoner of an {@link it.emarolab.amor.owlInterface.OWLReferences},
+ *     thus reading descriptors grounded in the same ontology in parallel is not faster than reading them
+ *     sequentially (see the {@code ParallelReadBenchmark}). This class is meant to read descriptors grounded in
+ *     different ontologies concurrently, or to read many descriptors without blocking the calling thread
+ *     (see {@link #readAxiomsAsync(Collection)}).
+ *     <br>
+ *     The {@link Locking} policy specifies how the descriptors should be read:
+ *     <ul>
+ *     <li><b>{@link Locking#NONE}</b>:     the descriptors are read concurrently, and each query is protected only by aMOR.</li>
+ *     <li><b>{@link Locking#ONTOLOGY}</b>: each descriptor is read while holding the lock of its ontology,
+ *                                          which is also used by aMOR to apply changes and synchronise the reasoner.
+ *                                          Descriptors grounded in the same ontology are read one at a time, and they
+ *                                          cannot be interleaved with writings or reasoning (i.e., it is safe for reasoners
+ *                                          that are not thread-safe). Descriptors grounded in different ontologies are still
+ *                                          read in parallel.</li>
+ *     </ul>
+ *     It can also be used to build descriptors in parallel, e.g.:
+ *     {@code reader.build( classDesc.getSubClasses(), classDesc::getSubClassDescriptor, classDesc.getOntologyReference())}
+ *     returns the same descriptors of {@code classDesc.buildSubClasses()}.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ParallelReader <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class ParallelReader {
+
+    /**
+     * The policy used to protect the ontology while descriptors are read in parallel.
+     */
+    public enum Locking {
+        /** Descriptors are read concurrently, only aMOR protects the queries. */
+        NONE,
+        /** Each descriptor is read while holding the lock of its ontology. */
+        ONTOLOGY
+    }
+
+    // the number of tasks created for each thread (more tasks balance better descriptors with different reading time)
+    private static final int TASKS_PER_THREAD = 4;
+
+    private ForkJoinPool pool;
+    private boolean ownedPool;
+    private Locking locking;
+
+    /**
+     * Reads descriptors on the {@link ForkJoinPool#commonPool()} without locking the ontology.
+     */
+    public ParallelReader() {
+        this( ForkJoinPool.commonPool(), Locking.NONE);
+    }
+    /**
+     * Reads descriptors on a new {@link ForkJoinPool}, which should be released with {@link #shutdown()}.
+     * @param parallelism the number of threads used to read descriptors.
+     * @param locking the policy used to protect the ontology.
+     */
+    public ParallelReader(int parallelism, Locking locking) {
+        this( new ForkJoinPool( parallelism), locking);
+        this.ownedPool = true;
+    }
+    /**
+     * Reads descriptors on a given {@link ForkJoinPool}.
+     * @param pool the pool that runs the readings.
+     * @param locking the policy used to protect the ontology.
+     */
+    public ParallelReader(ForkJoinPool pool, Locking locking) {
+        this.pool = pool;
+        this.locking = locking;
+    }
+
+    /**
+     * @return the policy used to protect the ontology while reading.
+     */
+    public Locking getLocking() {
+        return locking;
+    }
+
+    /**
+     * @return the number of threads used to read descriptors.
+     */
+    public int getParallelism(){
+        return pool.getParallelism();
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#readAxioms()} on all the given descriptors in parallel, and waits for them.
+     * @param descriptors the descriptors to read.
+     * @return the changes made by all the descriptors in their internal states,
+     * in the same order of the given descriptors.
+     */
+    public List<Axiom.MappingIntent> readAxioms(Collection<? extends Axiom.Descriptor<?,?>> descriptors){
+        List<Axiom.Descriptor<?,?>> toRead = new ArrayList<>( descriptors);
+        if ( toRead.isEmpty())
+            return new ArrayList<>();
+        int threshold = Math.max( 1, toRead.size() / ( pool.getParallelism() * TASKS_PER_THREAD));
+        return pool.invoke( new ReadingTask( toRead, 0, toRead.size(), threshold));
+    }
+
+    /**
+     * Calls {@link Axiom.Descriptor#readAxioms()} on all the given descriptors in parallel (see {@link #readAxioms(Collection)}),
+     * without waiting for them.
+     * @param descriptors the descriptors to read.
+     * @return a future completed with the changes made by all the descriptors in their internal states,
+     * in the same order of the given descriptors, or exceptionally if a reading failed.
+     */
+    public CompletableFuture<List<Axiom.MappingIntent>> readAxiomsAsync(Collection<? extends Axiom.Descriptor<?,?>> descriptors){
+        List<Axiom.Descriptor<?,?>> toRead = new ArrayList<>( descriptors);
+        return CompletableFuture.supplyAsync( () -> readAxioms( toRead), pool);
+    }
+
+    /**
+     * Creates a descriptor for each given instance and reads them in parallel (see {@link #readAxioms(Collection)}).
+     * @param instances the instances to ground in the new descriptors.
+     * @param factory the function that creates a descriptor from an instance and the ontology
+     *                (e.g., {@code Class.Sub#getSubClassDescriptor(Object, Object)}).
+     * @param ontology the ontology in which the new descriptors are grounded.
+     * @param <O> the type of ontology.
+     * @param <Y> the type of instances.
+     * @param <D> the type of descriptors to build.
+     * @return the new descriptors, with their axioms read from the ontology.
+     */
+    public <O,Y,D extends Axiom.Descriptor<O,?>> Set<D> build(Collection<? extends Y> instances, BiFunction<Y,O,D> factory, O ontology){
+        Set<D> out = new HashSet<>();
+        for ( Y i : instances)
+            out.add( factory.apply( i, ontology));
+        readAxioms( out);
+        return out;
+    }
+
+    /**
+     * Releases the threads of this reader, if it has created its own {@link ForkJoinPool}.
+     */
+    public void shutdown(){
+        if ( ownedPool)
+            pool.shutdown();
+    }
+
+    private List<Axiom.MappingIntent> read(Axiom.Descriptor<?,?> descriptor){
+        if ( locking == Locking.ONTOLOGY) {
+            ReentrantLock lock = OntologyExecutor.getLock( descriptor.getOntologyReference());
+            lock.lock();
+            try {
+                return descriptor.readAxioms();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return descriptor.readAxioms();
+    }
+
+    // reads a range of descriptors, by splitting it in two tasks until it is small enough.
+    private class ReadingTask extends RecursiveTask<List<Axiom.MappingIntent>> {
+
+        private List<Axiom.Descriptor<?,?>> descriptors;
+        private int from, to, threshold;
+
+        private ReadingTask(List<Axiom.Descriptor<?,?>> descriptors, int from, int to, int threshold) {
+            this.descriptors = descriptors;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected List<Axiom.MappingIntent> compute() {
+            if ( to - from <= threshold) {
+                List<Axiom.MappingIntent> intents = new ArrayList<>();
+                for ( int i = from; i < to; i++)
+                    intents.addAll( read( descriptors.get( i)));
+                return intents;
+            }
+            int middle = ( from + to) >>> 1;
+            ReadingTask left = new ReadingTask( descriptors, from, middle, threshold);
+            left.fork();
+            List<Axiom.MappingIntent> intents = new ReadingTask( descriptors, middle, to, threshold).compute();
+            List<Axiom.MappingIntent> leftIntents = left.join();
+            leftIntents.addAll( intents);
+            return leftIntents;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{parallelism=" + getParallelism() + ", locking=" + locking + "}";
+    }
+}
@@ -0,0 +1,317 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyRegistry;
+import org.semanticweb.owlapi.model.OWLObject;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * This class coalesces the requests to synchronise the reasoner of an ontology into a single synchronisation.
+ * <p>
+ *     A scheduler is opt-in and there is at most one scheduler for each {@link OWLReferences}; it is created with
+ *     {@link #enable(OWLReferences)} (or {@link #enable(OWLReferences, long, int)}) and removed with {@link #disable(OWLReferences)}.
+ *     When it is enabled, the {@code reason()} of the descriptors (and of {@link DescriptorBatch}) are performed through
+ *     {@link #reason(OWLReferences, OWLObject)}, which waits for the next synchronisation of the scheduler instead
+ *     of synchronising the reasoner right away.
+ *     <br>
+ *     The requests are collected in a window that starts with the first request and lasts at most
+ *     {@link #getMaxLatency()} milliseconds, then the reasoner is synchronised once, on the thread of the scheduler,
+ *     for all the requests of the window. The window is closed earlier if at least {@link #getMaxPendingChanges()}
+ *     changes have been applied to the ontology since the last synchronisation.
+ *     Each request returns a {@link CompletableFuture} that is completed after a synchronisation started after the
+ *     request, i.e., when all the changes applied before the request are reflected by the reasoner.
+ *     Therefore, many descriptors (and threads) that write and reason in bursts synchronise the reasoner
+ *     at most once per window, instead of once per descriptor.
+ * </p>
+ * The reasoner is synchronised while holding the lock of the ontology (see {@link OntologyExecutor#getLock(Object)}).
+ * If the lock is already held by a thread that requires reasoning, the synchronisation is performed on that thread.
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ReasoningScheduler <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class ReasoningScheduler
+        implements OntologyMonitor.Listener {
+
+    /**
+     * The default maximum time (in milliseconds) a request waits before the reasoner is synchronised.
+     */
+    public static final long DEFAULT_MAX_LATENCY = 50;
+    /**
+     * The default number of applied changes that closes a window before its maximum latency.
+     */
+    public static final int DEFAULT_MAX_PENDING_CHANGES = 1000;
+
+    private static final OntologyRegistry<ReasoningScheduler> SCHEDULERS = new OntologyRegistry<>( ReasoningScheduler::disable);
+
+    /**
+     * Enables a scheduler with {@link #DEFAULT_MAX_LATENCY} and {@link #DEFAULT_MAX_PENDING_CHANGES} for the given ontology.
+     * @param ontology the ontology whose reasoner synchronisations should be coalesced.
+     * @return the scheduler of the given ontology.
+     */
+    public static ReasoningScheduler enable(OWLReferences ontology){
+        return enable( ontology, DEFAULT_MAX_LATENCY, DEFAULT_MAX_PENDING_CHANGES);
+    }
+    /**
+     * Enables a scheduler for the given ontology. If it was already enabled, its thresholds are changed.
+     * @param ontology the ontology whose reasoner synchronisations should be coalesced.
+     * @param maxLatency the maximum time (in milliseconds) a request waits before the reasoner is synchronised.
+     * @param maxPendingChanges the number of applied changes that closes a window before its maximum latency.
+     * @return the scheduler of the given ontology.
+     */
+    public static ReasoningScheduler enable(OWLReferences ontology, long maxLatency, int maxPendingChanges){
+        synchronized ( SCHEDULERS) {
+            ReasoningScheduler scheduler = SCHEDULERS.get( ontology);
+            if ( scheduler == null) {
+                scheduler = new ReasoningScheduler( ontology, maxLatency, maxPendingChanges);
+                SCHEDULERS.put( ontology, scheduler);
+            } else {
+                scheduler.setMaxLatency( maxLatency);
+                scheduler.setMaxPendingChanges( maxPendingChanges);
+            }
+            return scheduler;
+        }
+    }
+
+    /**
+     * Disables the scheduler of the given ontology, if it exists.
+     * The pending requests are satisfied by synchronising the reasoner on the calling thread.
+     * @param ontology the ontology whose reasoner should be synchronised right away.
+     */
+    public static void disable(OWLReferences ontology){
+        ReasoningScheduler scheduler;
+        scheduler = SCHEDULERS.remove( ontology);
+        if ( scheduler != null)
+            scheduler.shutdown();
+    }
+
+    /**
+     * @param ontology an ontology.
+     * @return the scheduler of the given ontology, or {@code null} if it is not enabled.
+     */
+    public static ReasoningScheduler get(OWLReferences ontology){
+        return SCHEDULERS.get( ontology);
+    }
+
+    /**
+     * Synchronises the reasoner of an ontology on behalf of a ground instance. If a scheduler is enabled for
+     * the ontology, it waits for its next synchronisation, otherwise it calls
+     * {@link OntologyMonitor#synchroniseReasoner(OWLReferences, OWLObject)} right away.
+     * @param ontology the ontology whose reasoner should be synchronised.
+     * @param instance the ground instance that required the synchronisation, it can be {@code null}.
+     * @throws IllegalStateException if the scheduled synchronisation failed, or if the thread is interrupted while waiting for it.
+     */
+    public static void reason(OWLReferences ontology, OWLObject instance){
+        ReasoningScheduler scheduler = get( ontology);
+        if ( scheduler == null)
+            OntologyMonitor.synchroniseReasoner( ontology, instance);
+        else scheduler.reason();
+    }
+
+    private OntologyMonitor monitor;
+    private ScheduledExecutorService executor;
+    private long maxLatency;
+    private int maxPendingChanges;
+    private CompletableFuture<Void> pending; // shared by all the requests of the current window, null if there are none
+    private ScheduledFuture<?> timer; // closes the current window
+    private int pendingChanges = 0; // changes applied after the last synchronisation
+    private long requests = 0, synchronisations = 0;
+
+    private ReasoningScheduler(OWLReferences ontology, long maxLatency, int maxPendingChanges) {
+        this.maxLatency = maxLatency;
+        this.maxPendingChanges = maxPendingChanges;
+        this.executor = Executors.newSingleThreadScheduledExecutor( r -> {
+            Thread t = new Thread( r, "owloop-reasoning-" + ontology.getReferenceName());
+            t.setDaemon( true);
+            return t;
+        });
+        this.monitor = OntologyMonitor.of( ontology);
+        monitor.addListener( this);
+    }
+
+    /**
+     * @return the ontology whose reasoner synchronisations are coalesced.
+     */
+    public OWLReferences getOntologyReference() {
+        return monitor.getOntologyReference();
+    }
+
+    /**
+     * @return the maximum time (in milliseconds) a request waits before the reasoner is synchronised.
+     */
+    public synchronized long getMaxLatency() {
+        return maxLatency;
+    }
+    /**
+     * @param maxLatency the maximum time (in milliseconds) a request waits before the reasoner is synchronised.
+     * It is used starting from the next window.
+     */
+    public synchronized void setMaxLatency(long maxLatency) {
+        this.maxLatency = maxLatency;
+    }
+
+    /**
+     * @return the number of applied changes that closes a window before its maximum latency.
+     */
+    public synchronized int getMaxPendingChanges() {
+        return maxPendingChanges;
+    }
+    /**
+     * @param maxPendingChanges the number of applied changes that closes a window before its maximum latency.
+     */
+    public synchronized void setMaxPendingChanges(int maxPendingChanges) {
+        this.maxPendingChanges = maxPendingChanges;
+        closeIfFull();
+    }
+
+    /**
+     * Requires a synchronisation of the reasoner, which is performed at the end of the current window.
+     * @return a future that is completed (exceptionally if the reasoner failed) when all the changes
+     * applied before this call are reflected by the reasoner.
+     */
+    public CompletableFuture<Void> request(){
+        CompletableFuture<Void> future;
+        boolean disabled;
+        synchronized ( this) {
+            requests++;
+            disabled = executor.isShutdown();
+            if ( pending == null) {
+                pending = new CompletableFuture<>();
+                if ( ! disabled)
+                    timer = executor.schedule( this::synchronise, maxLatency, TimeUnit.MILLISECONDS);
+            }
+            future = pending;
+            closeIfFull();
+        }
+        if ( disabled) // in the meanwhile, reason on the calling thread
+            synchronise();
+        return future;
+    }
+
+    /**
+     * Requires a synchronisation of the reasoner and waits for it (see {@link #request()}).
+     * If the calling thread holds the lock of the ontology, the reasoner is synchronised on that thread.
+     * @throws IllegalStateException if the synchronisation failed, or if the thread is interrupted while waiting for it
+     * (in this case, the interrupt status of the thread is restored).
+     */
+    public void reason(){
+        CompletableFuture<Void> future;
+        if ( OntologyExecutor.getLock( getOntologyReference()).isHeldByCurrentThread()) { // the scheduler would wait for this thread
+            synchronized ( this) {
+                requests++;
+                if ( pending == null)
+                    pending = new CompletableFuture<>();
+                future = pending;
+            }
+            synchronise(); // it completes the future
+        } else future = request();
+        try {
+            future.get();
+        } catch ( InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException( "interrupted while waiting for the reasoner of " + getOntologyReference().getReferenceName(), e);
+        } catch ( ExecutionException e) {
+            throw new IllegalStateException( "the reasoner of " + getOntologyReference().getReferenceName() + " cannot be synchronised", e.getCause());
+        }
+    }
+
+    // closes the current window if there are too many changes to reason about
+    private void closeIfFull(){
+        if ( pending != null && pendingChanges >= maxPendingChanges && ! executor.isShutdown() && timer != null && timer.cancel( false))
+            executor.execute( this::synchronise);
+    }
+
+    /**
+     * Synchronises the reasoner on the calling thread, and completes all the pending requests.
+     */
+    public void synchronise(){
+        CompletableFuture<Void> future;
+        synchronized ( this) {
+            future = pending;
+            pending = null;
+            if ( timer != null)
+                timer.cancel( false);
+            timer = null;
+        }
+        try {
+            ReentrantLock lock = OntologyExecutor.getLock( getOntologyReference());
+            lock.lock();
+            try {
+                OntologyMonitor.synchroniseReasoner( getOntologyReference());
+            } finally {
+                lock.unlock();
+            }
+            synchronized ( this) {
+                synchronisations++;
+            }
+            if ( future != null)
+                future.complete( null);
+        } catch ( Exception e) {
+            if ( future != null)
+                future.completeExceptionally( e);
+            else e.printStackTrace();
+        }
+    }
+
+    private void shutdown(){
+        monitor.removeListener( this);
+        boolean requested;
+        synchronized ( this) {
+            executor.shutdownNow();
+            requested = pending != null;
+        }
+        if ( requested)
+            synchronise();
+    }
+
+    @Override
+    public void changed(List<? extends OWLOntologyChange> changes) {
+        synchronized ( this) {
+            pendingChanges += changes.size();
+            closeIfFull();
+        }
+    }
+
+    @Override
+    public synchronized void reasoned() {
+        pendingChanges = 0;
+    }
+
+    /**
+     * @return the number of synchronisations that have been required.
+     */
+    public synchronized long getRequests() {
+        return requests;
+    }
+    /**
+     * @return the number of synchronisations that have been performed.
+     */
+    public synchronized long getSynchronisations() {
+        return synchronisations;
+    }
+    /**
+     * Sets to {@code 0} the {@link #getRequests()} and {@link #getSynchronisations()} counters.
+     */
+    public synchronized void resetCounters(){
+        requests = 0;
+        synchronisations = 0;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return getClass().getSimpleName() + "@" + getOntologyReference().getReferenceName()
+                + "{maxLatency=" + maxLatency + "ms, maxPendingChanges=" + maxPendingChanges
+                + ", requests=" + requests + ", synchronisations=" + synchronisations + "}";
+    }
+}
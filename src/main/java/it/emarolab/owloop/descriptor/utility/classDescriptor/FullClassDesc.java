@@ -1,16 +1,20 @@
 package it.emarolab.owloop.descriptor.utility.classDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' Class Descriptor as it implements more than one ClassExpression (aka {@link ClassExpression}) interfaces.
@@ -42,7 +46,8 @@ public class FullClassDesc
         ClassExpression.Equivalent<FullClassDesc>,
         ClassExpression.Sub<FullClassDesc>,
         ClassExpression.Super<FullClassDesc>,
-        ClassExpression.Instance<LinkIndividualDesc> {
+        ClassExpression.Instance<LinkIndividualDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLClass> {
 
     private Restrictions restrictions = new Restrictions();
     private Classes disjointClasses = new Classes();
@@ -93,6 +98,7 @@ public class FullClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = EquivalentRestriction.super.readAxioms(); // call this before all
         r.addAll( ClassExpression.Equivalent.super.readAxioms());
         r.addAll( ClassExpression.Disjoint.super.readAxioms());
@@ -101,6 +107,25 @@ public class FullClassDesc
         r.addAll( Instance.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.CLASS_EQUIVALENT_RESTRICTION))
+            r.addAll( EquivalentRestriction.super.readAxioms()); // call this before all
+        if ( kinds.contains( QueryKind.CLASS_EQUIVALENT))
+            r.addAll( ClassExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_DISJOINT))
+            r.addAll( ClassExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_SUB))
+            r.addAll( ClassExpression.Sub.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_SUPER))
+            r.addAll( ClassExpression.Super.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_INSTANCE))
+            r.addAll( Instance.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -119,6 +144,7 @@ public class FullClassDesc
     // It returns restrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getEquivalentRestrictions() {
+        readPostponedAxioms();
         return restrictions;
     }
 
@@ -130,6 +156,7 @@ public class FullClassDesc
     // It returns disjointClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getDisjointClasses() {
+        readPostponedAxioms();
         return disjointClasses;
     }
 
@@ -141,6 +168,7 @@ public class FullClassDesc
     // It returns equivalentClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getEquivalentClasses() {
+        readPostponedAxioms();
         return equivalentClasses;
     }
 
@@ -152,6 +180,7 @@ public class FullClassDesc
     // It returns subClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getSubClasses() {
+        readPostponedAxioms();
         return subClasses;
     }
 
@@ -163,6 +192,7 @@ public class FullClassDesc
     // It returns superClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getSuperClasses() {
+        readPostponedAxioms();
         return superClasses;
     }
 
@@ -174,6 +204,7 @@ public class FullClassDesc
     // It returns Individuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getIndividuals() {
+        readPostponedAxioms();
         return individuals;
     }
 
@@ -2,12 +2,16 @@ package it.emarolab.owloop.descriptor.utility.classDescriptor;
 
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.OWLClass;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -31,7 +35,8 @@ import java.util.List;
 public class HierarchicalClassDesc
         extends ClassGround
         implements ClassExpression.Sub<HierarchicalClassDesc>,
-        ClassExpression.Super<HierarchicalClassDesc>{
+        ClassExpression.Super<HierarchicalClassDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLClass> {
 
     private Classes subClasses = new Classes();
     private Classes superClasses = new Classes();
@@ -69,10 +74,22 @@ public class HierarchicalClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = ClassExpression.Sub.super.readAxioms();
         r.addAll( ClassExpression.Super.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.CLASS_SUB))
+            r.addAll( ClassExpression.Sub.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_SUPER))
+            r.addAll( ClassExpression.Super.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -92,6 +109,7 @@ public class HierarchicalClassDesc
     // It returns subClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getSubClasses() {
+        readPostponedAxioms();
         return subClasses;
     }
 
@@ -103,6 +121,7 @@ public class HierarchicalClassDesc
     // It returns superClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getSuperClasses() {
+        readPostponedAxioms();
         return superClasses;
     }
 
@@ -1,14 +1,18 @@
 package it.emarolab.owloop.descriptor.utility.classDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -29,7 +33,8 @@ import java.util.List;
  */
 public class InstanceClassDesc
         extends ClassGround
-        implements ClassExpression.Instance<LinkIndividualDesc> {
+        implements ClassExpression.Instance<LinkIndividualDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLClass> {
 
     private Individuals individuals = new Individuals();
 
@@ -66,8 +71,18 @@ public class InstanceClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         return Instance.super.readAxioms();
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.CLASS_INSTANCE))
+            r.addAll( Instance.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -85,6 +100,7 @@ public class InstanceClassDesc
     // It returns Individuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getIndividuals() {
+        readPostponedAxioms();
         return individuals;
     }
 
@@ -1,16 +1,20 @@
 package it.emarolab.owloop.descriptor.utility.classDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ClassExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ClassGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.utility.individualDescriptor.LinkIndividualDesc;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -38,7 +42,8 @@ public class RestrictionClassDesc
         implements ClassExpression.EquivalentRestriction,
         ClassExpression.Disjoint<RestrictionClassDesc>,
         ClassExpression.Equivalent<RestrictionClassDesc>,
-        ClassExpression.Instance<LinkIndividualDesc> {
+        ClassExpression.Instance<LinkIndividualDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLClass> {
 
     private Classes disjointClasses = new Classes();
     private Classes equivalentClasses = new Classes();
@@ -78,12 +83,28 @@ public class RestrictionClassDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = ClassExpression.Disjoint.super.readAxioms();
         r.addAll( ClassExpression.Equivalent.super.readAxioms());
         r.addAll( EquivalentRestriction.super.readAxioms());
         r.addAll( Instance.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.CLASS_DISJOINT))
+            r.addAll( ClassExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_EQUIVALENT))
+            r.addAll( ClassExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_EQUIVALENT_RESTRICTION))
+            r.addAll( EquivalentRestriction.super.readAxioms());
+        if ( kinds.contains( QueryKind.CLASS_INSTANCE))
+            r.addAll( Instance.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -100,6 +121,7 @@ public class RestrictionClassDesc
     // It returns restrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getEquivalentRestrictions() {
+        readPostponedAxioms();
         return restrictions;
     }
 
@@ -111,6 +133,7 @@ public class RestrictionClassDesc
     // It returns disjointClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getDisjointClasses() {
+        readPostponedAxioms();
         return disjointClasses;
     }
 
@@ -122,6 +145,7 @@ public class RestrictionClassDesc
     // It returns equivalentClasses from the EntitySet (after being read from the ontology)
     @Override
     public Classes getEquivalentClasses() {
+        readPostponedAxioms();
         return equivalentClasses;
     }
 
@@ -133,6 +157,7 @@ public class RestrictionClassDesc
     // It returns Individuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getIndividuals() {
+        readPostponedAxioms();
         return individuals;
     }
 
@@ -2,12 +2,16 @@ package it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor;
 
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DataPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' DataProperty Descriptor which implements 2 {@link DataPropertyExpression} interfaces:
@@ -31,7 +35,8 @@ import java.util.List;
 public class DomainRangeDataPropertyDesc
         extends DataPropertyGround
         implements DataPropertyExpression.Domain,
-        DataPropertyExpression.Range {
+        DataPropertyExpression.Range,
+        Axiom.LazyDescriptor<OWLReferences,OWLDataProperty> {
 
     private Restrictions domainRestrictions = new Restrictions();
     private Restrictions rangeRestrictions = new Restrictions();
@@ -69,10 +74,22 @@ public class DomainRangeDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = DataPropertyExpression.Domain.super.readAxioms();
         r.addAll( DataPropertyExpression.Range.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_DOMAIN))
+            r.addAll( DataPropertyExpression.Domain.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_RANGE))
+            r.addAll( DataPropertyExpression.Range.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -87,11 +104,13 @@ public class DomainRangeDataPropertyDesc
     // It returns domainRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getDomainRestrictions() {
+        readPostponedAxioms();
         return domainRestrictions;
     }
     // It returns rangeRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getRangeRestrictions() {
+        readPostponedAxioms();
         return rangeRestrictions;
     }
 
@@ -2,13 +2,18 @@ package it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor;
 
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Characteristics;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DataPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' DataProperty Descriptor as it implements more than one {@link DataPropertyExpression} interfaces.
@@ -22,6 +27,7 @@ import java.util.List;
  * <li><b>{@link DataPropertyExpression.Super}</b>:        to describe that a DataProperty is super-sumes another DataProperty.</li>
  * <li><b>{@link DataPropertyExpression.Domain}</b>:       to describe the domain restrictions of a DataProperty.</li>
  * <li><b>{@link DataPropertyExpression.Range}</b>:        to describe the range restrictions of a DataProperty.</li>
+ * <li><b>{@link DataPropertyExpression.Characteristic}</b>: to describe the characteristics of a DataProperty (e.g., functional).</li>
  * </ul>
  *
  * <p>
@@ -40,7 +46,9 @@ public class FullDataPropertyDesc
         DataPropertyExpression.Sub<FullDataPropertyDesc>,
         DataPropertyExpression.Super<FullDataPropertyDesc>,
         DataPropertyExpression.Domain,
-        DataPropertyExpression.Range{
+        DataPropertyExpression.Range,
+        DataPropertyExpression.Characteristic,
+        Axiom.LazyDescriptor<OWLReferences,OWLDataProperty> {
 
     private DataProperties disjointDataProperties = new DataProperties();
     private DataProperties equivalentDataProperties = new DataProperties();
@@ -48,6 +56,7 @@ public class FullDataPropertyDesc
     private DataProperties superDataProperties = new DataProperties();
     private Restrictions domainRestrictions = new Restrictions();
     private Restrictions rangeRestrictions = new Restrictions();
+    private Characteristics characteristics = new Characteristics();
 
     /* Constructors from class: DataPropertyGround */
 
@@ -82,14 +91,37 @@ public class FullDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
         r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
         r.addAll( DataPropertyExpression.Range.super.readAxioms());
         r.addAll( DataPropertyExpression.Domain.super.readAxioms());
         r.addAll( DataPropertyExpression.Sub.super.readAxioms());
         r.addAll( DataPropertyExpression.Super.super.readAxioms());
+        r.addAll( DataPropertyExpression.Characteristic.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_DISJOINT))
+            r.addAll( DataPropertyExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_EQUIVALENT))
+            r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_RANGE))
+            r.addAll( DataPropertyExpression.Range.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_DOMAIN))
+            r.addAll( DataPropertyExpression.Domain.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_SUB))
+            r.addAll( DataPropertyExpression.Sub.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_SUPER))
+            r.addAll( DataPropertyExpression.Super.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_CHARACTERISTIC))
+            r.addAll( DataPropertyExpression.Characteristic.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -99,6 +131,7 @@ public class FullDataPropertyDesc
         r.addAll( DataPropertyExpression.Domain.super.writeAxioms());
         r.addAll( DataPropertyExpression.Sub.super.writeAxioms());
         r.addAll( DataPropertyExpression.Super.super.writeAxioms());
+        r.addAll( DataPropertyExpression.Characteristic.super.writeAxioms());
         return r;
     }
 
@@ -108,15 +141,24 @@ public class FullDataPropertyDesc
     // It returns domainRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getDomainRestrictions() {
+        readPostponedAxioms();
         return domainRestrictions;
     }
 
     // It returns rangeRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getRangeRestrictions() {
+        readPostponedAxioms();
         return rangeRestrictions;
     }
 
+    // It returns characteristics from the EntitySet (after being read from the ontology)
+    @Override
+    public Characteristics getCharacteristics() {
+        readPostponedAxioms();
+        return characteristics;
+    }
+
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullDataPropertyDesc getNewDisjointDataProperty(OWLDataProperty instance, OWLReferences ontology) {
@@ -125,6 +167,7 @@ public class FullDataPropertyDesc
     // It returns disjointDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getDisjointDataProperties() {
+        readPostponedAxioms();
         return disjointDataProperties;
     }
 
@@ -136,6 +179,7 @@ public class FullDataPropertyDesc
     // It returns equivalentDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getEquivalentDataProperties() {
+        readPostponedAxioms();
         return equivalentDataProperties;
     }
 
@@ -147,6 +191,7 @@ public class FullDataPropertyDesc
     // It returns subDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getSubDataProperties() {
+        readPostponedAxioms();
         return subDataProperties;
     }
 
@@ -158,6 +203,7 @@ public class FullDataPropertyDesc
     // It returns superDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getSuperDataProperties() {
+        readPostponedAxioms();
         return superDataProperties;
     }
 
@@ -177,6 +223,7 @@ public class FullDataPropertyDesc
                 "\t\t[--,≐] " + rangeRestrictions + "\n" +
                 "\t\t⊃ " +        subDataProperties + "\n" +
                 "\t\t⊂ " +        superDataProperties + "\n" +
+                "\t\t◇ " +      characteristics + "\n" +
                 "}" + "\n";
     }
 }
\ No newline at end of file
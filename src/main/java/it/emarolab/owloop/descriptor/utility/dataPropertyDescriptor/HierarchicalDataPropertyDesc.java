@@ -1,12 +1,16 @@
 package it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DataPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' DataProperty Descriptor which implements 2 {@link DataPropertyExpression} interfaces:
@@ -30,7 +34,8 @@ import java.util.List;
 public class HierarchicalDataPropertyDesc
         extends DataPropertyGround
         implements DataPropertyExpression.Sub<HierarchicalDataPropertyDesc>,
-        DataPropertyExpression.Super<HierarchicalDataPropertyDesc>{
+        DataPropertyExpression.Super<HierarchicalDataPropertyDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLDataProperty> {
 
     private DataProperties subDataProperties = new DataProperties();
     private DataProperties superDataProperties = new DataProperties();
@@ -68,10 +73,22 @@ public class HierarchicalDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = DataPropertyExpression.Sub.super.readAxioms();
         r.addAll( DataPropertyExpression.Super.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_SUB))
+            r.addAll( DataPropertyExpression.Sub.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_SUPER))
+            r.addAll( DataPropertyExpression.Super.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -91,6 +108,7 @@ public class HierarchicalDataPropertyDesc
     // It returns subDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getSubDataProperties() {
+        readPostponedAxioms();
         return subDataProperties;
     }
 
@@ -102,6 +120,7 @@ public class HierarchicalDataPropertyDesc
     // It returns superDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getSuperDataProperties() {
+        readPostponedAxioms();
         return superDataProperties;
     }
 
@@ -1,12 +1,16 @@
 package it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.DataPropertyExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.DataPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.OWLDataProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -31,7 +35,8 @@ import java.util.List;
 public class RestrictionDataPropertyDesc
         extends DataPropertyGround
         implements DataPropertyExpression.Disjoint<RestrictionDataPropertyDesc>,
-        DataPropertyExpression.Equivalent<RestrictionDataPropertyDesc> {
+        DataPropertyExpression.Equivalent<RestrictionDataPropertyDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLDataProperty> {
 
     private DataProperties disjointDataProperties = new DataProperties();
     private DataProperties equivalentDataProperties = new DataProperties();
@@ -69,10 +74,22 @@ public class RestrictionDataPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = DataPropertyExpression.Disjoint.super.readAxioms();
         r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_DISJOINT))
+            r.addAll( DataPropertyExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.DATA_PROPERTY_EQUIVALENT))
+            r.addAll( DataPropertyExpression.Equivalent.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -92,6 +109,7 @@ public class RestrictionDataPropertyDesc
     // It returns disjointDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getDisjointDataProperties() {
+        readPostponedAxioms();
         return disjointDataProperties;
     }
 
@@ -103,6 +121,7 @@ public class RestrictionDataPropertyDesc
     // It returns equivalentDataProperties from the EntitySet (after being read from the ontology)
     @Override
     public DataProperties getEquivalentDataProperties() {
+        readPostponedAxioms();
         return equivalentDataProperties;
     }
 
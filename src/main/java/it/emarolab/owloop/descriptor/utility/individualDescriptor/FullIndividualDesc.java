@@ -1,8 +1,10 @@
 package it.emarolab.owloop.descriptor.utility.individualDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.IndividualGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
 import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
@@ -10,7 +12,9 @@ import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObject
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' Individual Descriptor as it implements more than one {@link IndividualExpression} interfaces.
@@ -40,7 +44,8 @@ public class FullIndividualDesc
         IndividualExpression.Equivalent<FullIndividualDesc>,
         IndividualExpression.Type<FullClassDesc>,
         IndividualExpression.ObjectLink<FullObjectPropertyDesc>,
-        IndividualExpression.DataLink<FullDataPropertyDesc> {
+        IndividualExpression.DataLink<FullDataPropertyDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLNamedIndividual> {
 
     private Individuals disjointIndividuals = new Individuals();
     private Individuals equivalentIndividuals = new Individuals();
@@ -81,6 +86,7 @@ public class FullIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
         r.addAll( IndividualExpression.Disjoint.super.readAxioms());
         r.addAll( IndividualExpression.Type.super.readAxioms());
@@ -88,6 +94,23 @@ public class FullIndividualDesc
         r.addAll( IndividualExpression.DataLink.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.INDIVIDUAL_EQUIVALENT))
+            r.addAll( IndividualExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.INDIVIDUAL_DISJOINT))
+            r.addAll( IndividualExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.INDIVIDUAL_TYPE))
+            r.addAll( IndividualExpression.Type.super.readAxioms());
+        if ( kinds.contains( QueryKind.INDIVIDUAL_OBJECT_LINK))
+            r.addAll( IndividualExpression.ObjectLink.super.readAxioms());
+        if ( kinds.contains( QueryKind.INDIVIDUAL_DATA_LINK))
+            r.addAll( IndividualExpression.DataLink.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -110,6 +133,7 @@ public class FullIndividualDesc
     // It returns disjointIndividuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getDisjointIndividuals() {
+        readPostponedAxioms();
         return disjointIndividuals;
     }
 
@@ -121,6 +145,7 @@ public class FullIndividualDesc
     // It returns equivalentIndividuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getEquivalentIndividuals() {
+        readPostponedAxioms();
         return equivalentIndividuals;
     }
 
@@ -132,6 +157,7 @@ public class FullIndividualDesc
     // It returns classes from the EntitySet (after being read from the ontology)
     @Override
     public Classes getTypes() {
+        readPostponedAxioms();
         return classes;
     }
 
@@ -143,6 +169,7 @@ public class FullIndividualDesc
     // It returns objectLinks from the EntitySet (after being read from the ontology)
     @Override
     public ObjectLinkSet getObjectProperties() {
+        readPostponedAxioms();
         return objectLinks;
     }
 
@@ -154,6 +181,7 @@ public class FullIndividualDesc
     // It returns dataLinks from the EntitySet (after being read from the ontology)
     @Override
     public DataLinkSet getDataProperties() {
+        readPostponedAxioms();
         return dataLinks;
     }
 
@@ -1,14 +1,18 @@
 package it.emarolab.owloop.descriptor.utility.individualDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.*;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.IndividualGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
 import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' Individual Descriptor which implements 2 {@link IndividualExpression} interfaces:
@@ -31,7 +35,8 @@ import java.util.List;
 public class LinkIndividualDesc
         extends IndividualGround
         implements IndividualExpression.ObjectLink<FullObjectPropertyDesc>,
-        IndividualExpression.DataLink<FullDataPropertyDesc> {
+        IndividualExpression.DataLink<FullDataPropertyDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLNamedIndividual> {
 
     private ObjectLinkSet objectLinks = new ObjectLinkSet();
     private DataLinkSet dataLinks = new DataLinkSet();
@@ -69,10 +74,22 @@ public class LinkIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = IndividualExpression.ObjectLink.super.readAxioms();
         r.addAll( IndividualExpression.DataLink.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.INDIVIDUAL_OBJECT_LINK))
+            r.addAll( IndividualExpression.ObjectLink.super.readAxioms());
+        if ( kinds.contains( QueryKind.INDIVIDUAL_DATA_LINK))
+            r.addAll( IndividualExpression.DataLink.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -92,6 +109,7 @@ public class LinkIndividualDesc
     // It returns objectLinks from the EntitySet (after being read from the ontology)
     @Override
     public ObjectLinkSet getObjectProperties() {
+        readPostponedAxioms();
         return objectLinks;
     }
 
@@ -103,6 +121,7 @@ public class LinkIndividualDesc
     // It returns dataLinks from the EntitySet (after being read from the ontology)
     @Override
     public DataLinkSet getDataProperties() {
+        readPostponedAxioms();
         return dataLinks;
     }
 
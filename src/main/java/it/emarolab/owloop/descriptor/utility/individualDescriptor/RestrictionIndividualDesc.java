@@ -1,12 +1,16 @@
 package it.emarolab.owloop.descriptor.utility.individualDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Individuals;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.IndividualGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -31,7 +35,8 @@ import java.util.List;
 public class RestrictionIndividualDesc
         extends IndividualGround
         implements IndividualExpression.Disjoint<RestrictionIndividualDesc>,
-        IndividualExpression.Equivalent<RestrictionIndividualDesc>{
+        IndividualExpression.Equivalent<RestrictionIndividualDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLNamedIndividual> {
 
     private Individuals disjointIndividuals = new Individuals();
     private Individuals equivalentIndividuals = new Individuals();
@@ -69,10 +74,22 @@ public class RestrictionIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = IndividualExpression.Equivalent.super.readAxioms();
         r.addAll( IndividualExpression.Disjoint.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.INDIVIDUAL_EQUIVALENT))
+            r.addAll( IndividualExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.INDIVIDUAL_DISJOINT))
+            r.addAll( IndividualExpression.Disjoint.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -92,6 +109,7 @@ public class RestrictionIndividualDesc
     // It returns disjointIndividuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getDisjointIndividuals() {
+        readPostponedAxioms();
         return disjointIndividuals;
     }
 
@@ -103,6 +121,7 @@ public class RestrictionIndividualDesc
     // It returns equivalentIndividuals from the EntitySet (after being read from the ontology)
     @Override
     public Individuals getEquivalentIndividuals() {
+        readPostponedAxioms();
         return equivalentIndividuals;
     }
 
@@ -1,14 +1,18 @@
 package it.emarolab.owloop.descriptor.utility.individualDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.IndividualGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.IndividualExpression;
 import it.emarolab.owloop.descriptor.utility.classDescriptor.HierarchicalClassDesc;
 import org.semanticweb.owlapi.model.OWLClass;
 import org.semanticweb.owlapi.model.OWLNamedIndividual;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -31,7 +35,8 @@ import java.util.List;
  */
 public class TypeIndividualDesc
         extends IndividualGround
-        implements IndividualExpression.Type<HierarchicalClassDesc>{
+        implements IndividualExpression.Type<HierarchicalClassDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLNamedIndividual> {
 
     private Classes classes = new Classes();
 
@@ -68,8 +73,18 @@ public class TypeIndividualDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         return IndividualExpression.Type.super.readAxioms();
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.INDIVIDUAL_TYPE))
+            r.addAll( IndividualExpression.Type.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -87,6 +102,7 @@ public class TypeIndividualDesc
     // It returns classes from the EntitySet (after being read from the ontology)
     @Override
     public Classes getTypes() {
+        readPostponedAxioms();
         return classes;
     }
 
@@ -2,12 +2,16 @@ package it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor;
 
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ObjectPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' ObjectProperty Descriptor which implements 2 {@link ObjectPropertyExpression} interfaces:
@@ -31,7 +35,8 @@ import java.util.List;
 public class DomainRangeObjectPropertyDesc
         extends ObjectPropertyGround
         implements ObjectPropertyExpression.Domain,
-        ObjectPropertyExpression.Range {
+        ObjectPropertyExpression.Range,
+        Axiom.LazyDescriptor<OWLReferences,OWLObjectProperty> {
 
     private Restrictions domainRestrictions = new Restrictions();
     private Restrictions rangeRestrictions = new Restrictions();
@@ -69,10 +74,22 @@ public class DomainRangeObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = ObjectPropertyExpression.Domain.super.readAxioms();
         r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_DOMAIN))
+            r.addAll( ObjectPropertyExpression.Domain.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_RANGE))
+            r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -87,13 +104,14 @@ public class DomainRangeObjectPropertyDesc
     // It returns domainRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getDomainRestrictions() {
+        readPostponedAxioms();
         return domainRestrictions;
     }
 
     // It returns rangeRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getRangeRestrictions() {
-
+        readPostponedAxioms();
         return rangeRestrictions;
     }
 
@@ -2,13 +2,18 @@ package it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor;
 
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Characteristics;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Restrictions;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ObjectPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' ObjectProperty Descriptor as it implements more than one {@link ObjectPropertyExpression} interfaces.
@@ -23,6 +28,7 @@ import java.util.List;
  * <li><b>{@link ObjectPropertyExpression.Domain}</b>:       to describe the domain restrictions of an ObjectProperty.</li>
  * <li><b>{@link ObjectPropertyExpression.Range}</b>:        to describe the range restrictions of an ObjectProperty.</li>
  * <li><b>{@link ObjectPropertyExpression.Inverse}</b>:      to describe that an ObjectProperty has another inverse ObjectProperty.</li>
+ * <li><b>{@link ObjectPropertyExpression.Characteristic}</b>: to describe the characteristics of an ObjectProperty (e.g., functional).</li>
  * </ul>
  *
  * <p>
@@ -42,7 +48,9 @@ public class FullObjectPropertyDesc
         ObjectPropertyExpression.Sub<FullObjectPropertyDesc>,
         ObjectPropertyExpression.Super<FullObjectPropertyDesc>,
         ObjectPropertyExpression.Domain,
-        ObjectPropertyExpression.Range{
+        ObjectPropertyExpression.Range,
+        ObjectPropertyExpression.Characteristic,
+        Axiom.LazyDescriptor<OWLReferences,OWLObjectProperty> {
 
     private ObjectProperties disjointObjectProperties = new ObjectProperties();
     private ObjectProperties equivalentObjectProperties = new ObjectProperties();
@@ -51,6 +59,7 @@ public class FullObjectPropertyDesc
     private ObjectProperties superObjectProperties = new ObjectProperties();
     private Restrictions domainRestrictions = new Restrictions();
     private Restrictions rangeRestrictions = new Restrictions();
+    private Characteristics characteristics = new Characteristics();
 
     /* Constructors from class: ObjectPropertyGround */
 
@@ -85,6 +94,7 @@ public class FullObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
         r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
         r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
@@ -92,8 +102,32 @@ public class FullObjectPropertyDesc
         r.addAll( ObjectPropertyExpression.Sub.super.readAxioms());
         r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
         r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
+        r.addAll( ObjectPropertyExpression.Characteristic.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_DISJOINT))
+            r.addAll( ObjectPropertyExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_EQUIVALENT))
+            r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_RANGE))
+            r.addAll( ObjectPropertyExpression.Range.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_DOMAIN))
+            r.addAll( ObjectPropertyExpression.Domain.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_SUB))
+            r.addAll( ObjectPropertyExpression.Sub.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_SUPER))
+            r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_INVERSE))
+            r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_CHARACTERISTIC))
+            r.addAll( ObjectPropertyExpression.Characteristic.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -104,6 +138,7 @@ public class FullObjectPropertyDesc
         r.addAll( ObjectPropertyExpression.Sub.super.writeAxioms());
         r.addAll( ObjectPropertyExpression.Super.super.writeAxioms());
         r.addAll( ObjectPropertyExpression.Inverse.super.writeAxioms());
+        r.addAll( ObjectPropertyExpression.Characteristic.super.writeAxioms());
         return r;
     }
 
@@ -113,15 +148,24 @@ public class FullObjectPropertyDesc
     // It returns domainRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getDomainRestrictions() {
+        readPostponedAxioms();
         return domainRestrictions;
     }
 
     // It returns rangeRestrictions from the EntitySet (after being read from the ontology)
     @Override
     public Restrictions getRangeRestrictions() {
+        readPostponedAxioms();
         return rangeRestrictions;
     }
 
+    // It returns characteristics from the EntitySet (after being read from the ontology)
+    @Override
+    public Characteristics getCharacteristics() {
+        readPostponedAxioms();
+        return characteristics;
+    }
+
     // Is used by the descriptors's build() method. It's possible to change the return type based on need.
     @Override
     public FullObjectPropertyDesc getNewDisjointObjectProperty(OWLObjectProperty instance, OWLReferences ontology) {
@@ -130,6 +174,7 @@ public class FullObjectPropertyDesc
     // It returns disjointObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getDisjointObjectProperties() {
+        readPostponedAxioms();
         return disjointObjectProperties;
     }
 
@@ -141,6 +186,7 @@ public class FullObjectPropertyDesc
     // It returns equivalentObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getEquivalentObjectProperties() {
+        readPostponedAxioms();
         return equivalentObjectProperties;
     }
 
@@ -152,6 +198,7 @@ public class FullObjectPropertyDesc
     // It returns subObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getSubObjectProperties() {
+        readPostponedAxioms();
         return subObjectProperties;
     }
 
@@ -163,6 +210,7 @@ public class FullObjectPropertyDesc
     // It returns superObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getSuperObjectProperties() {
+        readPostponedAxioms();
         return superObjectProperties;
     }
 
@@ -174,6 +222,7 @@ public class FullObjectPropertyDesc
     // It returns inverseObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getInverseObjectProperties() {
+        readPostponedAxioms();
         return inverseObjectProperties;
     }
 
@@ -194,6 +243,7 @@ public class FullObjectPropertyDesc
                 "\t\t⊃ " +      subObjectProperties + "\n" +
                 "\t\t⊂ " +      superObjectProperties + "\n" +
                 "\t\t↔ " +      inverseObjectProperties + "\n" +
+                "\t\t◇ " +      characteristics + "\n" +
                 "}" + "\n";
     }
 }
\ No newline at end of file
@@ -1,12 +1,16 @@
 package it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ObjectPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is an example of a 'compound' ObjectProperty Descriptor which implements 2 {@link ObjectPropertyExpression} interfaces:
@@ -30,7 +34,8 @@ import java.util.List;
 public class HierarchicalObjectPropertyDesc
         extends ObjectPropertyGround
         implements ObjectPropertyExpression.Sub<HierarchicalObjectPropertyDesc>,
-        ObjectPropertyExpression.Super<HierarchicalObjectPropertyDesc>{
+        ObjectPropertyExpression.Super<HierarchicalObjectPropertyDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLObjectProperty> {
 
     private ObjectProperties subObjectProperties = new ObjectProperties();
     private ObjectProperties superObjectProperties = new ObjectProperties();
@@ -68,10 +73,22 @@ public class HierarchicalObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = ObjectPropertyExpression.Sub.super.readAxioms();
         r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_SUB))
+            r.addAll( ObjectPropertyExpression.Sub.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_SUPER))
+            r.addAll( ObjectPropertyExpression.Super.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -91,6 +108,7 @@ public class HierarchicalObjectPropertyDesc
     // It returns subObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getSubObjectProperties() {
+        readPostponedAxioms();
         return subObjectProperties;
     }
 
@@ -102,6 +120,7 @@ public class HierarchicalObjectPropertyDesc
     // It returns superObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getSuperObjectProperties() {
+        readPostponedAxioms();
         return superObjectProperties;
     }
 
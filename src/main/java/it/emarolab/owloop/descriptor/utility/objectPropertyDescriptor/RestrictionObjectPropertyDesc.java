@@ -1,12 +1,16 @@
 package it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor;
 
 import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
 import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectProperties;
 import it.emarolab.owloop.descriptor.construction.descriptorGround.ObjectPropertyGround;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
 import it.emarolab.owloop.descriptor.construction.descriptorExpression.ObjectPropertyExpression;
 import org.semanticweb.owlapi.model.OWLObjectProperty;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -33,7 +37,8 @@ public class RestrictionObjectPropertyDesc
         extends ObjectPropertyGround
         implements ObjectPropertyExpression.Disjoint<RestrictionObjectPropertyDesc>,
         ObjectPropertyExpression.Equivalent<RestrictionObjectPropertyDesc>,
-        ObjectPropertyExpression.Inverse<RestrictionObjectPropertyDesc> {
+        ObjectPropertyExpression.Inverse<RestrictionObjectPropertyDesc>,
+        Axiom.LazyDescriptor<OWLReferences,OWLObjectProperty> {
 
     private ObjectProperties disjointObjectProperties = new ObjectProperties();
     private ObjectProperties equivalentObjectProperties = new ObjectProperties();
@@ -72,11 +77,25 @@ public class RestrictionObjectPropertyDesc
     // To read axioms from an ontology
     @Override
     public List<MappingIntent> readAxioms() {
+        readingAxioms(); // an explicit reading is not postponed anymore
         List<MappingIntent> r = ObjectPropertyExpression.Disjoint.super.readAxioms();
         r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
         r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
         return r;
     }
+    // To read only the axioms of some expressions from an ontology
+    @Override
+    public List<MappingIntent> readAxioms(Set<QueryKind> kinds) {
+        List<MappingIntent> r = new ArrayList<>();
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_DISJOINT))
+            r.addAll( ObjectPropertyExpression.Disjoint.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_EQUIVALENT))
+            r.addAll( ObjectPropertyExpression.Equivalent.super.readAxioms());
+        if ( kinds.contains( QueryKind.OBJECT_PROPERTY_INVERSE))
+            r.addAll( ObjectPropertyExpression.Inverse.super.readAxioms());
+        return r;
+    }
+
     // To write axioms to an ontology
     @Override
     public List<MappingIntent> writeAxioms() {
@@ -97,6 +116,7 @@ public class RestrictionObjectPropertyDesc
     // It returns disjointObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getDisjointObjectProperties() {
+        readPostponedAxioms();
         return disjointObjectProperties;
     }
 
@@ -108,6 +128,7 @@ public class RestrictionObjectPropertyDesc
     // It returns equivalentObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getEquivalentObjectProperties() {
+        readPostponedAxioms();
         return equivalentObjectProperties;
     }
 
@@ -119,6 +140,7 @@ public class RestrictionObjectPropertyDesc
     // It returns inverseObjectProperties from the EntitySet (after being read from the ontology)
     @Override
     public ObjectProperties getInverseObjectProperties() {
+        readPostponedAxioms();
         return inverseObjectProperties;
     }
 
@@ -0,0 +1,83 @@
+package it.emarolab.owloop.core;
+
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinkSet;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.ObjectLinks;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * A Unit Test script for the synchronisation of {@link Axiom.ExpressionEntitySet}.
+ * It checks that reading and writing intents are the same of the {@link NestedLoopExpressionSync} reference.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class ExpressionEntitySetSyncTest {
+
+    private static final String IRI_PATH = "http://www.emarolab.it/owloop/test#";
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+
+    @Test
+    public void emptySetsTest() throws Exception{
+        assertSameSync( new ObjectLinkSet(), new ObjectLinkSet());
+        assertSameSync( randomLinks( new Random( 1), 10, 5, false), new ObjectLinkSet());
+        assertSameSync( new ObjectLinkSet(), randomLinks( new Random( 2), 10, 5, false));
+    }
+
+    @Test
+    public void randomSetsTest() throws Exception{
+        Random random = new Random( 42);
+        for ( int i = 0; i < 200; i++)
+            assertSameSync( randomLinks( random, 20, 8, false), randomLinks( random, 20, 8, false));
+    }
+
+    @Test
+    public void singletonSetsTest() throws Exception{
+        Random random = new Random( 7);
+        for ( int i = 0; i < 50; i++) {
+            assertSameSync( randomLinks( random, 3, 4, true), randomLinks( random, 3, 4, false));
+            assertSameSync( randomLinks( random, 3, 4, false), randomLinks( random, 3, 4, true));
+            assertSameSync( randomLinks( random, 3, 4, true), randomLinks( random, 3, 4, true));
+        }
+    }
+
+    private void assertSameSync( ObjectLinkSet internal, ObjectLinkSet queried){
+        // writing
+        NestedLoopExpressionSync<ObjectLinks,?> expected = new NestedLoopExpressionSync<>( internal, queried);
+        Axiom.EntitySet.SynchronisationIntent<ObjectLinks> actual = internal.synchroniseTo( queried);
+        assertEquals( expected.getToAdd(), actual.getToAdd());
+        assertEquals( expected.getToRemove(), actual.getToRemove());
+        assertEquals( expected.getUnchanged(), actual.getUnchanged());
+        // reading
+        expected = new NestedLoopExpressionSync<>( queried, internal);
+        actual = internal.synchroniseFrom( queried);
+        assertEquals( expected.getToAdd(), actual.getToAdd());
+        assertEquals( expected.getToRemove(), actual.getToRemove());
+        assertEquals( expected.getUnchanged(), actual.getUnchanged());
+    }
+
+    private ObjectLinkSet randomLinks( Random random, int properties, int individuals, boolean singleton){
+        ObjectLinkSet set = new ObjectLinkSet();
+        set.setSingleton( singleton);
+        int size = random.nextInt( properties + 1);
+        for ( int i = 0; i < size; i++) {
+            ObjectLinks links = new ObjectLinks( FACTORY.getOWLObjectProperty( IRI.create( IRI_PATH + "p" + random.nextInt( properties))));
+            int values = random.nextInt( individuals) + 1;
+            for ( int j = 0; j < values; j++)
+                links.getValues().add( FACTORY.getOWLNamedIndividual( IRI.create( IRI_PATH + "i" + random.nextInt( individuals))));
+            set.add( links);
+        }
+        return set;
+    }
+}
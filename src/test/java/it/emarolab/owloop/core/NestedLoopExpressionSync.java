@@ -0,0 +1,94 @@
+package it.emarolab.owloop.core;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A reference copy of the nested-loop synchronisation that {@link Axiom.ExpressionEntitySet}
+ * used before the expression-indexed implementation.
+ * It is used to check that the indexed implementation produces the same output,
+ * and as a baseline for the benchmarks.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ *
+ * @param <F> the type of expression entity to synchronise.
+ * @param <Y> the type of values of the expression entity.
+ */
+public class NestedLoopExpressionSync<F extends Axiom.ExpressionEntity<?,Y>,Y> {
+
+    private Set<F> toAdd = new HashSet<>(), toRemove = new HashSet<>(), unchanged = new HashSet<>();
+
+    // write -> a1: internal state,  a2: queried.
+    // read  -> a1: queried,         a2: internal state.
+    public NestedLoopExpressionSync(Axiom.EntitySet<F> a1, Axiom.EntitySet<F> a2){
+        if ( a1.isEmpty() & a2.isEmpty())
+            return;
+        if ( a1.isEmpty()) {
+            for (F a : a2)
+                addSynchronised( a.getValues().synchroniseFrom( null), a);
+            return;
+        }
+        if ( a2.isEmpty()) {
+            for (F a : a1)
+                addSynchronised( a.getValues().synchroniseTo( null), a);
+            return;
+        }
+
+        for (F b1 : a1) {
+            boolean found = false;
+            for (F b2 : a2) {
+                if (b1.getExpression().equals(b2.getExpression())) {
+                    addSynchronised( b1.getValues().synchroniseTo( b2.getValues()), b1);
+                    found = true;
+                    break;
+                }
+                if ( a2.isSingleton())
+                    break;
+            }
+            if ( ! found)
+                addSynchronised( b1.getValues().synchroniseTo( null), b1);
+            if ( a1.isSingleton())
+                break;
+        }
+
+        for (F b2 : a2) {
+            boolean found = false;
+            for (F b1 : a1) {
+                if (b1.getExpression().equals(b2.getExpression())) {
+                    found = true;
+                    break;
+                }
+            }
+            if ( !found)
+                addSynchronised( b2.getValues().synchroniseFrom( null), b2);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addSynchronised(Axiom.EntitySet.SynchronisationIntent<Y> intent, F t) {
+        if ( ! intent.getToAdd().isEmpty())
+            toAdd.add((F) t.getNewData(intent.getToAdd()));
+        if ( ! intent.getUnchanged().isEmpty())
+            unchanged.add((F) t.getNewData(intent.getUnchanged()));
+        if ( ! intent.getToRemove().isEmpty())
+            toRemove.add( (F) t.getNewData(intent.getToRemove()));
+    }
+
+    public Set<F> getToAdd() {
+        return toAdd;
+    }
+
+    public Set<F> getToRemove() {
+        return toRemove;
+    }
+
+    public Set<F> getUnchanged() {
+        return unchanged;
+    }
+}
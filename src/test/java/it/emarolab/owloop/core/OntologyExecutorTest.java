@@ -0,0 +1,94 @@
+package it.emarolab.owloop.core;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the asynchronous operations performed through the {@link OntologyExecutor}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class OntologyExecutorTest {
+
+    @Test
+    public void serialisationTest() throws Exception{
+        Object ontology = new Object(), other = new Object();
+        AtomicInteger running = new AtomicInteger(), overlapping = new AtomicInteger();
+        List<Integer> order = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for ( int i = 0; i < 10; i++) {
+            int id = i;
+            futures.add( OntologyExecutor.submit( ontology, () -> {
+                if ( running.incrementAndGet() > 1)
+                    overlapping.incrementAndGet();
+                sleep( 5);
+                order.add( id);
+                running.decrementAndGet();
+                if ( id == 3)
+                    throw new IllegalStateException( "a failure does not stop the next operations");
+                return id;
+            }));
+        }
+        // another ontology is not blocked by the operations above
+        CountDownLatch started = new CountDownLatch( 1);
+        OntologyExecutor.submit( ontology, () -> await( started));
+        assertTrue( OntologyExecutor.submit( other, () -> { started.countDown(); return true;}).get( 1, TimeUnit.MINUTES));
+
+        for ( int i = 0; i < futures.size(); i++) {
+            if ( i == 3)
+                assertTrue( futures.get( i).handle( (r, x) -> x != null).get( 1, TimeUnit.MINUTES));
+            else assertEquals( Integer.valueOf( i), futures.get( i).get( 1, TimeUnit.MINUTES));
+        }
+        assertEquals( 0, overlapping.get());
+        for ( int i = 0; i < order.size(); i++)
+            assertEquals( Integer.valueOf( i), order.get( i));
+    }
+
+    @Test
+    public void descriptorTest() throws Exception{
+        OWLReferences ontology = DrugOntology.load( "asyncOntology");
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readAxiomsAsync().get( 1, TimeUnit.MINUTES);
+        order.addTypeIndividual( "NewOrder");
+        CompletableFuture<List<Axiom.MappingIntent>> written = order.writeAxiomsReasonReadAxiomsAsync();
+
+        FullIndividualDesc copy = new FullIndividualDesc( "order", ontology);
+        copy.readAxiomsAsync().get( 1, TimeUnit.MINUTES); // performed after the writing
+        assertTrue( written.isDone());
+        assertFalse( written.get().isEmpty());
+        assertTrue( copy.getTypes().contains( ontology.getOWLClass( "NewOrder")));
+    }
+
+    private static void sleep(long millis){
+        try {
+            Thread.sleep( millis);
+        } catch ( InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean await(CountDownLatch latch){
+        try {
+            return latch.await( 1, TimeUnit.MINUTES);
+        } catch ( InterruptedException e) {
+            return false;
+        }
+    }
+}
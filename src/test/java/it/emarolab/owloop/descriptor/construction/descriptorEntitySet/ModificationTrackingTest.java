@@ -0,0 +1,112 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.HistogramMetrics;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link Axiom.EntitySet#isModified()} tracking.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class ModificationTrackingTest {
+
+    private static final String IRI_PATH = "http://www.emarolab.it/owloop/test#";
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+
+    private OWLClass a = FACTORY.getOWLClass( IRI.create( IRI_PATH + "A"));
+    private OWLClass b = FACTORY.getOWLClass( IRI.create( IRI_PATH + "B"));
+    private OWLObjectProperty p = FACTORY.getOWLObjectProperty( IRI.create( IRI_PATH + "p"));
+    private OWLNamedIndividual i = FACTORY.getOWLNamedIndividual( IRI.create( IRI_PATH + "i"));
+    private OWLNamedIndividual j = FACTORY.getOWLNamedIndividual( IRI.create( IRI_PATH + "j"));
+
+    @After // called after every @Test
+    public void tearDown() {
+        Metrics.set( null);
+    }
+
+    @Test
+    public void entitySetTest() {
+        Classes set = new Classes();
+        assertTrue( set.isModified());
+
+        Classes queried = new Classes( Arrays.asList( a, b));
+        Axiom.EntitySet.SynchronisationIntent<OWLClass> from = set.synchroniseFrom( queried);
+        set.addAll( from.getToAdd());
+        set.removeAll( from.getToRemove());
+        assertFalse( set.isModified());
+
+        set.remove( a);
+        assertTrue( set.isModified());
+        set.add( a);
+        assertFalse( set.isModified()); // equal to the ontology again
+
+        Iterator<OWLClass> it = set.iterator();
+        it.next();
+        it.remove();
+        assertTrue( set.isModified());
+
+        set.synchroniseTo( queried); // as done while writing
+        assertFalse( set.isModified());
+        set.resetSynchronisation();
+        assertTrue( set.isModified());
+    }
+
+    @Test
+    public void expressionEntitySetTest() {
+        ObjectLinkSet set = new ObjectLinkSet();
+        ObjectLinkSet queried = new ObjectLinkSet();
+        queried.add( new ObjectLinks( p, Arrays.asList( i)));
+        Axiom.EntitySet.SynchronisationIntent<ObjectLinks> from = set.synchroniseFrom( queried);
+        set.addAll( from.getToAdd());
+        set.removeAll( from.getToRemove());
+        assertFalse( set.isModified());
+
+        set.getLinks( p).add( j); // changing the values in place
+        assertTrue( set.isModified());
+        set.getLinks( p).remove( j);
+        assertFalse( set.isModified());
+    }
+
+    @Test
+    public void writeWithoutQueriesTest() throws Exception {
+        OWLReferences ontology = DrugOntology.load( "trackingOntology");
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readAxioms();
+
+        HistogramMetrics metrics = new HistogramMetrics();
+        Metrics.set( metrics);
+        order.writeAxioms();
+        assertEquals( 0, metrics.getCount( Metrics.Counter.REASONER_QUERIES));
+
+        order.addTypeIndividual( "NewOrder");
+        order.writeAxioms();
+        assertEquals( 1, metrics.getCount( Metrics.Counter.REASONER_QUERIES));
+        assertEquals( 1, metrics.getCount( Metrics.Counter.REASONER_QUERIES, QueryKind.INDIVIDUAL_TYPE));
+        assertEquals( 1, metrics.getCount( Metrics.Counter.ONTOLOGY_CHANGES));
+        assertTrue( ontology.getIndividualClasses( order.getInstance()).contains( ontology.getOWLClass( "NewOrder")));
+
+        metrics.reset();
+        order.writeAxioms(); // already written
+        assertEquals( 0, metrics.getCount( Metrics.Counter.REASONER_QUERIES));
+    }
+}
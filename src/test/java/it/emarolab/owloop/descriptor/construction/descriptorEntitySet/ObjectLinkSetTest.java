@@ -0,0 +1,118 @@
+package it.emarolab.owloop.descriptor.construction.descriptorEntitySet;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.IRI;
+import org.semanticweb.owlapi.model.OWLDataFactory;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link java.util.Collection} behaviour of {@link ObjectLinkSet}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class ObjectLinkSetTest {
+
+    private static final String IRI_PATH = "http://www.emarolab.it/owloop/test#";
+    private static final OWLDataFactory FACTORY = OWLManager.getOWLDataFactory();
+
+    private OWLObjectProperty p1 = FACTORY.getOWLObjectProperty( IRI.create( IRI_PATH + "p1"));
+    private OWLObjectProperty p2 = FACTORY.getOWLObjectProperty( IRI.create( IRI_PATH + "p2"));
+    private OWLNamedIndividual a = FACTORY.getOWLNamedIndividual( IRI.create( IRI_PATH + "a"));
+    private OWLNamedIndividual b = FACTORY.getOWLNamedIndividual( IRI.create( IRI_PATH + "b"));
+    private OWLNamedIndividual c = FACTORY.getOWLNamedIndividual( IRI.create( IRI_PATH + "c"));
+
+    private ObjectLinkSet set;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        set = new ObjectLinkSet();
+        set.add( new ObjectLinks( p1, Arrays.asList( a, b)));
+        set.add( new ObjectLinks( p2, Arrays.asList( c)));
+    }
+
+    @Test
+    public void addTest() throws Exception{
+        // values with the same property are merged
+        assertTrue( set.add( new ObjectLinks( p1, Arrays.asList( c))));
+        assertFalse( set.add( new ObjectLinks( p1, Arrays.asList( c))));
+        assertEquals( 2, set.size());
+        assertEquals( new HashSet<>( Arrays.asList( a, b, c)), set.getLinks( p1));
+        // singleton values replace the previous ones
+        ObjectLinks singleton = new ObjectLinks( p1, Arrays.asList( a));
+        singleton.getValues().setSingleton( true);
+        set.add( singleton);
+        assertEquals( new HashSet<>( Arrays.asList( a)), set.getLinks( p1));
+        assertEquals( a, set.getLink( p1));
+        assertTrue( set.getLinks( p1).isSingleton());
+    }
+
+    @Test
+    public void removeTest() throws Exception{
+        // some values of a property
+        assertTrue( set.remove( new ObjectLinks( p1, Arrays.asList( a))));
+        assertEquals( new HashSet<>( Arrays.asList( b)), set.getLinks( p1));
+        // the whole entry
+        assertTrue( set.remove( new ObjectLinks( p1, Arrays.asList( b))));
+        assertFalse( set.contains( new ObjectLinks( p1, Arrays.asList( b))));
+        // by property
+        assertTrue( set.remove( p2));
+        assertFalse( set.remove( p2));
+        assertTrue( set.isEmpty());
+        assertTrue( set.getLinks( p2).isEmpty());
+        assertNull( set.getLink( p2));
+    }
+
+    @Test
+    public void collectionTest() throws Exception{
+        assertTrue( set.contains( new ObjectLinks( p2, Arrays.asList( c))));
+        assertFalse( set.contains( new ObjectLinks( p2, Arrays.asList( a))));
+        assertEquals( new HashSet<>( set), set);
+        assertEquals( set, new HashSet<>( set));
+        assertEquals( set, new ObjectLinkSet( set));
+
+        ObjectLinkSet copy = (ObjectLinkSet) set.clone();
+        copy.remove( p1);
+        assertEquals( 2, set.size());
+        assertEquals( 1, copy.size());
+
+        Iterator<ObjectLinks> iterator = set.iterator();
+        assertEquals( p1, iterator.next().getExpression()); // insertion order
+        iterator.remove();
+        assertEquals( 1, set.size());
+        assertTrue( set.getLinks( p1).isEmpty());
+        assertEquals( 1, set.stream().count());
+
+        set.retainAll( new HashSet<ObjectLinks>());
+        assertTrue( set.isEmpty());
+    }
+
+    @Test
+    public void copyTest() throws Exception{
+        // the copies are based on toArray()
+        List<ObjectLinks> list = new ArrayList<>( set);
+        assertEquals( 2, list.size());
+        assertEquals( p1, list.get( 0).getExpression()); // insertion order
+        assertEquals( p2, list.get( 1).getExpression());
+        assertEquals( 2, set.toArray().length);
+        ObjectLinks[] array = set.toArray( new ObjectLinks[ 0]);
+        assertEquals( list, Arrays.asList( array));
+        assertEquals( 2, new HashSet<>( list).size());
+    }
+}
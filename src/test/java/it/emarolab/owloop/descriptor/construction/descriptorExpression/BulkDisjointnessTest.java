@@ -0,0 +1,136 @@
+package it.emarolab.owloop.descriptor.construction.descriptorExpression;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for writing the disjointness as n-ary axioms (see {@link OntologyMonitor#enableBulkDisjointness(OWLReferences)}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class BulkDisjointnessTest {
+
+    private static final int SIBLINGS = 5;
+
+    private OWLReferences ontology;
+    private AtomicInteger changes = new AtomicInteger();
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "bulkDisjointOntology");
+        OntologyMonitor.enableBulkDisjointness( ontology).addListener( new OntologyMonitor.Listener() {
+            @Override
+            public void changed(List<? extends OWLOntologyChange> applied) {
+                changes.addAndGet( applied.size());
+            }
+            @Override
+            public void reasoned() {
+            }
+        });
+    }
+
+    @Test
+    public void classTest() throws Exception{
+        OWLOntology owl = ontology.getOWLOntology();
+        ontology.makeDisjointClasses( pair( "Sibling0", "Sibling1")); // an already asserted pairwise axiom
+
+        FullClassDesc first = new FullClassDesc( "Sibling0", ontology);
+        for ( int i = 1; i < SIBLINGS; i++)
+            first.addDisjointClass( "Sibling" + i);
+        changes.set( 0);
+        first.writeAxioms();
+        assertEquals( 2, changes.get()); // the pairwise axiom is absorbed in the n-ary one
+        assertEquals( 1, owl.axioms( AxiomType.DISJOINT_CLASSES).count());
+        assertEquals( SIBLINGS, owl.axioms( AxiomType.DISJOINT_CLASSES).findAny().get().classExpressions().count());
+
+        // a sibling declaring the same group does not change the ontology
+        FullClassDesc second = new FullClassDesc( "Sibling2", ontology);
+        for ( int i = 0; i < SIBLINGS; i++)
+            if ( i != 2)
+                second.addDisjointClass( "Sibling" + i);
+        changes.set( 0);
+        second.writeAxioms();
+        assertEquals( 0, changes.get());
+
+        // removing a sibling splits the group, and keeps all the other pairs disjoint
+        first.removeDisjointClass( "Sibling" + ( SIBLINGS - 1));
+        first.writeAxioms();
+        assertFalse( areDisjoint( owl, "Sibling0", "Sibling" + ( SIBLINGS - 1)));
+        for ( int i = 0; i < SIBLINGS; i++)
+            for ( int j = i + 1; j < SIBLINGS; j++)
+                if ( i != 0 || j != SIBLINGS - 1)
+                    assertTrue( areDisjoint( owl, "Sibling" + i, "Sibling" + j));
+    }
+
+    @Test
+    public void inferredTest() throws Exception{
+        // the sub classes of B are inferred disjoint with A, but not with each other
+        ontology.makeDisjointClasses( pair( "A", "B"));
+        ontology.addSubClassOf( "B", "B1");
+        ontology.addSubClassOf( "B", "B2");
+        ontology.synchronizeReasoner();
+
+        FullClassDesc a = new FullClassDesc( "A", ontology);
+        a.readAxioms();
+        assertTrue( a.getDisjointClasses().contains( ontology.getOWLClass( "B1")));
+        a.addDisjointClass( "C");
+        a.writeAxioms();
+        ontology.synchronizeReasoner();
+        assertTrue( areDisjoint( ontology.getOWLOntology(), "A", "C"));
+        assertTrue( areDisjoint( ontology.getOWLOntology(), "B", "C"));
+        assertFalse( areDisjoint( ontology.getOWLOntology(), "B", "B1"));
+        assertTrue( ontology.getOWLReasoner().isSatisfiable( ontology.getOWLClass( "B1")));
+        assertTrue( ontology.getOWLReasoner().isSatisfiable( ontology.getOWLClass( "B2")));
+    }
+
+    @Test
+    public void objectPropertyTest() throws Exception{
+        OWLOntology owl = ontology.getOWLOntology();
+        FullObjectPropertyDesc property = new FullObjectPropertyDesc( "hasDrug", ontology);
+        property.addDisjointObjectProperty( "hasOwner");
+        property.addDisjointObjectProperty( "hasSupplier");
+        property.writeAxioms();
+        assertEquals( 1, owl.axioms( AxiomType.DISJOINT_OBJECT_PROPERTIES).count());
+
+        property.removeDisjointObjectProperty( "hasSupplier");
+        property.writeAxioms();
+        Set<OWLDisjointObjectPropertiesAxiom> axioms = owl.axioms( AxiomType.DISJOINT_OBJECT_PROPERTIES).collect( Collectors.toSet());
+        assertEquals( 2, axioms.size());
+        assertTrue( axioms.contains( ontology.getOWLFactory().getOWLDisjointObjectPropertiesAxiom(
+                ontology.getOWLObjectProperty( "hasDrug"), ontology.getOWLObjectProperty( "hasOwner"))));
+        assertTrue( axioms.contains( ontology.getOWLFactory().getOWLDisjointObjectPropertiesAxiom(
+                ontology.getOWLObjectProperty( "hasOwner"), ontology.getOWLObjectProperty( "hasSupplier"))));
+    }
+
+    private Set<OWLClass> pair(String first, String second){
+        Set<OWLClass> s = new HashSet<>();
+        s.add( ontology.getOWLClass( first));
+        s.add( ontology.getOWLClass( second));
+        return s;
+    }
+
+    private boolean areDisjoint(OWLOntology owl, String first, String second){
+        return owl.axioms( AxiomType.DISJOINT_CLASSES).anyMatch( axiom ->
+                axiom.contains( ontology.getOWLClass( first)) && axiom.contains( ontology.getOWLClass( second)));
+    }
+}
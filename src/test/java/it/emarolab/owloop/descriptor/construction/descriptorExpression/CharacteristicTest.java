@@ -0,0 +1,87 @@
+package it.emarolab.owloop.descriptor.construction.descriptorExpression;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Characteristics;
+import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLDataProperty;
+import org.semanticweb.owlapi.model.OWLObjectProperty;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the property characteristics synchronised through the descriptors
+ * (see {@link ObjectPropertyExpression.Characteristic} and {@link DataPropertyExpression.Characteristic}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class CharacteristicTest {
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "characteristicOntology");
+    }
+
+    @Test
+    public void objectPropertyTest() throws Exception{
+        OWLOntology owl = ontology.getOWLOntology();
+        OWLObjectProperty hasDrug = ontology.getOWLObjectProperty( "hasDrug");
+
+        FullObjectPropertyDesc property = new FullObjectPropertyDesc( hasDrug, ontology);
+        property.readAxioms();
+        property.setFunctional();
+        property.setTransitive();
+        // nothing is applied before writing
+        assertEquals( 0, owl.functionalObjectPropertyAxioms( hasDrug).count());
+        assertEquals( 0, owl.transitiveObjectPropertyAxioms( hasDrug).count());
+
+        property.writeAxioms();
+        assertEquals( 1, owl.functionalObjectPropertyAxioms( hasDrug).count());
+        assertEquals( 1, owl.transitiveObjectPropertyAxioms( hasDrug).count());
+
+        FullObjectPropertyDesc read = new FullObjectPropertyDesc( hasDrug, ontology);
+        read.readAxioms();
+        assertTrue( read.getCharacteristics().contains( Characteristics.Type.FUNCTIONAL));
+        assertTrue( read.getCharacteristics().contains( Characteristics.Type.TRANSITIVE));
+        assertFalse( read.getCharacteristics().contains( Characteristics.Type.SYMMETRIC));
+
+        read.setNotFunctional();
+        read.writeAxioms();
+        assertEquals( 0, owl.functionalObjectPropertyAxioms( hasDrug).count());
+        assertEquals( 1, owl.transitiveObjectPropertyAxioms( hasDrug).count());
+    }
+
+    @Test
+    public void dataPropertyTest() throws Exception{
+        OWLOntology owl = ontology.getOWLOntology();
+        OWLDataProperty hasPrice = ontology.getOWLDataProperty( "hasPrice");
+
+        FullDataPropertyDesc property = new FullDataPropertyDesc( hasPrice, ontology);
+        property.readAxioms();
+        property.setFunctional();
+        assertEquals( 0, owl.functionalDataPropertyAxioms( hasPrice).count());
+
+        property.writeAxioms();
+        assertEquals( 1, owl.functionalDataPropertyAxioms( hasPrice).count());
+
+        FullDataPropertyDesc read = new FullDataPropertyDesc( hasPrice, ontology);
+        read.readAxioms();
+        assertTrue( read.getCharacteristics().contains( Characteristics.Type.FUNCTIONAL));
+
+        read.setNotFunctional();
+        read.writeAxioms();
+        assertEquals( 0, owl.functionalDataPropertyAxioms( hasPrice).count());
+    }
+}
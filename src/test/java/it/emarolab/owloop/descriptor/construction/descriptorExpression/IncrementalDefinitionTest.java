@@ -0,0 +1,77 @@
+package it.emarolab.owloop.descriptor.construction.descriptorExpression;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.RestrictionClassDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for writing the class definitions incrementally (see {@link OntologyMonitor#enableIncrementalDefinitions(OWLReferences)}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class IncrementalDefinitionTest {
+
+    private OWLReferences ontology;
+    private AtomicInteger changes = new AtomicInteger();
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "incrementalOntology");
+        OntologyMonitor.enableIncrementalDefinitions( ontology).addListener( new OntologyMonitor.Listener() {
+            @Override
+            public void changed(List<? extends OWLOntologyChange> applied) {
+                changes.addAndGet( applied.size());
+            }
+            @Override
+            public void reasoned() {
+            }
+        });
+    }
+
+    @Test
+    public void swapTest() throws Exception{
+        OWLClass cheapOrder = ontology.getOWLClass( "CheapOrder");
+        ontology.addSubClassOf( "Order", "CheapOrder"); // not part of the definition
+
+        RestrictionClassDesc definition = new RestrictionClassDesc( cheapOrder, ontology);
+        definition.addMinObjectRestriction( "hasDrug", 1, "Drug");
+        definition.addClassRestriction( "Order");
+        changes.set( 0);
+        definition.writeAxioms();
+        assertEquals( 1, changes.get()); // the new definition
+        assertEquals( 1, ontology.getOWLOntology().equivalentClassesAxioms( cheapOrder).count());
+
+        // a single restriction changes
+        definition.addMaxDataRestriction( "hasPrice", 1, Double.class);
+        changes.set( 0);
+        definition.writeAxioms();
+        assertEquals( 2, changes.get()); // the old definition is swapped with the new one
+        assertEquals( 1, ontology.getOWLOntology().equivalentClassesAxioms( cheapOrder).count());
+        assertEquals( 1, ontology.getOWLOntology().subClassAxiomsForSubClass( cheapOrder).count());
+        assertTrue( ontology.getOWLOntology().containsAxiom( definition.getDefinition( definition.getEquivalentRestrictions())));
+
+        // the definition is removed
+        definition.getEquivalentRestrictions().clear();
+        changes.set( 0);
+        definition.writeAxioms();
+        assertEquals( 1, changes.get());
+        assertEquals( 0, ontology.getOWLOntology().equivalentClassesAxioms( cheapOrder).count());
+        assertEquals( 1, ontology.getOWLOntology().subClassAxiomsForSubClass( cheapOrder).count());
+    }
+}
@@ -0,0 +1,80 @@
+package it.emarolab.owloop.descriptor.construction.descriptorExpression;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.DataLinks;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for reading only some expressions, or only some properties, of a descriptor.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class SelectiveReadTest {
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "selectiveOntology");
+    }
+
+    @Test
+    public void readPropertiesTest() throws Exception{
+        FullIndividualDesc fullOrder = new FullIndividualDesc( "order", ontology);
+        fullOrder.readAxioms();
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readObjectPropertyAxioms( "hasDrug");
+        assertFalse( order.getObjectProperties().isEmpty());
+        assertEquals( fullOrder.getIndividualsFromObjectProperty( "hasDrug"), order.getIndividualsFromObjectProperty( "hasDrug"));
+        assertTrue( order.getTypes().isEmpty()); // not read
+
+        for ( OWLNamedIndividual drug : order.getIndividualsFromObjectProperty( "hasDrug")) {
+            FullIndividualDesc fullDrug = new FullIndividualDesc( drug, ontology);
+            fullDrug.readAxioms();
+            FullIndividualDesc selectedDrug = new FullIndividualDesc( drug, ontology);
+            selectedDrug.readDataPropertyAxioms( "hasPrice");
+            assertEquals( fullDrug.getLiteralFromDataProperty( "hasPrice"), selectedDrug.getLiteralFromDataProperty( "hasPrice"));
+            assertEquals( 1, selectedDrug.getDataProperties().size());
+        }
+    }
+
+    @Test
+    public void readKnownPropertiesTest() throws Exception{
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readObjectPropertyAxioms( "hasDrug");
+        for ( OWLNamedIndividual drug : order.getIndividualsFromObjectProperty( "hasDrug")) {
+            FullIndividualDesc fullDrug = new FullIndividualDesc( drug, ontology);
+            fullDrug.readAxioms();
+            FullIndividualDesc knownDrug = new FullIndividualDesc( drug, ontology);
+            knownDrug.getDataProperties().add( new DataLinks( ontology.getOWLDataProperty( "hasPrice")));
+            knownDrug.readKnownDataPropertyAxioms();
+            assertEquals( fullDrug.getDataProperties().getExpressionEntity( ontology.getOWLDataProperty( "hasPrice")),
+                    knownDrug.getDataProperties().getExpressionEntity( ontology.getOWLDataProperty( "hasPrice")));
+        }
+    }
+
+    @Test
+    public void readKindsTest() throws Exception{
+        FullIndividualDesc fullOrder = new FullIndividualDesc( "order", ontology);
+        fullOrder.readAxioms();
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readAxioms( QueryKind.INDIVIDUAL_TYPE, QueryKind.INDIVIDUAL_OBJECT_LINK);
+        assertEquals( fullOrder.getTypes(), order.getTypes());
+        assertEquals( fullOrder.getObjectProperties(), order.getObjectProperties());
+        assertTrue( order.getDataProperties().isEmpty()); // not read
+        assertTrue( order.getDisjointIndividuals().isEmpty());
+    }
+}
@@ -0,0 +1,91 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.HistogramMetrics;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the lazy {@code buildXxxLazily()} methods of the descriptors.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class LazyDescriptorTest {
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "lazyOntology");
+        // a chain of classes: Level0 ⊃ Level1 ⊃ Level2 ⊃ Level3
+        for ( int i = 0; i < 3; i++) {
+            FullClassDesc d = new FullClassDesc( "Level" + i, ontology);
+            d.readAxioms();
+            d.addSubClass( "Level" + ( i + 1));
+            d.writeAxiomsReasonReadAxioms();
+        }
+    }
+
+    @Test
+    public void lazyBuildTest() throws Exception{
+        FullClassDesc root = new FullClassDesc( "Level0", ontology);
+        root.readAxioms();
+        assertEquals( Axiom.Descriptor.UNBOUNDED_DEPTH, root.getLazyDepth());
+
+        Set<FullClassDesc> built = root.buildSubClassesLazily( 2);
+        assertEquals( root.getSubClasses().size(), built.size());
+        FullClassDesc level1 = null;
+        for ( FullClassDesc d : built) {
+            assertTrue( d.isReadingPostponed()); // grounded but not read
+            if ( d.getInstance().equals( ontology.getOWLClass( "Level1")))
+                level1 = d;
+        }
+        assertNotNull( level1);
+        assertEquals( 1, level1.getLazyDepth());
+
+        // the first access reads the axioms
+        assertTrue( level1.getSubClasses().contains( ontology.getOWLClass( "Level2")));
+        assertFalse( level1.isReadingPostponed());
+
+        // the depth bound stops the lazy building
+        Set<FullClassDesc> level2 = level1.buildSubClassesLazily();
+        assertFalse( level2.isEmpty());
+        for ( FullClassDesc d : level2) {
+            assertEquals( 0, d.getLazyDepth());
+            assertTrue( d.buildSubClassesLazily().isEmpty());
+        }
+    }
+
+    @Test
+    public void explicitReadTest() throws Exception{
+        HistogramMetrics metrics = new HistogramMetrics();
+        Metrics.set( metrics);
+        try {
+            FullClassDesc root = new FullClassDesc( "Level0", ontology);
+            root.readAxiomsLazily( Axiom.Descriptor.UNBOUNDED_DEPTH);
+            assertTrue( root.isReadingPostponed());
+            root.readAxioms();
+            assertFalse( root.isReadingPostponed());
+            // the getters do not read the postponed axioms again
+            assertTrue( root.getSubClasses().contains( ontology.getOWLClass( "Level1")));
+            assertEquals( 1, metrics.getHistogram( Metrics.Phase.READ, QueryKind.CLASS_SUB).getCount());
+        } finally {
+            Metrics.set( null);
+        }
+    }
+}
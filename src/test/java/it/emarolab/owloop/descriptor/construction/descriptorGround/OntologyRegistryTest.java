@@ -0,0 +1,58 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.MaterialisedIndex;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.ModuleScope;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryCache;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.OntologyActor;
+import it.emarolab.owloop.descriptor.construction.descriptorSynchronisation.ReasoningScheduler;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for releasing the features of an ontology through the {@link OntologyRegistry}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class OntologyRegistryTest {
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "registryOntology");
+    }
+
+    @Test
+    public void releaseTest() throws Exception{
+        OntologyMonitor monitor = OntologyMonitor.enableVersionedReads( ontology);
+        QueryCache.enable( ontology);
+        ReasoningScheduler.enable( ontology);
+        ModuleScope.enable( ontology);
+        MaterialisedIndex.enable( ontology);
+        OntologyActor.start( ontology);
+        new FullIndividualDesc( "a1", ontology).readAxioms();
+
+        OntologyRegistry.release( ontology);
+        assertNull( OntologyMonitor.get( ontology));
+        assertNull( QueryCache.get( ontology));
+        assertNull( ReasoningScheduler.get( ontology));
+        assertNull( ModuleScope.get( ontology));
+        assertNull( MaterialisedIndex.get( ontology));
+        assertNull( OntologyActor.get( ontology));
+        // the released monitor does not listen to the ontology anymore
+        long version = monitor.getVersion();
+        ontology.addIndividualB2Class( "a2", "Aspirin");
+        assertEquals( version, monitor.getVersion());
+    }
+}
@@ -0,0 +1,112 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link OntologyWarmUp}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class OntologyWarmUpTest {
+
+    private OWLReferences ontology;
+    private ReentrantLock lock;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "warmUpOntology");
+        ontology.addSubClassOf( "Drug", "Aspirin");
+        ontology.addIndividualB2Class( "a1", "Aspirin");
+        // the warm-up cannot start until the lock is released
+        lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        while ( lock.isHeldByCurrentThread())
+            lock.unlock();
+    }
+
+    @Test
+    public void assertedTest() throws Exception{
+        OntologyWarmUp warmUp = OntologyWarmUp.warmUp( ontology, OntologyWarmUp.Policy.ASSERTED, 0);
+        assertSame( warmUp, OntologyWarmUp.get( ontology));
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        a1.readAxioms();
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Aspirin")));
+        assertFalse( a1.getTypes().contains( ontology.getOWLClass( "Drug"))); // not inferred yet
+        assertFalse( warmUp.isReady());
+
+        lock.unlock();
+        assertSame( ontology, warmUp.getReadiness().get( 30, TimeUnit.SECONDS));
+        a1.readAxioms();
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Drug")));
+    }
+
+    @Test
+    public void timeoutTest() throws Exception{
+        OntologyWarmUp warmUp = OntologyWarmUp.warmUp( ontology, OntologyWarmUp.Policy.TIMEOUT, 100);
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        try {
+            a1.queryTypes(); // readAxioms() would print the exception instead
+            fail( "the ontology should not be ready");
+        } catch ( IllegalStateException e) {
+            assertFalse( warmUp.isReady());
+        }
+        lock.unlock();
+        warmUp.getReadiness().get( 30, TimeUnit.SECONDS);
+        assertNull( OntologyWarmUp.get( ontology));
+    }
+
+    @Test
+    public void blockTest() throws Exception{
+        OntologyWarmUp warmUp = OntologyWarmUp.warmUp( ontology, OntologyWarmUp.Policy.BLOCK, 0);
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        CompletableFuture<Void> reading = CompletableFuture.runAsync( a1::readAxioms);
+        Thread.sleep( 200);
+        assertFalse( reading.isDone());
+
+        lock.unlock();
+        reading.get( 30, TimeUnit.SECONDS);
+        assertTrue( warmUp.isReady());
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Drug")));
+    }
+
+    @Test
+    public void lockTest() throws Exception{
+        // a thread that holds the lock does not wait for the warm-up, which waits for that lock
+        lock.unlock();
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        CompletableFuture<Boolean> reading = CompletableFuture.supplyAsync( () -> {
+            lock.lock();
+            try {
+                OntologyWarmUp warmUp = OntologyWarmUp.warmUp( ontology, OntologyWarmUp.Policy.BLOCK, 0);
+                a1.readAxioms();
+                return warmUp.isReady();
+            } finally {
+                lock.unlock();
+            }
+        });
+        assertFalse( reading.get( 30, TimeUnit.SECONDS));
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Drug"))); // warmed up by the reading thread
+    }
+}
@@ -0,0 +1,95 @@
+package it.emarolab.owloop.descriptor.construction.descriptorGround;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorMetrics.HistogramMetrics;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the versioned reads of {@link OntologyMonitor}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class VersionedReadTest {
+
+    private OWLReferences ontology;
+    private HistogramMetrics metrics = new HistogramMetrics();
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "versionedOntology");
+        Metrics.set( metrics);
+    }
+
+    @After // called after every @Test
+    public void tearDown() {
+        Metrics.set( null);
+        OntologyMonitor.disableVersionedReads( ontology);
+    }
+
+    @Test
+    public void versionTest() throws Exception{
+        assertEquals( OntologyMonitor.NO_VERSION, OntologyMonitor.readVersion( ontology));
+        OntologyMonitor monitor = OntologyMonitor.enableVersionedReads( ontology);
+        long version = OntologyMonitor.readVersion( ontology);
+        assertEquals( monitor.getVersion(), version);
+
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readAxioms();
+        assertEquals( version, monitor.getVersion()); // reading does not change the ontology
+
+        order.addTypeIndividual( "NewOrder");
+        order.writeAxioms();
+        assertTrue( monitor.getVersion() > version);
+        version = monitor.getVersion();
+
+        ontology.synchronizeReasoner(); // also outside OWLOOP
+        assertTrue( monitor.getVersion() > version);
+    }
+
+    @Test
+    public void unchangedReadTest() throws Exception{
+        OntologyMonitor.enableVersionedReads( ontology);
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readAxioms();
+        assertTrue( metrics.getCount( Metrics.Counter.REASONER_QUERIES) > 0);
+
+        metrics.reset();
+        order.readAxioms();
+        assertEquals( 0, metrics.getCount( Metrics.Counter.REASONER_QUERIES));
+
+        // a local change is restored by reading again
+        order.addTypeIndividual( "NewOrder");
+        order.readAxioms();
+        assertEquals( 1, metrics.getCount( Metrics.Counter.REASONER_QUERIES));
+        assertFalse( order.getTypes().contains( ontology.getOWLClass( "NewOrder")));
+
+        // a change in the ontology (also from another descriptor) requires to read again
+        FullIndividualDesc other = new FullIndividualDesc( "order", ontology);
+        other.readAxioms();
+        other.addTypeIndividual( "NewOrder");
+        other.writeAxiomsReasonReadAxioms();
+        metrics.reset();
+        order.readAxioms();
+        assertTrue( metrics.getCount( Metrics.Counter.REASONER_QUERIES) > 0);
+        assertTrue( order.getTypes().contains( ontology.getOWLClass( "NewOrder")));
+
+        // without versioned reads the ontology is always queried
+        OntologyMonitor.disableVersionedReads( ontology);
+        metrics.reset();
+        order.readAxioms();
+        assertTrue( metrics.getCount( Metrics.Counter.REASONER_QUERIES) > 0);
+    }
+}
@@ -0,0 +1,92 @@
+package it.emarolab.owloop.descriptor.construction.descriptorMetrics;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link DescriptorEvents}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class DescriptorEventsTest {
+
+    @Test
+    public void recordingTest() throws Exception {
+        OWLReferences ontology = DrugOntology.load( "eventsOntology");
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+
+        assertFalse( DescriptorEvents.isEnabled( DescriptorEvents.Type.READ));
+        assertNull( DescriptorEvents.begin( DescriptorEvents.Type.READ));
+
+        File file = File.createTempFile( "owloop-events-", ".jfr");
+        file.deleteOnExit();
+        try ( Recording recording = new Recording()) {
+            recording.enable( "it.emarolab.owloop.Query");
+            recording.enable( "it.emarolab.owloop.Read");
+            recording.enable( "it.emarolab.owloop.Write");
+            recording.enable( "it.emarolab.owloop.Reason");
+            recording.start();
+            assertTrue( DescriptorEvents.isEnabled( DescriptorEvents.Type.READ));
+
+            order.readAxioms();
+            order.readAxioms( QueryKind.INDIVIDUAL_TYPE); // a selective reading
+            order.addTypeIndividual( "NewOrder");
+            order.writeAxiomsReasonReadAxioms();
+
+            recording.stop();
+            recording.dump( file.toPath());
+        }
+
+        int queries = 0, reads = 0, typeReads = 0, writes = 0, typeWrites = 0, changes = 0, reasons = 0;
+        List<RecordedEvent> events = RecordingFile.readAllEvents( file.toPath());
+        for ( RecordedEvent e : events) {
+            String name = e.getEventType().getName();
+            if ( name.equals( "it.emarolab.owloop.Query")) {
+                queries++;
+                assertEquals( "order", e.getString( "instance"));
+                assertEquals( ontology.getReferenceName(), e.getString( "ontology"));
+                assertNotNull( e.getString( "kind"));
+            } else if ( name.equals( "it.emarolab.owloop.Read")) {
+                reads++;
+                assertEquals( "FullIndividualDesc", e.getString( "descriptor"));
+                if ( e.getString( "kind").equals( QueryKind.INDIVIDUAL_TYPE.toString()))
+                    typeReads++;
+            } else if ( name.equals( "it.emarolab.owloop.Write")) {
+                writes++;
+                assertEquals( "FullIndividualDesc", e.getString( "descriptor"));
+                changes += e.getInt( "changes");
+                if ( e.getString( "kind").equals( QueryKind.INDIVIDUAL_TYPE.toString())) {
+                    typeWrites++;
+                    assertEquals( 1, e.getInt( "changes"));
+                }
+            } else if ( name.equals( "it.emarolab.owloop.Reason")) {
+                reasons++;
+                assertEquals( "order", e.getString( "instance"));
+            }
+        }
+        assertTrue( queries > 0);
+        // one event for each expression of each reading or writing
+        assertEquals( 3, typeReads);
+        assertEquals( 1, typeWrites);
+        assertEquals( 2 * writes + 1, reads);
+        assertEquals( 1, changes);
+        assertEquals( 1, reasons);
+    }
+}
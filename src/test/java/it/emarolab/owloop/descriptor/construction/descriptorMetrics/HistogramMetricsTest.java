@@ -0,0 +1,83 @@
+package it.emarolab.owloop.descriptor.construction.descriptorMetrics;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Metrics;
+import it.emarolab.owloop.descriptor.construction.descriptorEntitySet.Classes;
+import it.emarolab.owloop.descriptor.construction.descriptorQuery.QueryKind;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link HistogramMetrics}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class HistogramMetricsTest {
+
+    private OWLReferences ontology;
+    private HistogramMetrics metrics;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "metricsOntology");
+        metrics = new HistogramMetrics();
+        Metrics.set( metrics);
+    }
+
+    @After // called after every @Test
+    public void tearDown() {
+        Metrics.set( null);
+    }
+
+    @Test
+    public void histogramTest() {
+        HistogramMetrics.Histogram h = new HistogramMetrics.Histogram();
+        assertEquals( 0, h.getPercentile( 50));
+        for ( long n = 1; n <= 1000; n++)
+            h.record( n);
+        assertEquals( 1000, h.getCount());
+        assertEquals( 500500, h.getTotal());
+        assertEquals( 1, h.getMin());
+        assertEquals( 1000, h.getMax());
+        long p50 = h.getPercentile( 50);
+        assertTrue( p50 >= 500 && p50 < 1024);
+        assertEquals( 1000, h.getPercentile( 100));
+    }
+
+    @Test
+    public void descriptorTest() {
+        FullIndividualDesc order = new FullIndividualDesc( "order", ontology);
+        order.readAxioms();
+        assertEquals( 1, metrics.getHistogram( Metrics.Phase.READ, QueryKind.INDIVIDUAL_TYPE).getCount()); // also standalone
+        assertEquals( 1, metrics.getHistogram( Metrics.Phase.READ, QueryKind.INDIVIDUAL_OBJECT_LINK).getCount());
+        assertNull( metrics.getHistogram( Metrics.Phase.WRITE, QueryKind.INDIVIDUAL_TYPE));
+        assertTrue( metrics.getCount( Metrics.Counter.REASONER_QUERIES, QueryKind.INDIVIDUAL_TYPE) > 0);
+        assertNotNull( metrics.getHistogram( Metrics.Phase.QUERY, QueryKind.INDIVIDUAL_TYPE));
+        assertNotNull( metrics.getHistogram( Metrics.Phase.DIFF, Classes.class));
+
+        order.addTypeIndividual( "NewOrder");
+        order.writeAxiomsReasonReadAxioms();
+        assertEquals( 1, metrics.getCount( Metrics.Counter.ONTOLOGY_CHANGES, QueryKind.INDIVIDUAL_TYPE));
+        assertEquals( 1, metrics.getHistogram( Metrics.Phase.APPLY, QueryKind.INDIVIDUAL_TYPE).getCount());
+        assertEquals( 1, metrics.getHistogram( Metrics.Phase.WRITE, QueryKind.INDIVIDUAL_TYPE).getCount());
+        assertEquals( 2, metrics.getHistogram( Metrics.Phase.READ, QueryKind.INDIVIDUAL_TYPE).getCount());
+        assertEquals( 1, metrics.getCount( Metrics.Counter.REASONER_SYNCHRONISATIONS));
+        assertEquals( 1, metrics.getTotal( Metrics.Phase.REASON).getCount());
+
+        metrics.reset();
+        Metrics.set( null);
+        order.readAxioms();
+        assertEquals( 0, metrics.getCount( Metrics.Counter.REASONER_QUERIES));
+    }
+}
@@ -0,0 +1,140 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for reading the asserted axioms (see {@link DescriptorQuery#readAsserted(java.util.function.Supplier)}).
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class AssertedReadTest {
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "assertedOntology");
+        ontology.addSubClassOf( "Drug", "Aspirin");
+        ontology.addSubClassOf( "Product", "Drug");
+        ontology.addIndividualB2Class( "a1", "Aspirin");
+        ontology.synchronizeReasoner();
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        OntologyMonitor.disableVersionedReads( ontology);
+    }
+
+    @Test
+    public void callTest() throws Exception{
+        // the asserted axioms are read right after a write, without synchronising the reasoner
+        FullIndividualDesc order = new FullIndividualDesc( "order2", ontology);
+        order.addObject( "hasDrug", "a1");
+        order.addTypeIndividual( "Order");
+        order.writeAxioms();
+        FullIndividualDesc written = new FullIndividualDesc( "order2", ontology);
+        written.readAssertedAxioms();
+        assertEquals( ontology.getOWLIndividual( "a1"), written.getIndividualFromObjectProperty( "hasDrug"));
+        assertTrue( written.getTypes().contains( ontology.getOWLClass( "Order")));
+
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        a1.readAssertedAxioms();
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Aspirin")));
+        assertFalse( a1.getTypes().contains( ontology.getOWLClass( "Drug"))); // it is only inferred
+        a1.readAxioms();
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Drug")));
+    }
+
+    @Test
+    public void descriptorTest() throws Exception{
+        OntologyMonitor.enableVersionedReads( ontology);
+        FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+        aspirin.readAxioms();
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Product")));
+
+        // the expressions read by the reasoner are read again, even if the ontology did not change
+        aspirin.setReadingAsserted( true);
+        aspirin.readAxioms();
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Drug")));
+        assertFalse( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Product")));
+        assertTrue( aspirin.getIndividuals().contains( ontology.getOWLIndividual( "a1")));
+
+        aspirin.setReadingAsserted( false);
+        aspirin.readAxioms();
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Product")));
+    }
+
+    @Test
+    public void restrictionTest() throws Exception{
+        FullClassDesc pill = new FullClassDesc( "Pill", ontology);
+        pill.addExactObjectRestriction( "hasDrug", 1, "Drug");
+        pill.writeAxioms();
+        FullObjectPropertyDesc hasDrug = new FullObjectPropertyDesc( "hasDrug", ontology);
+        hasDrug.addDomainClassRestriction( "Order");
+        hasDrug.addRangeClassRestriction( "Drug");
+        hasDrug.writeAxioms();
+        FullDataPropertyDesc hasDose = new FullDataPropertyDesc( "hasDose", ontology);
+        hasDose.addDomainClassRestriction( "Drug");
+        hasDose.addRangeDataRestriction( Integer.class);
+        hasDose.writeAxioms();
+        pill.readAxioms(); // the restrictions as read by aMOR
+        hasDrug.readAxioms();
+        hasDose.readAxioms();
+
+        // the restrictions are read while another thread holds the lock that aMOR uses for its queries
+        CountDownLatch locked = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        Thread holder = new Thread( () -> {
+            OntologyExecutor.getLock( ontology).lock();
+            try {
+                locked.countDown();
+                release.await();
+            } catch ( InterruptedException ignored) {
+            } finally {
+                OntologyExecutor.getLock( ontology).unlock();
+            }
+        });
+        holder.start();
+        locked.await();
+        try {
+            CompletableFuture<Void> read = CompletableFuture.runAsync( () -> {
+                FullClassDesc p = new FullClassDesc( "Pill", ontology);
+                p.readAssertedAxioms();
+                assertEquals( pill.getEquivalentRestrictions(), p.getEquivalentRestrictions());
+                FullObjectPropertyDesc o = new FullObjectPropertyDesc( "hasDrug", ontology);
+                o.readAssertedAxioms();
+                assertEquals( hasDrug.getDomainRestrictions(), o.getDomainRestrictions());
+                assertEquals( hasDrug.getRangeRestrictions(), o.getRangeRestrictions());
+                FullDataPropertyDesc d = new FullDataPropertyDesc( "hasDose", ontology);
+                d.readAssertedAxioms();
+                assertEquals( hasDose.getDomainRestrictions(), d.getDomainRestrictions());
+                assertEquals( hasDose.getRangeRestrictions(), d.getRangeRestrictions());
+            });
+            read.get( 30, TimeUnit.SECONDS);
+        } finally {
+            release.countDown();
+            holder.join();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link MaterialisedIndex}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class MaterialisedIndexTest {
+
+    private OWLReferences ontology;
+    private MaterialisedIndex index;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "materialisedOntology");
+        ontology.addSubClassOf( "Drug", "Aspirin");
+        ontology.addSubClassOf( "Product", "Drug");
+        ontology.addIndividualB2Class( "a1", "Aspirin");
+        ontology.addObjectPropertyB2Individual( "order2", "hasDrug", "a1");
+        ontology.synchronizeReasoner();
+        index = MaterialisedIndex.enable( ontology);
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        MaterialisedIndex.disable( ontology);
+        assertNull( MaterialisedIndex.get( ontology));
+    }
+
+    @Test
+    public void readTest() throws Exception{
+        assertTrue( index.isMaterialised());
+        assertEquals( 1, index.getMaterialisations());
+
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+        a1.readAxioms();
+        aspirin.readAxioms();
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Product"))); // inferred
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Product")));
+        assertTrue( index.getHits() > 0);
+        assertEquals( 0, index.getMisses());
+
+        // the links with a property as argument are also materialised
+        FullIndividualDesc order = new FullIndividualDesc( "order2", ontology);
+        order.readObjectPropertyAxioms( "hasDrug");
+        assertEquals( ontology.getOWLIndividual( "a1"), order.getIndividualFromObjectProperty( "hasDrug"));
+        assertEquals( 0, index.getMisses());
+    }
+
+    @Test
+    public void changeTest() throws Exception{
+        FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+        aspirin.addSuperClass( "Medicine");
+        aspirin.writeAxioms(); // the index is dropped
+        assertFalse( index.isMaterialised());
+
+        index.resetCounters();
+        aspirin.readAxioms();
+        assertEquals( 0, index.getHits());
+        assertTrue( index.getMisses() > 0);
+
+        // the index is materialised again when the reasoner is synchronised
+        ontology.addSubClassOf( "Remedy", "Medicine");
+        ontology.synchronizeReasoner(); // detected at the next query
+        aspirin.readAxioms();
+        assertTrue( index.isMaterialised());
+        assertEquals( 1, index.getMaterialisations());
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Remedy")));
+        assertTrue( index.getHits() > 0);
+    }
+}
@@ -0,0 +1,115 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link ModuleScope}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class ModuleScopeTest {
+
+    private OWLReferences ontology;
+    private ModuleScope scope;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "moduleOntology");
+        ontology.addSubClassOf( "Drug", "Aspirin");
+        ontology.addSubClassOf( "Product", "Drug");
+        for ( int i = 0; i < 20; i++) // axioms unrelated to drugs
+            ontology.addSubClassOf( "Place" + i, "Room" + i);
+        ontology.addIndividualB2Class( "a1", "Aspirin");
+        ontology.synchronizeReasoner();
+        scope = ModuleScope.enable( ontology);
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        ModuleScope.disable( ontology);
+        assertNull( ModuleScope.get( ontology));
+    }
+
+    @Test
+    public void moduleTest() throws Exception{
+        FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+        FullIndividualDesc a1 = new FullIndividualDesc( "a1", ontology);
+        try ( ModuleScope.Session session = scope.open( Arrays.asList( aspirin, a1))) {
+            assertTrue( session.getModule().getAxiomCount() < ontology.getOWLOntology().getAxiomCount());
+            assertFalse( session.getModule().getOntologyReference().getOWLOntology().containsClassInSignature(
+                    ontology.getOWLClass( "Room0").getIRI()));
+            aspirin.readAxioms();
+            a1.readAxioms();
+        }
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Drug")));
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Product")));
+        assertTrue( a1.getTypes().contains( ontology.getOWLClass( "Product")));
+        assertEquals( 1, scope.getExtractions());
+
+        // the module of the same signature is cached
+        scope.readAxioms( Arrays.asList( a1, aspirin));
+        assertEquals( 1, scope.getExtractions());
+        assertEquals( 1, scope.getHits());
+
+        // the sub classes are not answered from the module
+        FullClassDesc drug = new FullClassDesc( "Drug", ontology);
+        scope.readAxioms( Collections.singleton( drug));
+        assertTrue( drug.getSubClasses().contains( ontology.getOWLClass( "Aspirin")));
+    }
+
+    @Test
+    public void changeTest() throws Exception{
+        FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+        scope.readAxioms( Collections.singleton( aspirin));
+        assertEquals( 1, scope.size());
+
+        // changes dispose the modules, and the new module is reasoned when it is extracted
+        ontology.addSubClassOf( "Medicine", "Aspirin"); // the reasoner of the ontology is not synchronised
+        ontology.addSubClassOf( "Remedy", "Medicine");
+        assertEquals( 0, scope.size());
+        scope.readAxioms( Collections.singleton( aspirin));
+        assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Remedy")));
+        assertEquals( 2, scope.getExtractions());
+
+        // out of a session, the queries are answered by the ontology
+        aspirin.readAxioms();
+        assertFalse( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Remedy"))); // it is not inferred yet
+    }
+
+    @Test
+    public void cacheTest() throws Exception{
+        QueryCache.enable( ontology);
+        try {
+            ontology.addSubClassOf( "Medicine", "Aspirin"); // the reasoner of the ontology is not synchronised
+            ontology.addSubClassOf( "Remedy", "Medicine");
+            FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+            aspirin.readAxioms();
+            assertFalse( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Remedy")));
+
+            // the answers of the ontology and of the module do not share the cache
+            scope.readAxioms( Collections.singleton( aspirin));
+            assertTrue( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Remedy")));
+            aspirin.readAxioms();
+            assertFalse( aspirin.getSuperClasses().contains( ontology.getOWLClass( "Remedy")));
+        } finally {
+            QueryCache.disable( ontology);
+        }
+    }
+}
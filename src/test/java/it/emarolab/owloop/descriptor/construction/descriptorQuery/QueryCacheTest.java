@@ -0,0 +1,80 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link QueryCache}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class QueryCacheTest {
+
+    private OWLReferences ontology;
+    private QueryCache cache;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "cacheOntology");
+        cache = QueryCache.enable( ontology);
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        QueryCache.disable( ontology);
+        assertNull( QueryCache.get( ontology));
+    }
+
+    @Test
+    public void hitAndInvalidationTest() throws Exception{
+        FullIndividualDesc d = new FullIndividualDesc( "Robot-1", ontology);
+        d.addTypeIndividual( "Robot");
+        d.writeAxioms();
+        d.reason();
+
+        d.readAxioms();
+        long misses = cache.getMisses();
+        assertTrue( misses > 0);
+        d.readAxioms();
+        assertEquals( misses, cache.getMisses());
+        assertTrue( cache.getHits() > 0);
+        assertTrue( d.getTypes().contains( ontology.getOWLClass( "Robot")));
+
+        // a change involving the individual invalidates its results
+        FullIndividualDesc other = new FullIndividualDesc( "Robot-2", ontology);
+        other.readAxioms();
+        int size = cache.size();
+        d.addTypeIndividual( "Medicine");
+        d.writeAxioms();
+        assertTrue( cache.size() < size);
+        assertTrue( cache.size() > 0); // the results of the other individual are still memoised
+
+        // a synchronisation (also outside OWLOOP) invalidates all the results
+        ontology.synchronizeReasoner();
+        misses = cache.getMisses();
+        d.readAxioms();
+        assertTrue( cache.getMisses() > misses);
+        assertTrue( d.getTypes().contains( ontology.getOWLClass( "Medicine")));
+    }
+
+    @Test
+    public void evictionTest() throws Exception{
+        cache.setMaxSize( 5);
+        for ( int i = 0; i < 3; i++)
+            new FullIndividualDesc( "Robot-" + i, ontology).readAxioms();
+        assertEquals( 5, cache.size());
+        assertTrue( cache.getEvictions() > 0);
+    }
+}
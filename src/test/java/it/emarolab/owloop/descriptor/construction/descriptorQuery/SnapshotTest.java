@@ -0,0 +1,125 @@
+package it.emarolab.owloop.descriptor.construction.descriptorQuery;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import it.emarolab.owloop.descriptor.utility.dataPropertyDescriptor.FullDataPropertyDesc;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.descriptor.utility.objectPropertyDescriptor.FullObjectPropertyDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the snapshots of the {@link MaterialisedIndex}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class SnapshotTest {
+
+    private File snapshot;
+    private OWLReferences saved, loaded;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        snapshot = File.createTempFile( "owloop", ".snapshot.gz");
+        snapshot.deleteOnExit();
+        saved = load( "savedOntology");
+        saved.synchronizeReasoner();
+        assertTrue( MaterialisedIndex.enable( saved).save( snapshot));
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        MaterialisedIndex.disable( saved);
+        MaterialisedIndex.disable( loaded);
+    }
+
+    @Test
+    public void restoreTest() throws Exception{
+        loaded = load( "loadedOntology"); // the reasoner is not synchronised
+        MaterialisedIndex index;
+        ReentrantLock lock = OntologyExecutor.getLock( loaded);
+        lock.lock(); // the background reclassification waits
+        try {
+            index = MaterialisedIndex.enable( loaded, snapshot);
+            assertTrue( index.isRestored());
+            assertEquals( 0, index.getMaterialisations());
+
+            // the full descriptors are read from the snapshot only
+            FullClassDesc aspirin = new FullClassDesc( "Aspirin", loaded);
+            aspirin.readAxioms();
+            assertTrue( aspirin.getSuperClasses().contains( loaded.getOWLClass( "Product"))); // inferred
+            assertTrue( aspirin.getIndividuals().contains( loaded.getOWLIndividual( "a1")));
+            assertTrue( aspirin.getDisjointClasses().contains( loaded.getOWLClass( "Order")));
+            FullClassDesc pill = new FullClassDesc( "Pill", loaded);
+            pill.readAxioms();
+            FullClassDesc savedPill = new FullClassDesc( "Pill", saved);
+            savedPill.readAxioms();
+            assertFalse( pill.getEquivalentRestrictions().isEmpty());
+            assertEquals( savedPill.getEquivalentRestrictions(), pill.getEquivalentRestrictions());
+            FullIndividualDesc a1 = new FullIndividualDesc( "a1", loaded);
+            a1.readAxioms();
+            assertTrue( a1.getTypes().contains( loaded.getOWLClass( "Product")));
+            assertEquals( loaded.getOWLIndividual( "s1"), a1.getIndividualFromObjectProperty( "hasSupplier"));
+            assertEquals( loaded.getOWLLiteral( "5 mg\tper day"), a1.getLiteralFromDataProperty( "hasDose"));
+            FullObjectPropertyDesc hasSupplier = new FullObjectPropertyDesc( "hasSupplier", loaded);
+            hasSupplier.readAxioms();
+            assertFalse( hasSupplier.getDomainRestrictions().isEmpty());
+            FullDataPropertyDesc hasDose = new FullDataPropertyDesc( "hasDose", loaded);
+            hasDose.readAxioms();
+            assertEquals( 0, index.getMisses());
+            assertTrue( index.isRestored());
+        } finally {
+            lock.unlock();
+        }
+
+        // the snapshot is replaced when the ontology has been reclassified
+        assertSame( loaded, index.getReclassification().get( 1, TimeUnit.MINUTES));
+        assertTrue( index.isMaterialised());
+        assertFalse( index.isRestored());
+        assertEquals( 1, index.getMaterialisations());
+    }
+
+    @Test
+    public void checksumTest() throws Exception{
+        loaded = load( "changedOntology");
+        loaded.addSubClassOf( "Remedy", "Aspirin");
+        assertNotEquals( MaterialisedIndex.checksum( saved), MaterialisedIndex.checksum( loaded));
+        MaterialisedIndex index = MaterialisedIndex.enable( loaded, snapshot);
+        assertFalse( index.isRestored());
+    }
+
+    private OWLReferences load(String name){
+        OWLReferences ontology = DrugOntology.load( name);
+        // the descriptors are written first, since they synchronise all their (empty) expressions
+        FullClassDesc aspirin = new FullClassDesc( "Aspirin", ontology);
+        aspirin.addDisjointClass( "Order");
+        aspirin.writeAxioms();
+        FullClassDesc pill = new FullClassDesc( "Pill", ontology);
+        pill.addExactObjectRestriction( "hasDrug", 1, "Drug");
+        pill.writeAxioms();
+        FullObjectPropertyDesc hasSupplier = new FullObjectPropertyDesc( "hasSupplier", ontology);
+        hasSupplier.addDomainClassRestriction( "Drug");
+        hasSupplier.writeAxioms();
+        ontology.addSubClassOf( "Drug", "Aspirin");
+        ontology.addSubClassOf( "Product", "Drug");
+        ontology.addIndividualB2Class( "a1", "Aspirin");
+        ontology.addObjectPropertyB2Individual( "a1", "hasSupplier", "s1");
+        ontology.addDataPropertyB2Individual( "a1", "hasDose", "5 mg\tper day"); // the value is encoded in the snapshot
+        return ontology;
+    }
+}
@@ -0,0 +1,111 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link DescriptorBatch}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class DescriptorBatchTest {
+
+    private static final int SIZE = 20;
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "batchOntology");
+    }
+
+    @Test
+    public void writeReasonReadTest() throws Exception{
+        List<FullIndividualDesc> individuals = new ArrayList<>();
+        DescriptorBatch batch = new DescriptorBatch( ontology);
+        for ( int i = 0; i < SIZE; i++){
+            FullIndividualDesc d = new FullIndividualDesc( "Robot-" + i, ontology);
+            d.addTypeIndividual( "Robot");
+            d.addObject( "isNextTo", "Robot-" + ( i + 1) % SIZE);
+            individuals.add( d);
+            assertTrue( batch.add( d));
+        }
+        assertFalse( batch.add( individuals.get( 0)));
+
+        List<Axiom.MappingIntent> intents = batch.writeAxiomsReasonReadAxioms();
+        assertFalse( intents.isEmpty());
+        assertFalse( DescriptorBatch.isBuffering( ontology)); // restored
+
+        for ( int i = 0; i < SIZE; i++){
+            FullIndividualDesc d = new FullIndividualDesc( "Robot-" + i, ontology);
+            d.readAxioms();
+            assertEquals( individuals.get( i).getTypes(), d.getTypes());
+            assertEquals( individuals.get( i).getObjectProperties(), d.getObjectProperties());
+            assertEquals( "Robot-" + ( i + 1) % SIZE, ontology.getOWLObjectName( d.getIndividualFromObjectProperty( "isNextTo")));
+        }
+    }
+
+    @Test
+    public void bufferingTest() throws Exception{
+        ontology.setOWLManipulatorBuffering( true);
+        FullIndividualDesc d = new FullIndividualDesc( "Robot", ontology);
+        d.addTypeIndividual( "Robot");
+        new DescriptorBatch( ontology, java.util.Collections.singleton( d)).writeAxioms();
+        assertTrue( DescriptorBatch.isBuffering( ontology)); // restored
+        ontology.synchronizeReasoner();
+        d.readAxioms();
+        assertEquals( 1, d.getTypes().size());
+    }
+
+    @Test
+    public void ontologyTest() throws Exception{
+        OWLReferences other = DrugOntology.load( "otherBatchOntology");
+        DescriptorBatch batch = new DescriptorBatch( ontology);
+        try {
+            batch.add( new FullIndividualDesc( "Robot", other));
+            fail( "a descriptor on another ontology should not be added");
+        } catch ( IllegalArgumentException e) {
+            assertEquals( 0, batch.size());
+        }
+    }
+
+    @Test
+    public void lockTest() throws Exception{
+        // the batch is applied holding the same lock of the aMOR queries and of the OntologyExecutor
+        FullIndividualDesc d = new FullIndividualDesc( "Robot", ontology);
+        d.addTypeIndividual( "Robot");
+        DescriptorBatch batch = new DescriptorBatch( ontology, java.util.Collections.singleton( d));
+        ReentrantLock lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+        CompletableFuture<List<Axiom.MappingIntent>> writing;
+        try {
+            writing = CompletableFuture.supplyAsync( batch::writeAxioms);
+            Thread.sleep( 200);
+            assertFalse( writing.isDone());
+        } finally {
+            lock.unlock();
+        }
+        assertFalse( writing.get( 30, TimeUnit.SECONDS).isEmpty());
+        assertTrue( ontology.getOWLOntology().containsAxiom( ontology.getOWLFactory().getOWLClassAssertionAxiom(
+                ontology.getOWLClass( "Robot"), ontology.getOWLIndividual( "Robot"))));
+    }
+}
@@ -0,0 +1,101 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link OntologyActor}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class OntologyActorTest {
+
+    private static final int DESCRIPTORS = 5;
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "actorOntology");
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        OntologyActor.stop( ontology);
+        assertNull( OntologyActor.get( ontology));
+    }
+
+    @Test
+    public void groupingTest() throws Exception{
+        OntologyActor actor = OntologyActor.start( ontology);
+        assertSame( actor, OntologyActor.start( ontology));
+
+        // the actor waits while this thread holds the lock, so the commands queue up
+        List<CompletableFuture<List<Axiom.MappingIntent>>> written = new ArrayList<>();
+        List<CompletableFuture<List<Axiom.MappingIntent>>> read = new ArrayList<>();
+        ReentrantLock lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+        try {
+            CompletableFuture<Void> reasoned = actor.reason(); // taken by the actor, it waits for the lock
+            for ( int i = 0; i < DESCRIPTORS; i++) {
+                FullIndividualDesc d = new FullIndividualDesc( "Robot-" + i, ontology);
+                d.addTypeIndividual( "Robot");
+                written.add( actor.write( d));
+            }
+            actor.reason();
+            actor.reason();
+            for ( int i = 0; i < DESCRIPTORS; i++)
+                read.add( actor.read( new FullIndividualDesc( "Robot-" + i, ontology)));
+            assertFalse( reasoned.isDone());
+            assertTrue( actor.getMaxQueueDepth() >= 2 * DESCRIPTORS + 2);
+        } finally {
+            lock.unlock();
+        }
+        for ( CompletableFuture<List<Axiom.MappingIntent>> f : read)
+            assertFalse( f.get( 1, TimeUnit.MINUTES).isEmpty());
+        for ( CompletableFuture<List<Axiom.MappingIntent>> f : written)
+            assertFalse( f.get().isEmpty());
+
+        // the writings are applied at once, the consecutive synchronisations are coalesced
+        assertEquals( DESCRIPTORS, actor.getWaitTime( OntologyActor.Command.WRITE).getCount());
+        assertEquals( 1, actor.getServiceTime( OntologyActor.Command.WRITE).getCount());
+        assertEquals( 3, actor.getWaitTime( OntologyActor.Command.REASON).getCount());
+        assertEquals( 2, actor.getServiceTime( OntologyActor.Command.REASON).getCount());
+        assertEquals( DESCRIPTORS, actor.getWaitTime( OntologyActor.Command.READ).getCount());
+        assertEquals( 1, actor.getServiceTime( OntologyActor.Command.READ).getCount());
+        assertEquals( 0, actor.getQueueDepth());
+    }
+
+    @Test
+    public void writeReasonReadTest() throws Exception{
+        OntologyActor actor = OntologyActor.start( ontology);
+        FullIndividualDesc d = new FullIndividualDesc( "Robot", ontology);
+        d.addTypeIndividual( "Robot");
+        assertFalse( actor.writeReasonRead( d).get( 1, TimeUnit.MINUTES).isEmpty());
+        assertTrue( d.getTypes().contains( ontology.getOWLClass( "Robot")));
+
+        // a stopped actor does not accept new commands
+        OntologyActor.stop( ontology);
+        assertTrue( actor.read( d).handle( (r, x) -> x instanceof IllegalStateException).get());
+    }
+}
@@ -0,0 +1,106 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link ParallelReader}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class ParallelReaderTest {
+
+    private static final int SIZE = 40;
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "parallelOntology");
+        ontology.addSubClassOf( "Drug", "Aspirin");
+        for ( int i = 0; i < SIZE; i++) {
+            ontology.addIndividualB2Class( "Robot-" + i, i % 2 == 0 ? "Robot" : "Aspirin");
+            ontology.addObjectPropertyB2Individual( "Robot-" + i, "isNextTo", "Robot-" + ( i + 1) % SIZE);
+        }
+        ontology.synchronizeReasoner();
+    }
+
+    @Test
+    public void noneTest() throws Exception{
+        parallelTest( ParallelReader.Locking.NONE);
+    }
+
+    @Test
+    public void ontologyTest() throws Exception{
+        parallelTest( ParallelReader.Locking.ONTOLOGY);
+    }
+
+    @Test
+    public void asyncTest() throws Exception{
+        parallelTest( ParallelReader.Locking.ONTOLOGY, true);
+    }
+
+    private void parallelTest(ParallelReader.Locking locking) throws Exception{
+        parallelTest( locking, false);
+    }
+    // the descriptors read in parallel are equal to the ones read sequentially
+    private void parallelTest(ParallelReader.Locking locking, boolean async) throws Exception{
+        List<FullIndividualDesc> sequential = new ArrayList<>();
+        List<FullIndividualDesc> parallel = new ArrayList<>();
+        List<Axiom.MappingIntent> sequentialIntents = new ArrayList<>();
+        for ( int i = 0; i < SIZE; i++){
+            FullIndividualDesc d = new FullIndividualDesc( "Robot-" + i, ontology);
+            sequentialIntents.addAll( d.readAxioms());
+            sequential.add( d);
+            parallel.add( new FullIndividualDesc( "Robot-" + i, ontology));
+        }
+
+        ParallelReader reader = new ParallelReader( 4, locking);
+        try {
+            List<Axiom.MappingIntent> intents;
+            if ( async) { // the calling thread does not wait, even if the readings cannot start
+                ReentrantLock lock = OntologyExecutor.getLock( ontology);
+                CompletableFuture<List<Axiom.MappingIntent>> reading;
+                lock.lock();
+                try {
+                    reading = reader.readAxiomsAsync( parallel);
+                    Thread.sleep( 200);
+                    assertFalse( reading.isDone());
+                } finally {
+                    lock.unlock();
+                }
+                intents = reading.get( 30, TimeUnit.SECONDS);
+            } else intents = reader.readAxioms( parallel);
+            assertEquals( sequentialIntents.size(), intents.size());
+        } finally {
+            reader.shutdown();
+        }
+        for ( int i = 0; i < SIZE; i++){
+            assertEquals( sequential.get( i).getTypes(), parallel.get( i).getTypes());
+            assertEquals( sequential.get( i).getObjectProperties(), parallel.get( i).getObjectProperties());
+            assertEquals( sequential.get( i).getDataProperties(), parallel.get( i).getDataProperties());
+            assertEquals( sequential.get( i).getDisjointIndividuals(), parallel.get( i).getDisjointIndividuals());
+            assertEquals( sequential.get( i).getEquivalentIndividuals(), parallel.get( i).getEquivalentIndividuals());
+        }
+        assertTrue( parallel.get( 1).getTypes().contains( ontology.getOWLClass( "Drug")));
+    }
+}
@@ -0,0 +1,152 @@
+package it.emarolab.owloop.descriptor.construction.descriptorSynchronisation;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.OntologyExecutor;
+import it.emarolab.owloop.descriptor.construction.descriptorGround.OntologyMonitor;
+import it.emarolab.owloop.descriptor.utility.individualDescriptor.FullIndividualDesc;
+import it.emarolab.owloop.testOntology.DrugOntology;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.Assert.*;
+
+/**
+ * A Unit Test script for the {@link ReasoningScheduler}.
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        ${FILE} <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public class ReasoningSchedulerTest {
+
+    private static final int THREADS = 4;
+
+    private OWLReferences ontology;
+
+    @Before // called a before every @Test
+    public void setUp() throws Exception {
+        ontology = DrugOntology.load( "schedulerOntology");
+    }
+
+    @After // called after every @Test
+    public void tearDown() throws Exception {
+        ReasoningScheduler.disable( ontology);
+        assertNull( ReasoningScheduler.get( ontology));
+    }
+
+    @Test
+    public void coalescingTest() throws Exception{
+        ReasoningScheduler scheduler = ReasoningScheduler.enable( ontology, 500, 1000);
+        CountDownLatch written = new CountDownLatch( THREADS);
+        List<Thread> threads = new ArrayList<>();
+        List<FullIndividualDesc> individuals = new ArrayList<>();
+        for ( int i = 0; i < THREADS; i++) {
+            FullIndividualDesc d = new FullIndividualDesc( "Robot-" + i, ontology);
+            d.addTypeIndividual( "Robot");
+            individuals.add( d);
+            threads.add( new Thread( () -> {
+                d.writeAxioms();
+                written.countDown();
+                try {
+                    written.await();
+                } catch ( InterruptedException e) {
+                    return;
+                }
+                d.reason(); // waits for the synchronisation of the scheduler
+                d.readAxioms();
+            }));
+        }
+        for ( Thread t : threads)
+            t.start();
+        for ( Thread t : threads)
+            t.join();
+
+        assertEquals( THREADS, scheduler.getRequests());
+        assertEquals( 1, scheduler.getSynchronisations());
+        for ( FullIndividualDesc d : individuals)
+            assertTrue( d.getTypes().contains( ontology.getOWLClass( "Robot")));
+    }
+
+    @Test
+    public void pendingChangesTest() throws Exception{
+        ReasoningScheduler scheduler = ReasoningScheduler.enable( ontology, TimeUnit.MINUTES.toMillis( 10), 1);
+        CompletableFuture<Void> future = scheduler.request();
+        assertFalse( future.isDone()); // waiting for changes or for the latency
+
+        FullIndividualDesc d = new FullIndividualDesc( "Robot", ontology);
+        d.addTypeIndividual( "Robot");
+        d.writeAxioms(); // it closes the window
+        future.get( 1, TimeUnit.MINUTES);
+        assertEquals( 1, scheduler.getSynchronisations());
+
+        // a new request waits for a new synchronisation
+        future = scheduler.request();
+        assertFalse( future.isDone());
+        ReasoningScheduler.disable( ontology); // the pending requests are satisfied
+        assertTrue( future.isDone());
+        assertEquals( 2, scheduler.getSynchronisations());
+    }
+
+    @Test
+    public void lockTest() throws Exception{
+        // the reasoner is synchronised on the thread that holds the lock of the ontology, instead of waiting for the scheduler
+        ReasoningScheduler scheduler = ReasoningScheduler.enable( ontology, TimeUnit.MINUTES.toMillis( 10), 1000);
+        ReentrantLock lock = OntologyExecutor.getLock( ontology);
+        lock.lock();
+        try {
+            scheduler.reason();
+        } finally {
+            lock.unlock();
+        }
+        assertEquals( 1, scheduler.getSynchronisations());
+    }
+
+    @Test
+    public void interruptTest() throws Exception{
+        ReasoningScheduler scheduler = ReasoningScheduler.enable( ontology, TimeUnit.MINUTES.toMillis( 10), 1000);
+        Thread.currentThread().interrupt();
+        try {
+            scheduler.reason();
+            fail( "the thread should be interrupted");
+        } catch ( IllegalStateException e) {
+            assertTrue( Thread.interrupted()); // restored, and cleared for the other tests
+        }
+        assertEquals( 0, scheduler.getSynchronisations());
+    }
+
+    @Test
+    public void failureTest() throws Exception{
+        ReasoningScheduler scheduler = ReasoningScheduler.enable( ontology, 10, 1000);
+        OntologyMonitor.Listener failing = new OntologyMonitor.Listener() {
+            @Override
+            public void changed(List<? extends OWLOntologyChange> changes) {
+            }
+            @Override
+            public void reasoned() {
+                throw new UnsupportedOperationException( "reasoner failure");
+            }
+        };
+        OntologyMonitor.of( ontology).addListener( failing);
+        try {
+            scheduler.reason();
+            fail( "the failure should be reported");
+        } catch ( IllegalStateException e) {
+            assertTrue( e.getCause() instanceof UnsupportedOperationException);
+        } finally {
+            OntologyMonitor.of( ontology).removeListener( failing);
+        }
+    }
+}
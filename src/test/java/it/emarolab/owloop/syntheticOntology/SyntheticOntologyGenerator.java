@@ -0,0 +1,257 @@
+package it.emarolab.owloop.syntheticOntology;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.*;
+
+import java.io.File;
+import java.util.*;
+
+/**
+ * It generates synthetic ontologies of parametrised size for scale tests and benchmarks.
+ * <p>
+ *     The generated ontology contains:
+ *     <ul>
+ *     <li>{@link #getClasses()} classes {@code Class-i}, organised in a hierarchy of {@link #getDepth()} levels
+ *     below the class {@code Entity} (each class of a level is a sub class of a random class of the previous level),</li>
+ *     <li>{@link #getIndividuals()} individuals {@code Individual-i}, each belonging to a random class,</li>
+ *     <li>{@link #getObjectProperties()} object properties {@code objectProperty-i}, and
+ *     {@link #getObjectAssertions()} assertions of a random object property to a random individual for each individual,</li>
+ *     <li>{@link #getDataProperties()} data properties {@code dataProperty-i}, and
+ *     {@link #getDataAssertions()} assertions of a random data property with a random integer for each individual,</li>
+ *     <li>{@link #getRestrictions()} axioms stating that a random class is a sub class of the restriction
+ *     (some) random object property to a random class.</li>
+ *     </ul>
+ *     The ontology is built with the OWL API and it is saved in a file. Since all the random choices are based on
+ *     {@link #getSeed()}, the same parameters always generate the same ontology.
+ * </p>
+ *
+ * <p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:         it.emarolab.owloop.syntheticOntology.SyntheticOntologyGenerator <br>
+ * <b>Licence</b>:      GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Authors</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it), Syed Yusha Kareem (kareem.syed.yusha@dibris.unige.it) <br>
+ * <b>affiliation</b>:  EMAROLab, DIBRIS, University of Genoa. <br>
+ * <b>date</b>:         01/05/19 <br>
+ * </small></div>
+ */
+public class SyntheticOntologyGenerator {
+
+    public static final String IRI_PATH = "http://www.emarolab.it/owloop/synthetic";
+    public static final String ROOT_CLASS = "Entity";
+
+    private long seed;
+    private int classes = 10;
+    private int depth = 1;
+    private int individuals = 100;
+    private int objectProperties = 1;
+    private int objectAssertions = 1;
+    private int dataProperties = 1;
+    private int dataAssertions = 1;
+    private int restrictions = 0;
+
+    /**
+     * Initialises the generator with a seed and the default parameters (i.e., 10 classes in 1 level,
+     * 100 individuals, 1 object and 1 data property, 1 object and 1 data assertion per individual, no restrictions).
+     * @param seed the seed of the random choices.
+     */
+    public SyntheticOntologyGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * @param i the index of a class.
+     * @return the name of the class with the given index.
+     */
+    public static String className(int i){
+        return "Class-" + i;
+    }
+    /**
+     * @param i the index of an individual.
+     * @return the name of the individual with the given index.
+     */
+    public static String individualName(int i){
+        return "Individual-" + i;
+    }
+    /**
+     * @param i the index of an object property.
+     * @return the name of the object property with the given index.
+     */
+    public static String objectPropertyName(int i){
+        return "objectProperty-" + i;
+    }
+    /**
+     * @param i the index of a data property.
+     * @return the name of the data property with the given index.
+     */
+    public static String dataPropertyName(int i){
+        return "dataProperty-" + i;
+    }
+
+    /**
+     * Generates the ontology and saves it in a file.
+     * @param file the file to create (or overwrite).
+     * @throws OWLException if the ontology cannot be created or saved.
+     */
+    public void generate(File file) throws OWLException {
+        OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+        OWLOntology ontology = manager.createOntology( IRI.create( IRI_PATH));
+        manager.addAxioms( ontology, generateAxioms( manager.getOWLDataFactory()).stream());
+        manager.saveOntology( ontology, IRI.create( file.toURI()));
+    }
+
+    /**
+     * Generates the ontology in a temporary file (deleted on exit), loads it with the Pellet reasoner and synchronises it.
+     * @param referenceName the name of the new {@link OWLReferences}.
+     * @return the loaded ontology.
+     * @throws Exception if the ontology cannot be created or loaded.
+     */
+    public OWLReferences load(String referenceName) throws Exception {
+        File file = File.createTempFile( "owloop-synthetic-", ".owl");
+        file.deleteOnExit();
+        generate( file);
+        OWLReferences ontology = Axiom.Descriptor.OntologyReference.newOWLReferenceFromFileWithPellet(
+                referenceName, file.getAbsolutePath(), IRI_PATH, true);
+        ontology.synchronizeReasoner();
+        return ontology;
+    }
+
+    /**
+     * Generates all the axioms of the ontology.
+     * @param factory the factory used to create the axioms.
+     * @return the axioms of the ontology, in generation order.
+     */
+    public Set<OWLAxiom> generateAxioms(OWLDataFactory factory){
+        Random random = new Random( seed);
+        Set<OWLAxiom> axioms = new LinkedHashSet<>();
+
+        // the class hierarchy: the classes are equally distributed on the levels
+        OWLClass root = factory.getOWLClass( iri( ROOT_CLASS));
+        axioms.add( factory.getOWLDeclarationAxiom( root));
+        OWLClass[] allClasses = new OWLClass[ classes];
+        int levels = Math.max( 1, Math.min( depth, classes));
+        int previousStart = -1, previousEnd = -1;
+        for ( int l = 0; l < levels; l++) {
+            int start = l * classes / levels, end = ( l + 1) * classes / levels;
+            for ( int c = start; c < end; c++) {
+                allClasses[ c] = factory.getOWLClass( iri( className( c)));
+                OWLClass parent = root;
+                if ( previousStart >= 0)
+                    parent = allClasses[ previousStart + random.nextInt( previousEnd - previousStart)];
+                axioms.add( factory.getOWLSubClassOfAxiom( allClasses[ c], parent));
+            }
+            previousStart = start;
+            previousEnd = end;
+        }
+
+        OWLObjectProperty[] allObjectProperties = new OWLObjectProperty[ objectProperties];
+        for ( int p = 0; p < objectProperties; p++) {
+            allObjectProperties[ p] = factory.getOWLObjectProperty( iri( objectPropertyName( p)));
+            axioms.add( factory.getOWLDeclarationAxiom( allObjectProperties[ p]));
+        }
+        OWLDataProperty[] allDataProperties = new OWLDataProperty[ dataProperties];
+        for ( int p = 0; p < dataProperties; p++) {
+            allDataProperties[ p] = factory.getOWLDataProperty( iri( dataPropertyName( p)));
+            axioms.add( factory.getOWLDeclarationAxiom( allDataProperties[ p]));
+        }
+
+        // the individuals and their assertions
+        OWLNamedIndividual[] allIndividuals = new OWLNamedIndividual[ individuals];
+        for ( int i = 0; i < individuals; i++)
+            allIndividuals[ i] = factory.getOWLNamedIndividual( iri( individualName( i)));
+        for ( int i = 0; i < individuals; i++) {
+            OWLClass type = classes > 0 ? allClasses[ random.nextInt( classes)] : root;
+            axioms.add( factory.getOWLClassAssertionAxiom( type, allIndividuals[ i]));
+            for ( int a = 0; a < objectAssertions && objectProperties > 0; a++)
+                axioms.add( factory.getOWLObjectPropertyAssertionAxiom( allObjectProperties[ random.nextInt( objectProperties)],
+                        allIndividuals[ i], allIndividuals[ random.nextInt( individuals)]));
+            for ( int a = 0; a < dataAssertions && dataProperties > 0; a++)
+                axioms.add( factory.getOWLDataPropertyAssertionAxiom( allDataProperties[ random.nextInt( dataProperties)],
+                        allIndividuals[ i], random.nextInt( individuals)));
+        }
+
+        // the restrictions
+        for ( int r = 0; r < restrictions && classes > 0 && objectProperties > 0; r++) {
+            OWLClass restricted = allClasses[ random.nextInt( classes)];
+            OWLClassExpression restriction = factory.getOWLObjectSomeValuesFrom(
+                    allObjectProperties[ random.nextInt( objectProperties)], allClasses[ random.nextInt( classes)]);
+            axioms.add( factory.getOWLSubClassOfAxiom( restricted, restriction));
+        }
+        return axioms;
+    }
+
+    private static IRI iri(String name){
+        return IRI.create( IRI_PATH + "#" + name);
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getClasses() {
+        return classes;
+    }
+    public void setClasses(int classes) {
+        this.classes = classes;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+    public void setDepth(int depth) {
+        this.depth = depth;
+    }
+
+    public int getIndividuals() {
+        return individuals;
+    }
+    public void setIndividuals(int individuals) {
+        this.individuals = individuals;
+    }
+
+    public int getObjectProperties() {
+        return objectProperties;
+    }
+    public void setObjectProperties(int objectProperties) {
+        this.objectProperties = objectProperties;
+    }
+
+    public int getObjectAssertions() {
+        return objectAssertions;
+    }
+    public void setObjectAssertions(int objectAssertions) {
+        this.objectAssertions = objectAssertions;
+    }
+
+    public int getDataProperties() {
+        return dataProperties;
+    }
+    public void setDataProperties(int dataProperties) {
+        this.dataProperties = dataProperties;
+    }
+
+    public int getDataAssertions() {
+        return dataAssertions;
+    }
+    public void setDataAssertions(int dataAssertions) {
+        this.dataAssertions = dataAssertions;
+    }
+
+    public int getRestrictions() {
+        return restrictions;
+    }
+    public void setRestrictions(int restrictions) {
+        this.restrictions = restrictions;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{seed=" + seed + ", classes=" + classes + ", depth=" + depth
+                + ", individuals=" + individuals + ", objectProperties=" + objectProperties + ", objectAssertions=" + objectAssertions
+                + ", dataProperties=" + dataProperties + ", dataAssertions=" + dataAssertions + ", restrictions=" + restrictions + "}";
+    }
+}
@@ -0,0 +1,61 @@
+package it.emarolab.owloop.syntheticOntology;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.descriptor.utility.classDescriptor.FullClassDesc;
+import org.junit.Test;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.*;
+
+public class SyntheticOntologyGeneratorTest {
+
+    private static SyntheticOntologyGenerator generator(long seed){
+        SyntheticOntologyGenerator generator = new SyntheticOntologyGenerator( seed);
+        generator.setClasses( 20);
+        generator.setDepth( 3);
+        generator.setIndividuals( 50);
+        generator.setObjectProperties( 3);
+        generator.setObjectAssertions( 2);
+        generator.setDataProperties( 2);
+        generator.setDataAssertions( 2);
+        generator.setRestrictions( 5);
+        return generator;
+    }
+
+    @Test
+    public void deterministicTest() {
+        OWLDataFactory factory = OWLManager.getOWLDataFactory();
+        assertEquals( new ArrayList<>( generator( 7).generateAxioms( factory)),
+                new ArrayList<>( generator( 7).generateAxioms( factory)));
+        assertNotEquals( generator( 7).generateAxioms( factory), generator( 8).generateAxioms( factory));
+    }
+
+    @Test
+    public void sizeTest() {
+        int classAssertions = 0, subClasses = 0, restrictions = 0;
+        for ( OWLAxiom a : generator( 7).generateAxioms( OWLManager.getOWLDataFactory())) {
+            if ( a instanceof OWLClassAssertionAxiom)
+                classAssertions++;
+            if ( a instanceof OWLSubClassOfAxiom) {
+                if ( ((OWLSubClassOfAxiom) a).getSuperClass().isAnonymous())
+                    restrictions++;
+                else subClasses++;
+            }
+        }
+        assertEquals( 50, classAssertions);
+        assertEquals( 20, subClasses);
+        assertTrue( restrictions > 0 && restrictions <= 5); // duplicated restrictions are possible
+    }
+
+    @Test
+    public void loadTest() throws Exception {
+        OWLReferences ontology = generator( 7).load( "syntheticOntology" + System.nanoTime());
+        FullClassDesc root = new FullClassDesc( SyntheticOntologyGenerator.ROOT_CLASS, ontology);
+        root.readAxioms();
+        assertFalse( root.getSubClasses().isEmpty());
+        assertEquals( 50, root.getIndividuals().size());
+    }
+}
@@ -0,0 +1,44 @@
+package it.emarolab.owloop.testOntology;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.owloop.core.Axiom;
+
+/**
+ * The ontology shared by the Unit Test scripts, i.e., {@code src/test/resources/drug.owl}.
+ * <p>
+ *     Each call of {@link #load(String)} creates a new reference to the ontology, so that the tests do not
+ *     affect each other. The ontology file is never saved.
+ * </p>
+ * <div style="text-align:center;"><small>
+ * <b>File</b>:        it.emarolab.owloop.testOntology.DrugOntology <br>
+ * <b>Licence</b>:     GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:      Buoncompagni Luca (luca.buoncompagni@edu.unige.it) <br>
+ * <b>affiliation</b>: DIBRIS, EMAROLab, University of Genoa. <br>
+ * <b>date</b>:        10/07/19 <br>
+ * </small></div>
+ */
+public final class DrugOntology {
+
+    /**
+     * The path of the ontology file.
+     */
+    public static final String FILE_PATH = "src/test/resources/drug.owl";
+    /**
+     * The IRI of the ontology.
+     */
+    public static final String IRI_PATH = "http://www.semanticweb.org/yusha/ontologies/2019/drug";
+
+    private DrugOntology() {
+    }
+
+    /**
+     * Loads a new reference to the ontology, whose reasoner is synchronised manually, without the aMOR logging.
+     * @param name the prefix of the reference name, which is made unique.
+     * @return the new reference to the ontology.
+     */
+    public static OWLReferences load(String name){
+        Axiom.Descriptor.OntologyReference.activateAMORlogging( false);
+        return Axiom.Descriptor.OntologyReference.newOWLReferenceFromFileWithPellet(
+                name + System.nanoTime(), FILE_PATH, IRI_PATH, true);
+    }
+}